@@ -1,10 +1,14 @@
 package io.smallrye.graphql.schema;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 
@@ -178,7 +182,25 @@ public class Annotations {
      * @param annotations the annotation
      */
     private Annotations(Map<DotName, AnnotationInstance> annotations) {
-        this.annotationsMap = annotations;
+        this.annotationsMap = compact(annotations);
+    }
+
+    /**
+     * Most targets have no or only a few annotations, so we keep the smallest (immutable) map that holds them
+     */
+    private static Map<DotName, AnnotationInstance> compact(Map<DotName, AnnotationInstance> annotations) {
+        switch (annotations.size()) {
+            case 0:
+                return Collections.emptyMap();
+            case 1:
+                Map.Entry<DotName, AnnotationInstance> entry = annotations.entrySet().iterator().next();
+                return Collections.singletonMap(entry.getKey(), entry.getValue());
+            default:
+                if (annotations.size() <= SmallMap.MAX_SIZE) {
+                    return new SmallMap(annotations);
+                }
+                return Collections.unmodifiableMap(annotations);
+        }
     }
 
     public Set<DotName> getAnnotationNames() {
@@ -470,6 +492,10 @@ public class Annotations {
     public static final DotName NAME = DotName.createSimple("org.eclipse.microprofile.graphql.Name");
     public static final DotName SOURCE = DotName.createSimple("org.eclipse.microprofile.graphql.Source");
 
+    // SmallRye GraphQL Annotations
+    public static final DotName CACHED = DotName.createSimple("io.smallrye.graphql.api.Cached");
+    public static final DotName CACHE_CONTROL = DotName.createSimple("io.smallrye.graphql.api.CacheControl");
+
     // Json-B Annotations
     public static final DotName JSONB_DATE_FORMAT = DotName.createSimple("javax.json.bind.annotation.JsonbDateFormat");
     public static final DotName JSONB_NUMBER_FORMAT = DotName.createSimple("javax.json.bind.annotation.JsonbNumberFormat");
@@ -483,4 +509,83 @@ public class Annotations {
 
     // TODO: Also supprot OpenAPI Schema ??
 
+    /**
+     * An immutable map of a few annotations, in two arrays. Looking up a name goes over all of them, which for a few is
+     * as fast as hashing, and takes a fraction of the memory of a hash map.
+     */
+    private static final class SmallMap extends AbstractMap<DotName, AnnotationInstance> {
+        static final int MAX_SIZE = 4;
+
+        private final DotName[] names;
+        private final AnnotationInstance[] instances;
+
+        SmallMap(Map<DotName, AnnotationInstance> annotations) {
+            this.names = new DotName[annotations.size()];
+            this.instances = new AnnotationInstance[annotations.size()];
+            int i = 0;
+            for (Map.Entry<DotName, AnnotationInstance> entry : annotations.entrySet()) {
+                names[i] = entry.getKey();
+                instances[i] = entry.getValue();
+                i++;
+            }
+        }
+
+        @Override
+        public AnnotationInstance get(Object name) {
+            int i = indexOf(name);
+            return i >= 0 ? instances[i] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object name) {
+            return indexOf(name) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public Set<Map.Entry<DotName, AnnotationInstance>> entrySet() {
+            return new AbstractSet<Map.Entry<DotName, AnnotationInstance>>() {
+                @Override
+                public Iterator<Map.Entry<DotName, AnnotationInstance>> iterator() {
+                    return new Iterator<Map.Entry<DotName, AnnotationInstance>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < names.length;
+                        }
+
+                        @Override
+                        public Map.Entry<DotName, AnnotationInstance> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Map.Entry<DotName, AnnotationInstance> entry = new SimpleImmutableEntry<>(names[next],
+                                    instances[next]);
+                            next++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return names.length;
+                }
+            };
+        }
+
+        private int indexOf(Object name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package io.smallrye.graphql.schema;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+
+import io.smallrye.graphql.schema.helper.Direction;
+
+/**
+ * Remembers the annotations of classes and methods while building a schema.
+ *
+ * The same class is looked up every time something references it, and the same method when we create the operation.
+ * The fields (and their getters or setters) of a super class are looked up for every class that extends it.
+ * One cache is used per build (so it does not outlive the index), and can be used from more than one thread.
+ */
+public class AnnotationsCache {
+
+    private final Map<ClassInfo, Annotations> classAnnotations = new ConcurrentHashMap<>();
+    private final Map<MethodInfo, Annotations> methodAnnotations = new ConcurrentHashMap<>();
+    private final Map<PojoField, Annotations> pojoAnnotations = new ConcurrentHashMap<>();
+
+    /**
+     * @param classInfo the java class
+     * @return the annotations of this class, see {@link Annotations#getAnnotationsForClass(ClassInfo)}
+     */
+    public Annotations getAnnotationsForClass(ClassInfo classInfo) {
+        return classAnnotations.computeIfAbsent(classInfo, Annotations::getAnnotationsForClass);
+    }
+
+    /**
+     * @param methodInfo the java method
+     * @return the annotations of this method, see {@link Annotations#getAnnotationsForMethod(MethodInfo)}
+     */
+    public Annotations getAnnotationsForMethod(MethodInfo methodInfo) {
+        return methodAnnotations.computeIfAbsent(methodInfo, Annotations::getAnnotationsForMethod);
+    }
+
+    /**
+     * @param direction the direction
+     * @param fieldInfo the java property, can be null
+     * @param methodInfo the java method, can be null
+     * @return the annotations of this field, see
+     *         {@link Annotations#getAnnotationsForPojo(Direction, FieldInfo, MethodInfo)}
+     */
+    public Annotations getAnnotationsForPojo(Direction direction, FieldInfo fieldInfo, MethodInfo methodInfo) {
+        return pojoAnnotations.computeIfAbsent(new PojoField(direction, fieldInfo, methodInfo),
+                k -> Annotations.getAnnotationsForPojo(direction, fieldInfo, methodInfo));
+    }
+
+    private static final class PojoField {
+        private final Direction direction;
+        private final FieldInfo fieldInfo;
+        private final MethodInfo methodInfo;
+
+        PojoField(Direction direction, FieldInfo fieldInfo, MethodInfo methodInfo) {
+            this.direction = direction;
+            this.fieldInfo = fieldInfo;
+            this.methodInfo = methodInfo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PojoField)) {
+                return false;
+            }
+            PojoField other = (PojoField) o;
+            return direction == other.direction
+                    && Objects.equals(fieldInfo, other.fieldInfo)
+                    && Objects.equals(methodInfo, other.methodInfo);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(direction, fieldInfo, methodInfo);
+        }
+    }
+}
@@ -8,7 +8,10 @@ import org.jboss.jandex.IndexView;
  * At this point we only keep the index in the context
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
+ * @deprecated the creators are now given the index, as the schema is built on more than one thread.
+ *             {@link SchemaBuilder#build(IndexView)} no longer registers it.
  */
+@Deprecated
 public class ScanningContext {
     private static final ThreadLocal<ScanningContext> current = new ThreadLocal<>();
 
@@ -1,7 +1,13 @@
 package io.smallrye.graphql.schema;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -28,154 +34,178 @@ import io.smallrye.graphql.schema.model.Schema;
 
 /**
  * This builds schema model using Jandex.
- * 
+ *
  * It starts scanning all queries and mutation, building the operations for those.
  * The operation reference some types (via Reference) that should be created and added to the schema.
- * 
+ *
  * The creation of these type them self create more references to types (via Reference) that should be created and added to the
  * scheme.
- * 
+ *
  * It does above recursively until there is not more things to create.
- * 
+ *
+ * The operations of the different APIs, and all types that are known at a certain point, are created concurrently.
+ * Only the adding to the schema happens on the calling thread.
+ *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class SchemaBuilder {
 
+    private final IndexView index;
+    private final ExecutorService executor;
     private final InputTypeCreator inputTypeCreator;
     private final TypeCreator typeCreator;
     private final InterfaceCreator interfaceCreator;
-    private final EnumCreator enumCreator = new EnumCreator();
+    private final EnumCreator enumCreator;
     private final ReferenceCreator referenceCreator;
     private final OperationCreator operationCreator;
+    private final AnnotationsCache annotationsCache = new AnnotationsCache();
 
     /**
      * This builds the Schema from Jandex
-     * 
+     *
      * @param index the Jandex index
      * @return the Schema
      */
     public static Schema build(IndexView index) {
-        ScanningContext.register(index);
-        SchemaBuilder graphQLBootstrap = new SchemaBuilder();
-        return graphQLBootstrap.generateSchema();
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            SchemaBuilder graphQLBootstrap = new SchemaBuilder(index, pool);
+            return graphQLBootstrap.generateSchema();
+        } finally {
+            pool.shutdown();
+        }
     }
 
-    private SchemaBuilder() {
-        referenceCreator = new ReferenceCreator();
-        FieldCreator fieldCreator = new FieldCreator(referenceCreator);
-        inputTypeCreator = new InputTypeCreator(fieldCreator);
+    private SchemaBuilder(IndexView index, ExecutorService executor) {
+        this.index = index;
+        this.executor = executor;
+        referenceCreator = new ReferenceCreator(index, annotationsCache);
+        FieldCreator fieldCreator = new FieldCreator(referenceCreator, annotationsCache);
+        inputTypeCreator = new InputTypeCreator(index, annotationsCache, fieldCreator);
         ArgumentCreator argumentCreator = new ArgumentCreator(referenceCreator);
-        operationCreator = new OperationCreator(referenceCreator, argumentCreator);
-        typeCreator = new TypeCreator(referenceCreator, fieldCreator, operationCreator);
-        interfaceCreator = new InterfaceCreator(referenceCreator, fieldCreator);
+        operationCreator = new OperationCreator(referenceCreator, argumentCreator, annotationsCache);
+        typeCreator = new TypeCreator(index, annotationsCache, referenceCreator, fieldCreator, operationCreator);
+        interfaceCreator = new InterfaceCreator(index, annotationsCache, referenceCreator, fieldCreator);
+        enumCreator = new EnumCreator(annotationsCache);
     }
 
     private Schema generateSchema() {
 
         // Get all the @GraphQLAPI annotations
-        Collection<AnnotationInstance> graphQLApiAnnotations = ScanningContext.getIndex()
-                .getAnnotations(Annotations.GRAPHQL_API);
+        Collection<AnnotationInstance> graphQLApiAnnotations = index.getAnnotations(Annotations.GRAPHQL_API);
 
         final Schema schema = new Schema();
 
+        // Each API gets the operations added to its own schema, that we then merge
+        List<Callable<Schema>> apis = new ArrayList<>();
         for (AnnotationInstance graphQLApiAnnotation : graphQLApiAnnotations) {
             ClassInfo apiClass = graphQLApiAnnotation.target().asClass();
-            List<MethodInfo> methods = apiClass.methods();
-            addOperations(schema, methods);
+            apis.add(() -> {
+                Schema apiSchema = new Schema();
+                addOperations(apiSchema, apiClass.methods());
+                return apiSchema;
+            });
+        }
+        for (Schema apiSchema : invokeAll(apis)) {
+            schema.getQueries().addAll(apiSchema.getQueries());
+            schema.getMutations().addAll(apiSchema.getMutations());
         }
 
-        // The above queries and mutations reference some models (input / type / interfaces / enum), let's create those
-        addTypesToSchema(schema);
-
-        // We might have missed something
-        addOutstandingTypesToSchema(schema);
+        // The above queries and mutations reference some models (input / type / interfaces / enum), let's create those.
+        // That might create types we do not know about yet, so continue until we have everything
+        boolean added;
+        do {
+            added = addTypesToSchema(schema);
+        } while (added);
 
-        // Reset the maps. 
+        // Reset the maps.
         referenceCreator.clear();
 
         return schema;
     }
 
-    private void addTypesToSchema(Schema schema) {
-        // Add the input types
-        createAndAddToSchema(ReferenceType.INPUT, inputTypeCreator, schema::addInput);
+    /**
+     * Create all types that are referenced at this point (concurrently), and add them to the schema
+     *
+     * @param schema the schema
+     * @return true if something was added
+     */
+    private boolean addTypesToSchema(Schema schema) {
+        List<Callable<Runnable>> toCreate = new ArrayList<>();
 
-        // Add the output types
-        createAndAddToSchema(ReferenceType.TYPE, typeCreator, schema::addType);
+        // The input types
+        collect(ReferenceType.INPUT, inputTypeCreator, schema::containsInput, schema::addInput, toCreate);
 
-        // Add the interface types
-        createAndAddToSchema(ReferenceType.INTERFACE, interfaceCreator, schema::addInterface);
+        // The output types
+        collect(ReferenceType.TYPE, typeCreator, schema::containsType, schema::addType, toCreate);
 
-        // Add the enum types
-        createAndAddToSchema(ReferenceType.ENUM, enumCreator, schema::addEnum);
-    }
+        // The interface types
+        collect(ReferenceType.INTERFACE, interfaceCreator, schema::containsInterface, schema::addInterface, toCreate);
 
-    private void addOutstandingTypesToSchema(Schema schema) {
-        boolean allDone = true;
-        // See if there is any inputs we missed
-        if (!findOutstandingAndAddToSchema(ReferenceType.INPUT, inputTypeCreator, schema::containsInput, schema::addInput)) {
-            allDone = false;
-        }
-
-        // See if there is any types we missed
-        if (!findOutstandingAndAddToSchema(ReferenceType.TYPE, typeCreator, schema::containsType, schema::addType)) {
-            allDone = false;
-        }
+        // The enum types
+        collect(ReferenceType.ENUM, enumCreator, schema::containsEnum, schema::addEnum, toCreate);
 
-        // See if there is any interfaces we missed
-        if (!findOutstandingAndAddToSchema(ReferenceType.INTERFACE, interfaceCreator, schema::containsInterface,
-                schema::addInterface)) {
-            allDone = false;
+        for (Runnable addToSchema : invokeAll(toCreate)) {
+            addToSchema.run();
         }
+        return !toCreate.isEmpty();
+    }
 
-        // See if there is any enums we missed
-        if (!findOutstandingAndAddToSchema(ReferenceType.ENUM, enumCreator, schema::containsEnum,
-                schema::addEnum)) {
-            allDone = false;
-        }
+    private <T> void collect(ReferenceType referenceType, Creator<T> creator, Predicate<String> contains,
+            Consumer<T> consumer, List<Callable<Runnable>> toCreate) {
 
-        // If we missed something, that something might have created types we do not know about yet, so continue until we have everything
-        if (!allDone) {
-            addOutstandingTypesToSchema(schema);
+        Reference reference;
+        while ((reference = referenceCreator.values(referenceType).poll()) != null) {
+            if (!contains.test(reference.getName())) {
+                String name = reference.getName();
+                DotName className = DotName.createSimple(reference.getClassName());
+                toCreate.add(() -> {
+                    T created = creator.create(index.getClassByName(className));
+                    return () -> {
+                        if (!contains.test(name)) {
+                            consumer.accept(created);
+                        }
+                    };
+                });
+            }
         }
-
     }
 
-    private <T> void createAndAddToSchema(ReferenceType referenceType, Creator creator, Consumer<T> consumer) {
-        while (!referenceCreator.values(referenceType).isEmpty()) {
-            Reference reference = referenceCreator.values(referenceType).poll();
-            ClassInfo classInfo = ScanningContext.getIndex().getClassByName(DotName.createSimple(reference.getClassName()));
-            consumer.accept((T) creator.create(classInfo));
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
         }
-    }
-
-    private <T> boolean findOutstandingAndAddToSchema(ReferenceType referenceType, Creator creator,
-            Predicate<String> contains, Consumer<T> consumer) {
-
-        boolean allDone = true;
-        // Let's see what still needs to be done.
-        while (!referenceCreator.values(referenceType).isEmpty()) {
-            Reference reference = referenceCreator.values(referenceType).poll();
-            ClassInfo classInfo = ScanningContext.getIndex().getClassByName(DotName.createSimple(reference.getClassName()));
-            if (!contains.test(reference.getName())) {
-                consumer.accept((T) creator.create(classInfo));
-                allDone = false;
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
             }
+            throw new SchemaBuilderException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SchemaBuilderException(ex);
         }
-
-        return allDone;
     }
 
     /**
      * This inspect all method, looking for Query and Mutation annotations,
      * to create those Operations.
-     * 
+     *
      * @param schema the schema to add the operation to.
      * @param methodInfoList the java methods.
      */
     private void addOperations(Schema schema, List<MethodInfo> methodInfoList) {
         for (MethodInfo methodInfo : methodInfoList) {
-            Annotations annotationsForMethod = Annotations.getAnnotationsForMethod(methodInfo);
+            Annotations annotationsForMethod = annotationsCache.getAnnotationsForMethod(methodInfo);
             if (annotationsForMethod.containsOneOfTheseAnnotations(Annotations.QUERY)) {
                 Operation query = operationCreator.createOperation(methodInfo, OperationType.Query, null);
                 schema.addQuery(query);
@@ -185,4 +215,6 @@ public class SchemaBuilder {
             }
         }
     }
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
 }
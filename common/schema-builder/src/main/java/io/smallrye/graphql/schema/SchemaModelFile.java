@@ -0,0 +1,126 @@
+package io.smallrye.graphql.schema;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Reads and writes the schema model, so it can be created at build time and loaded at startup, without scanning.
+ *
+ * The file contains a header (magic number and format version), a SHA-256 checksum, and the (gzipped) serialized model.
+ * Reading fails with an IOException if any of these do not match, so the caller can fall back to scanning.
+ */
+public class SchemaModelFile {
+
+    /**
+     * Where the model is expected, relative to the root of the classes
+     */
+    public static final String LOCATION = "META-INF/smallrye-graphql-schema.model";
+
+    private static final int MAGIC = 0x53524751; // SRGQ
+    private static final int FORMAT_VERSION = 3;
+    private static final String DIGEST = "SHA-256";
+
+    private SchemaModelFile() {
+    }
+
+    /**
+     * Write the model
+     *
+     * @param schema the model
+     * @param out where to write it to, not closed
+     * @throws IOException if writing failed
+     */
+    public static void write(Schema schema, OutputStream out) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(new GZIPOutputStream(payload))) {
+            oos.writeObject(schema);
+        }
+        byte[] bytes = payload.toByteArray();
+
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(MAGIC);
+        dos.writeInt(FORMAT_VERSION);
+        byte[] checksum = checksum(bytes);
+        dos.writeShort(checksum.length);
+        dos.write(checksum);
+        dos.writeInt(bytes.length);
+        dos.write(bytes);
+        dos.flush();
+    }
+
+    /**
+     * Read the model
+     *
+     * @param in where to read it from, not closed
+     * @return the model
+     * @throws IOException if the model could not be read, is corrupt, or was written by another version
+     */
+    public static Schema read(InputStream in) throws IOException {
+        DataInputStream dis = new DataInputStream(in);
+        if (dis.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a schema model");
+        }
+        int version = dis.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported schema model version " + version);
+        }
+        byte[] expected = new byte[dis.readUnsignedShort()];
+        dis.readFully(expected);
+        byte[] bytes = new byte[dis.readInt()];
+        dis.readFully(bytes);
+        if (!MessageDigest.isEqual(expected, checksum(bytes))) {
+            throw new StreamCorruptedException("Schema model checksum mismatch");
+        }
+
+        try (ObjectInputStream ois = new ModelInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            return (Schema) ois.readObject();
+        } catch (ClassNotFoundException | ClassCastException ex) {
+            throw new IOException("Schema model does not match this version", ex);
+        }
+    }
+
+    /**
+     * Only allows the model classes (and the JDK types they use) to be deserialized
+     */
+    private static class ModelInputStream extends ObjectInputStream {
+
+        ModelInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            if (name.startsWith(Schema.class.getPackage().getName() + ".")
+                    || name.startsWith("java.lang.")
+                    || name.startsWith("java.util.")) {
+                return super.resolveClass(desc);
+            }
+            throw new InvalidClassException(name, "Not allowed in a schema model");
+        }
+    }
+
+    private static byte[] checksum(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance(DIGEST).digest(bytes);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
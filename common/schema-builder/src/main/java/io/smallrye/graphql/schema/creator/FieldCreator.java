@@ -8,6 +8,7 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.graphql.schema.Annotations;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.SchemaBuilderException;
 import io.smallrye.graphql.schema.helper.DefaultValueHelper;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
@@ -27,9 +28,11 @@ import io.smallrye.graphql.schema.model.Reference;
 public class FieldCreator {
 
     private final ReferenceCreator referenceCreator;
+    private final AnnotationsCache annotationsCache;
 
-    public FieldCreator(ReferenceCreator referenceCreator) {
+    public FieldCreator(ReferenceCreator referenceCreator, AnnotationsCache annotationsCache) {
         this.referenceCreator = referenceCreator;
+        this.annotationsCache = annotationsCache;
     }
 
     /**
@@ -90,7 +93,7 @@ public class FieldCreator {
      * @return a Field model object
      */
     public Optional<Field> createFieldForPojo(Direction direction, FieldInfo fieldInfo, MethodInfo methodInfo) {
-        Annotations annotationsForPojo = Annotations.getAnnotationsForPojo(direction, fieldInfo, methodInfo);
+        Annotations annotationsForPojo = annotationsCache.getAnnotationsForPojo(direction, fieldInfo, methodInfo);
 
         if (!IgnoreHelper.shouldIgnore(annotationsForPojo, fieldInfo)) {
             Type methodType = getMethodType(methodInfo, direction);
@@ -143,7 +146,7 @@ public class FieldCreator {
      */
     public Optional<Field> createFieldForPojo(Direction direction, FieldInfo fieldInfo) {
         if (Modifier.isPublic(fieldInfo.flags())) {
-            Annotations annotationsForPojo = Annotations.getAnnotationsForPojo(direction, fieldInfo);
+            Annotations annotationsForPojo = annotationsCache.getAnnotationsForPojo(direction, fieldInfo, null);
 
             if (!IgnoreHelper.shouldIgnore(annotationsForPojo, fieldInfo)) {
 
@@ -9,8 +9,10 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.graphql.schema.Annotations;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.Classes;
 import io.smallrye.graphql.schema.SchemaBuilderException;
+import io.smallrye.graphql.schema.helper.CacheHelper;
 import io.smallrye.graphql.schema.helper.DefaultValueHelper;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
 import io.smallrye.graphql.schema.helper.Direction;
@@ -18,6 +20,8 @@ import io.smallrye.graphql.schema.helper.FormatHelper;
 import io.smallrye.graphql.schema.helper.MethodHelper;
 import io.smallrye.graphql.schema.helper.NonNullHelper;
 import io.smallrye.graphql.schema.model.Argument;
+import io.smallrye.graphql.schema.model.CacheHint;
+import io.smallrye.graphql.schema.model.CacheInfo;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.schema.model.OperationType;
 import io.smallrye.graphql.schema.model.Reference;
@@ -31,10 +35,13 @@ public class OperationCreator {
 
     private final ReferenceCreator referenceCreator;
     private final ArgumentCreator argumentCreator;
+    private final AnnotationsCache annotationsCache;
 
-    public OperationCreator(ReferenceCreator referenceCreator, ArgumentCreator argumentCreator) {
+    public OperationCreator(ReferenceCreator referenceCreator, ArgumentCreator argumentCreator,
+            AnnotationsCache annotationsCache) {
         this.referenceCreator = referenceCreator;
         this.argumentCreator = argumentCreator;
+        this.annotationsCache = annotationsCache;
     }
 
     /**
@@ -55,7 +62,7 @@ public class OperationCreator {
                             + " is used as an operation, but is not public");
         }
 
-        Annotations annotationsForMethod = Annotations.getAnnotationsForMethod(methodInfo);
+        Annotations annotationsForMethod = annotationsCache.getAnnotationsForMethod(methodInfo);
         Type fieldType = methodInfo.returnType();
 
         // Name
@@ -96,6 +103,23 @@ public class OperationCreator {
         // Default Value
         operation.setDefaultValue(DefaultValueHelper.getDefaultValue(annotationsForMethod).orElse(null));
 
+        // CacheInfo
+        Optional<CacheInfo> maybeCacheInfo = CacheHelper.getCacheInfo(annotationsForMethod);
+        if (maybeCacheInfo.isPresent() && (operationType.equals(OperationType.Mutation) || operation.isAsync())) {
+            throw new SchemaBuilderException(
+                    "Can not cache the " + (operation.isAsync() ? "asynchronous " : "") + "result of ["
+                            + operationType.name() + "] on method [" + methodInfo.name() + "]");
+        }
+        operation.setCacheInfo(maybeCacheInfo.orElse(null));
+
+        // CacheHint
+        Optional<CacheHint> maybeCacheHint = CacheHelper.getCacheHint(annotationsForMethod);
+        if (maybeCacheHint.isPresent() && operationType.equals(OperationType.Mutation)) {
+            throw new SchemaBuilderException(
+                    "Can not have a cache hint for [" + operationType.name() + "] on method [" + methodInfo.name() + "]");
+        }
+        operation.setCacheHint(maybeCacheHint.orElse(null));
+
         // Arguments
         List<Type> parameters = methodInfo.parameters();
         for (short i = 0; i < parameters.size(); i++) {
@@ -1,18 +1,19 @@
 package io.smallrye.graphql.schema.creator;
 
-import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.schema.Annotations;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.Classes;
-import io.smallrye.graphql.schema.ScanningContext;
 import io.smallrye.graphql.schema.SchemaBuilderException;
 import io.smallrye.graphql.schema.helper.Direction;
 import io.smallrye.graphql.schema.helper.FormatHelper;
@@ -25,22 +26,31 @@ import io.smallrye.graphql.schema.model.Scalars;
  * Here we create references to things that might not yet exist.
  * 
  * We store all references to be created later.
+ * This is safe to use from more than one thread, so types can be created concurrently.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class ReferenceCreator {
     private static final Logger LOG = Logger.getLogger(ReferenceCreator.class.getName());
 
-    private final Queue<Reference> inputReferenceQueue = new ArrayDeque<>();
-    private final Queue<Reference> typeReferenceQueue = new ArrayDeque<>();
-    private final Queue<Reference> enumReferenceQueue = new ArrayDeque<>();
-    private final Queue<Reference> interfaceReferenceQueue = new ArrayDeque<>();
+    private final IndexView index;
+    private final AnnotationsCache annotationsCache;
+
+    private final Queue<Reference> inputReferenceQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Reference> typeReferenceQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Reference> enumReferenceQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Reference> interfaceReferenceQueue = new ConcurrentLinkedQueue<>();
 
     // Some maps we populate during scanning
-    private final Map<String, Reference> inputReferenceMap = new HashMap<>();
-    private final Map<String, Reference> typeReferenceMap = new HashMap<>();
-    private final Map<String, Reference> enumReferenceMap = new HashMap<>();
-    private final Map<String, Reference> interfaceReferenceMap = new HashMap<>();
+    private final Map<String, Reference> inputReferenceMap = new ConcurrentHashMap<>();
+    private final Map<String, Reference> typeReferenceMap = new ConcurrentHashMap<>();
+    private final Map<String, Reference> enumReferenceMap = new ConcurrentHashMap<>();
+    private final Map<String, Reference> interfaceReferenceMap = new ConcurrentHashMap<>();
+
+    public ReferenceCreator(IndexView index, AnnotationsCache annotationsCache) {
+        this.index = index;
+        this.annotationsCache = annotationsCache;
+    }
 
     /**
      * Clear the scanned references. This is done when we created all references and do not need to
@@ -150,8 +160,7 @@ public class ReferenceCreator {
         // Now check if this is an interface or enum
         if (Classes.isInterface(classInfo)) {
             // Also check that we create all implementations
-            Collection<ClassInfo> knownDirectImplementors = ScanningContext.getIndex()
-                    .getAllKnownImplementors(classInfo.name());
+            Collection<ClassInfo> knownDirectImplementors = index.getAllKnownImplementors(classInfo.name());
             for (ClassInfo impl : knownDirectImplementors) {
                 // TODO: First check the class annotations for @Type, if we get one that has that, use it, else any/all ?
                 createReference(direction, impl);
@@ -163,7 +172,7 @@ public class ReferenceCreator {
 
         // Now we should have the correct reference type.
         String className = classInfo.name().toString();
-        Annotations annotationsForClass = Annotations.getAnnotationsForClass(classInfo);
+        Annotations annotationsForClass = annotationsCache.getAnnotationsForClass(classInfo);
         String name = TypeNameHelper.getAnyTypeName(referenceType, classInfo, annotationsForClass);
 
         Reference reference = new Reference(className, name, referenceType);
@@ -205,7 +214,7 @@ public class ReferenceCreator {
             Type typeInMethodCollection = methodType.asParameterizedType().arguments().get(0);
             return getReference(direction, typeInCollection, typeInMethodCollection, annotations);
         } else if (fieldType.kind().equals(Type.Kind.CLASS)) {
-            ClassInfo classInfo = ScanningContext.getIndex().getClassByName(fieldType.name());
+            ClassInfo classInfo = index.getClassByName(fieldType.name());
             if (classInfo != null) {
                 return createReference(direction, classInfo);
             } else {
@@ -222,8 +231,7 @@ public class ReferenceCreator {
     private void putIfAbsent(String key, Reference reference, ReferenceType referenceType) {
         Map<String, Reference> map = getReferenceMap(referenceType);
         Queue<Reference> queue = getReferenceQueue(referenceType);
-        if (!map.containsKey(key)) {
-            map.put(key, reference);
+        if (map.putIfAbsent(key, reference) == null) {
             queue.add(reference);
         }
     }
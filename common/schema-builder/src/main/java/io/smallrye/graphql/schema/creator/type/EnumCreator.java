@@ -9,6 +9,7 @@ import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.schema.Annotations;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
 import io.smallrye.graphql.schema.helper.TypeNameHelper;
 import io.smallrye.graphql.schema.model.EnumType;
@@ -22,11 +23,17 @@ import io.smallrye.graphql.schema.model.ReferenceType;
 public class EnumCreator implements Creator<EnumType> {
     private static final Logger LOG = Logger.getLogger(EnumCreator.class.getName());
 
+    private final AnnotationsCache annotationsCache;
+
+    public EnumCreator(AnnotationsCache annotationsCache) {
+        this.annotationsCache = annotationsCache;
+    }
+
     @Override
     public EnumType create(ClassInfo classInfo) {
         LOG.debug("Creating enum from " + classInfo.name().toString());
 
-        Annotations annotations = Annotations.getAnnotationsForClass(classInfo);
+        Annotations annotations = annotationsCache.getAnnotationsForClass(classInfo);
 
         // Name
         String name = TypeNameHelper.getAnyTypeName(ReferenceType.ENUM, classInfo, annotations);
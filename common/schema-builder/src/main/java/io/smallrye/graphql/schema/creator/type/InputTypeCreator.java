@@ -8,11 +8,12 @@ import java.util.Map;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.schema.Annotations;
-import io.smallrye.graphql.schema.ScanningContext;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.creator.FieldCreator;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
 import io.smallrye.graphql.schema.helper.Direction;
@@ -32,9 +33,13 @@ import io.smallrye.graphql.schema.model.ReferenceType;
 public class InputTypeCreator implements Creator<InputType> {
     private static final Logger LOG = Logger.getLogger(InputTypeCreator.class.getName());
 
+    private final IndexView index;
+    private final AnnotationsCache annotationsCache;
     private final FieldCreator fieldCreator;
 
-    public InputTypeCreator(FieldCreator fieldCreator) {
+    public InputTypeCreator(IndexView index, AnnotationsCache annotationsCache, FieldCreator fieldCreator) {
+        this.index = index;
+        this.annotationsCache = annotationsCache;
         this.fieldCreator = fieldCreator;
     }
 
@@ -49,7 +54,7 @@ public class InputTypeCreator implements Creator<InputType> {
 
         LOG.debug("Creating Input from " + classInfo.name().toString());
 
-        Annotations annotations = Annotations.getAnnotationsForClass(classInfo);
+        Annotations annotations = annotationsCache.getAnnotationsForClass(classInfo);
 
         // Name
         String name = TypeNameHelper.getAnyTypeName(ReferenceType.INPUT, classInfo, annotations);
@@ -71,7 +76,7 @@ public class InputTypeCreator implements Creator<InputType> {
         Map<String, FieldInfo> allFields = new HashMap<>();
 
         // Find all methods and properties up the tree
-        for (ClassInfo c = classInfo; c != null; c = ScanningContext.getIndex().getClassByName(c.superName())) {
+        for (ClassInfo c = classInfo; c != null; c = index.getClassByName(c.superName())) {
             if (!c.toString().startsWith(JAVA_DOT)) { // Not java objects
                 allMethods.addAll(c.methods());
                 if (c.fields() != null && !c.fields().isEmpty()) {
@@ -5,11 +5,12 @@ import java.util.List;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.schema.Annotations;
-import io.smallrye.graphql.schema.ScanningContext;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.creator.FieldCreator;
 import io.smallrye.graphql.schema.creator.ReferenceCreator;
 import io.smallrye.graphql.schema.helper.DescriptionHelper;
@@ -31,10 +32,15 @@ import io.smallrye.graphql.schema.model.ReferenceType;
 public class InterfaceCreator implements Creator<InterfaceType> {
     private static final Logger LOG = Logger.getLogger(InputTypeCreator.class.getName());
 
+    private final IndexView index;
+    private final AnnotationsCache annotationsCache;
     private final ReferenceCreator referenceCreator;
     private final FieldCreator fieldCreator;
 
-    public InterfaceCreator(ReferenceCreator referenceCreator, FieldCreator fieldCreator) {
+    public InterfaceCreator(IndexView index, AnnotationsCache annotationsCache, ReferenceCreator referenceCreator,
+            FieldCreator fieldCreator) {
+        this.index = index;
+        this.annotationsCache = annotationsCache;
         this.referenceCreator = referenceCreator;
         this.fieldCreator = fieldCreator;
     }
@@ -43,7 +49,7 @@ public class InterfaceCreator implements Creator<InterfaceType> {
     public InterfaceType create(ClassInfo classInfo) {
         LOG.debug("Creating Interface from " + classInfo.name().toString());
 
-        Annotations annotations = Annotations.getAnnotationsForClass(classInfo);
+        Annotations annotations = annotationsCache.getAnnotationsForClass(classInfo);
 
         // Name
         String name = TypeNameHelper.getAnyTypeName(ReferenceType.INTERFACE, classInfo, annotations);
@@ -67,7 +73,7 @@ public class InterfaceCreator implements Creator<InterfaceType> {
         List<MethodInfo> allMethods = new ArrayList<>();
 
         // Find all methods up the tree
-        for (ClassInfo c = classInfo; c != null; c = ScanningContext.getIndex().getClassByName(c.superName())) {
+        for (ClassInfo c = classInfo; c != null; c = index.getClassByName(c.superName())) {
             if (!c.toString().startsWith(JAVA_DOT)) { // Not java interfaces (like Serializable)
                 allMethods.addAll(c.methods());
             }
@@ -86,7 +92,7 @@ public class InterfaceCreator implements Creator<InterfaceType> {
         for (DotName interfaceName : interfaceNames) {
             // Ignore java interfaces (like Serializable)
             if (!interfaceName.toString().startsWith(JAVA_DOT)) {
-                ClassInfo c = ScanningContext.getIndex().getClassByName(interfaceName);
+                ClassInfo c = index.getClassByName(interfaceName);
                 if (c != null) {
                     Reference interfaceRef = referenceCreator.createReference(Direction.OUT, classInfo);
                     interfaceType.addInterface(interfaceRef);
@@ -8,12 +8,13 @@ import java.util.Map;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.schema.Annotations;
-import io.smallrye.graphql.schema.ScanningContext;
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.creator.FieldCreator;
 import io.smallrye.graphql.schema.creator.OperationCreator;
 import io.smallrye.graphql.schema.creator.ReferenceCreator;
@@ -40,21 +41,28 @@ import io.smallrye.graphql.schema.model.Type;
 public class TypeCreator implements Creator<Type> {
     private static final Logger LOG = Logger.getLogger(TypeCreator.class.getName());
 
+    private final IndexView index;
+    private final AnnotationsCache annotationsCache;
     private final ReferenceCreator referenceCreator;
     private final FieldCreator fieldCreator;
     private final OperationCreator operationCreator;
+    private final Map<DotName, List<MethodParameterInfo>> sourceFields;
 
-    public TypeCreator(ReferenceCreator referenceCreator, FieldCreator fieldCreator, OperationCreator operationCreator) {
+    public TypeCreator(IndexView index, AnnotationsCache annotationsCache, ReferenceCreator referenceCreator,
+            FieldCreator fieldCreator, OperationCreator operationCreator) {
+        this.index = index;
+        this.annotationsCache = annotationsCache;
         this.referenceCreator = referenceCreator;
         this.fieldCreator = fieldCreator;
         this.operationCreator = operationCreator;
+        this.sourceFields = SourceOperationHelper.getAllSourceAnnotations(index);
     }
 
     @Override
     public Type create(ClassInfo classInfo) {
         LOG.debug("Creating Type from " + classInfo.name().toString());
 
-        Annotations annotations = Annotations.getAnnotationsForClass(classInfo);
+        Annotations annotations = annotationsCache.getAnnotationsForClass(classInfo);
 
         // Name
         String name = TypeNameHelper.getAnyTypeName(ReferenceType.TYPE, classInfo, annotations);
@@ -82,7 +90,7 @@ public class TypeCreator implements Creator<Type> {
         Map<String, FieldInfo> allFields = new HashMap<>();
 
         // Find all methods and properties up the tree
-        for (ClassInfo c = classInfo; c != null; c = ScanningContext.getIndex().getClassByName(c.superName())) {
+        for (ClassInfo c = classInfo; c != null; c = index.getClassByName(c.superName())) {
             if (!c.toString().startsWith(JAVA_DOT)) { // Not java objects
                 allMethods.addAll(c.methods());
                 if (c.fields() != null && !c.fields().isEmpty()) {
@@ -112,7 +120,6 @@ public class TypeCreator implements Creator<Type> {
     }
 
     private void addOperations(Type type, ClassInfo classInfo) {
-        Map<DotName, List<MethodParameterInfo>> sourceFields = SourceOperationHelper.getAllSourceAnnotations();
         // See if there is source operations for this class
         if (sourceFields.containsKey(classInfo.name())) {
             List<MethodParameterInfo> methodParameterInfos = sourceFields.get(classInfo.name());
@@ -129,7 +136,7 @@ public class TypeCreator implements Creator<Type> {
         for (DotName interfaceName : interfaceNames) {
             // Ignore java interfaces (like Serializable)
             if (!interfaceName.toString().startsWith(JAVA_DOT)) {
-                ClassInfo interfaceInfo = ScanningContext.getIndex().getClassByName(interfaceName);
+                ClassInfo interfaceInfo = index.getClassByName(interfaceName);
                 if (interfaceInfo != null) {
                     Reference interfaceRef = referenceCreator.createReference(Direction.OUT, interfaceInfo);
                     type.addInterface(interfaceRef);
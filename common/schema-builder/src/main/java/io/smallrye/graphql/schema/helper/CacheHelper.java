@@ -0,0 +1,91 @@
+package io.smallrye.graphql.schema.helper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+
+import io.smallrye.graphql.schema.Annotations;
+import io.smallrye.graphql.schema.SchemaBuilderException;
+import io.smallrye.graphql.schema.model.CacheHint;
+import io.smallrye.graphql.schema.model.CacheInfo;
+
+/**
+ * Helping with the caching of operation results
+ */
+public class CacheHelper {
+
+    private CacheHelper() {
+    }
+
+    /**
+     * Get the cache model object, if the method is annotated with {@code @Cached}
+     *
+     * @param annotations the annotations of the method
+     * @return Potentially a CacheInfo model
+     */
+    public static Optional<CacheInfo> getCacheInfo(Annotations annotations) {
+        Optional<AnnotationInstance> cachedAnnotation = annotations.getOneOfTheseAnnotations(Annotations.CACHED);
+        if (!cachedAnnotation.isPresent()) {
+            return Optional.empty();
+        }
+        AnnotationInstance cached = cachedAnnotation.get();
+
+        long ttl = cached.value(TTL).asLong();
+        AnnotationValue unitValue = cached.value(UNIT);
+        TimeUnit unit = unitValue != null ? TimeUnit.valueOf(unitValue.asEnum()) : TimeUnit.SECONDS;
+        long ttlMillis = unit.toMillis(ttl);
+        if (ttlMillis <= 0) {
+            throw new SchemaBuilderException("The ttl of @Cached on [" + cached.target() + "] must be at least a millisecond");
+        }
+
+        AnnotationValue keyValue = cached.value(KEY);
+        List<String> key = keyValue != null ? Arrays.asList(keyValue.asEnumArray()) : DEFAULT_KEY;
+
+        return Optional.of(new CacheInfo(ttlMillis,
+                key.contains(ARGUMENTS),
+                key.contains(SOURCE),
+                key.contains(SELECTION)));
+    }
+
+    /**
+     * Get the cache hint model object, if the method is annotated with {@code @CacheControl}
+     *
+     * @param annotations the annotations of the method
+     * @return Potentially a CacheHint model
+     */
+    public static Optional<CacheHint> getCacheHint(Annotations annotations) {
+        Optional<AnnotationInstance> cacheControlAnnotation = annotations
+                .getOneOfTheseAnnotations(Annotations.CACHE_CONTROL);
+        if (!cacheControlAnnotation.isPresent()) {
+            return Optional.empty();
+        }
+        AnnotationInstance cacheControl = cacheControlAnnotation.get();
+
+        int maxAge = cacheControl.value(MAX_AGE).asInt();
+        if (maxAge < 0) {
+            throw new SchemaBuilderException(
+                    "The maxAge of @CacheControl on [" + cacheControl.target() + "] can not be negative");
+        }
+        AnnotationValue scopeValue = cacheControl.value(SCOPE);
+        boolean privateScope = scopeValue != null && PRIVATE.equals(scopeValue.asEnum());
+
+        return Optional.of(new CacheHint(maxAge, privateScope));
+    }
+
+    private static final String TTL = "ttl";
+    private static final String UNIT = "unit";
+    private static final String KEY = "key";
+
+    private static final String ARGUMENTS = "ARGUMENTS";
+    private static final String SOURCE = "SOURCE";
+    private static final String SELECTION = "SELECTION";
+    private static final List<String> DEFAULT_KEY = Arrays.asList(ARGUMENTS, SOURCE);
+
+    private static final String MAX_AGE = "maxAge";
+    private static final String SCOPE = "scope";
+    private static final String PRIVATE = "PRIVATE";
+}
@@ -9,11 +9,11 @@ import java.util.Map;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.logging.Logger;
 
 import io.smallrye.graphql.schema.Annotations;
-import io.smallrye.graphql.schema.ScanningContext;
 
 /**
  * Finds all @Source fields.
@@ -27,9 +27,9 @@ public class SourceOperationHelper {
     private SourceOperationHelper() {
     }
 
-    public static Map<DotName, List<MethodParameterInfo>> getAllSourceAnnotations() {
+    public static Map<DotName, List<MethodParameterInfo>> getAllSourceAnnotations(IndexView index) {
         Map<DotName, List<MethodParameterInfo>> sourceFields = new HashMap<>();
-        Collection<AnnotationInstance> sourceAnnotations = ScanningContext.getIndex().getAnnotations(Annotations.SOURCE);
+        Collection<AnnotationInstance> sourceAnnotations = index.getAnnotations(Annotations.SOURCE);
         for (AnnotationInstance ai : sourceAnnotations) {
             AnnotationTarget target = ai.target();
             if (target.kind().equals(AnnotationTarget.Kind.METHOD_PARAMETER)) {
@@ -1,7 +1,9 @@
 package io.smallrye.graphql.index;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedReader;
@@ -9,20 +11,26 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
 
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.schema.model.Schema;
 
 /**
@@ -97,6 +105,56 @@ public class SchemaBuilderTest {
         assertFalse(movieSchemaString.contains("org.eclipse.microprofile.graphql.tck.apps.superhero"));
     }
 
+    @Test
+    public void testSchemaBuildingIsRepeatable() {
+        IndexView index = getTCKIndex();
+        Schema first = SchemaBuilder.build(index);
+
+        for (int i = 0; i < 5; i++) {
+            Schema again = SchemaBuilder.build(index);
+            assertEquals(names(first.getQueries()), names(again.getQueries()));
+            assertEquals(names(first.getMutations()), names(again.getMutations()));
+            assertEquals(first.getTypes().keySet(), again.getTypes().keySet());
+            assertEquals(first.getInputs().keySet(), again.getInputs().keySet());
+            assertEquals(first.getInterfaces().keySet(), again.getInterfaces().keySet());
+            assertEquals(first.getEnums().keySet(), again.getEnums().keySet());
+        }
+    }
+
+    @Test
+    public void testCreationErrorIsThrown() {
+        Indexer indexer = new Indexer();
+        index(indexer, BrokenApi.class.getName().replace('.', '/') + ".class");
+        index(indexer, NoDefaultConstructor.class.getName().replace('.', '/') + ".class");
+        IndexView index = indexer.complete();
+
+        assertThrows(IllegalArgumentException.class, () -> SchemaBuilder.build(index));
+    }
+
+    private static Set<String> names(Set<Operation> operations) {
+        return operations.stream().map(Operation::getName).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @GraphQLApi
+    public static class BrokenApi {
+        @Mutation
+        public String broken(NoDefaultConstructor input) {
+            return null;
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        private final String value;
+
+        public NoDefaultConstructor(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
     static String toString(Schema schema) {
 
         JsonbConfig config = new JsonbConfig()
@@ -0,0 +1,104 @@
+package io.smallrye.graphql.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.microprofile.graphql.Description;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.NonNull;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.schema.helper.Direction;
+
+/**
+ * Test the memoization of annotations while building a schema
+ */
+public class AnnotationsCacheTest {
+
+    @Test
+    public void testClassAnnotationsAreCreatedOnce() throws Exception {
+        ClassInfo classInfo = classInfo(SchemaModelFileTest.class);
+        AnnotationsCache cache = new AnnotationsCache();
+
+        Annotations annotations = cache.getAnnotationsForClass(classInfo);
+        assertSame(annotations, cache.getAnnotationsForClass(classInfo));
+        assertNotSame(annotations, new AnnotationsCache().getAnnotationsForClass(classInfo));
+    }
+
+    @Test
+    public void testMethodAnnotationsAreCreatedOnce() throws Exception {
+        MethodInfo method = classInfo(AsyncApi.class).method("nonNullCompletionStage");
+        AnnotationsCache cache = new AnnotationsCache();
+
+        Annotations annotations = cache.getAnnotationsForMethod(method);
+        assertSame(annotations, cache.getAnnotationsForMethod(method));
+        assertEquals(Collections.singleton(Annotations.NON_NULL), annotations.getAnnotationNames());
+    }
+
+    @Test
+    public void testAnnotationsCanNotBeChanged() throws Exception {
+        MethodInfo method = classInfo(AsyncApi.class).method("string");
+        Annotations annotations = new AnnotationsCache().getAnnotationsForMethod(method);
+
+        assertTrue(annotations.getAnnotationNames().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> annotations.getAnnotationNames().add(Annotations.ID));
+    }
+
+    @Test
+    public void testPojoAnnotationsAreCreatedOnce() throws Exception {
+        ClassInfo classInfo = classInfo(Pojo.class);
+        FieldInfo field = classInfo.field("name");
+        MethodInfo getter = classInfo.method("getName");
+        AnnotationsCache cache = new AnnotationsCache();
+
+        Annotations annotations = cache.getAnnotationsForPojo(Direction.OUT, field, getter);
+        assertSame(annotations, cache.getAnnotationsForPojo(Direction.OUT, field, getter));
+        assertNotSame(annotations, cache.getAnnotationsForPojo(Direction.IN, field, getter));
+        assertNotSame(annotations, cache.getAnnotationsForPojo(Direction.OUT, field, null));
+    }
+
+    @Test
+    public void testFewAnnotations() throws Exception {
+        ClassInfo classInfo = classInfo(Pojo.class);
+        Annotations annotations = new AnnotationsCache().getAnnotationsForPojo(Direction.OUT, classInfo.field("name"),
+                classInfo.method("getName"));
+
+        assertEquals(new HashSet<>(Arrays.asList(Annotations.NAME, Annotations.DESCRIPTION, Annotations.NON_NULL)),
+                annotations.getAnnotationNames());
+        assertTrue(annotations.containsOneOfTheseAnnotations(Annotations.NON_NULL));
+        assertFalse(annotations.containsOneOfTheseAnnotations(Annotations.ID));
+        assertEquals("full name", annotations.getOneOfTheseAnnotationsValue(Annotations.NAME).get());
+        assertEquals("The name", annotations.getOneOfTheseAnnotationsValue(Annotations.DESCRIPTION).get());
+        assertThrows(UnsupportedOperationException.class,
+                () -> annotations.getAnnotationNames().remove(Annotations.NAME));
+    }
+
+    private ClassInfo classInfo(Class<?> clazz) throws Exception {
+        Index index = IndexCreator.index(clazz);
+        return index.getClassByName(DotName.createSimple(clazz.getName()));
+    }
+
+    public static class Pojo {
+        @Name("full name")
+        @NonNull
+        private String name;
+
+        @Description("The name")
+        public String getName() {
+            return name;
+        }
+    }
+}
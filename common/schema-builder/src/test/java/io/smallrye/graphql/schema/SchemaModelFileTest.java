@@ -0,0 +1,55 @@
+package io.smallrye.graphql.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.schema.creator.TestApi;
+import io.smallrye.graphql.schema.model.Schema;
+
+public class SchemaModelFileTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Schema schema = buildSchema();
+
+        Schema read = SchemaModelFile.read(new ByteArrayInputStream(write(schema)));
+
+        assertEquals(schema.getQueries().size(), read.getQueries().size());
+        assertEquals(schema.getMutations().size(), read.getMutations().size());
+        assertEquals(schema.getTypes().keySet(), read.getTypes().keySet());
+        assertEquals(schema.getInputs().keySet(), read.getInputs().keySet());
+    }
+
+    @Test
+    public void testChecksumMismatch() throws IOException {
+        byte[] bytes = write(buildSchema());
+        bytes[bytes.length - 1] ^= 1;
+
+        assertThrows(IOException.class, () -> SchemaModelFile.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void testNotAModel() {
+        byte[] bytes = "type Query { hello: String }".getBytes();
+
+        assertThrows(IOException.class, () -> SchemaModelFile.read(new ByteArrayInputStream(bytes)));
+    }
+
+    private Schema buildSchema() throws IOException {
+        Index index = IndexCreator.index(TestApi.class);
+        return SchemaBuilder.build(index);
+    }
+
+    private byte[] write(Schema schema) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchemaModelFile.write(schema, out);
+        return out.toByteArray();
+    }
+}
@@ -9,16 +9,18 @@ import org.jboss.jandex.Index;
 import org.jboss.jandex.MethodInfo;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.graphql.schema.AnnotationsCache;
 import io.smallrye.graphql.schema.IndexCreator;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.schema.model.OperationType;
 
 public class OperationCreatorTest {
 
-    private OperationCreator operationCreator() {
-        ReferenceCreator referenceCreator = new ReferenceCreator();
+    private OperationCreator operationCreator(Index index) {
+        AnnotationsCache annotationsCache = new AnnotationsCache();
+        ReferenceCreator referenceCreator = new ReferenceCreator(index, annotationsCache);
         ArgumentCreator argumentCreator = new ArgumentCreator(referenceCreator);
-        return new OperationCreator(referenceCreator, argumentCreator);
+        return new OperationCreator(referenceCreator, argumentCreator, annotationsCache);
     }
 
     @Test
@@ -29,7 +31,7 @@ public class OperationCreatorTest {
         MethodInfo method = classByName.method("nonPublicQuery");
 
         try {
-            operationCreator().createOperation(method, OperationType.Query, null);
+            operationCreator(complete).createOperation(method, OperationType.Query, null);
             fail();
         } catch (IllegalArgumentException expected) {
         }
@@ -42,7 +44,7 @@ public class OperationCreatorTest {
         ClassInfo classByName = complete.getClassByName(DotName.createSimple(TestApi.class.getName()));
         MethodInfo method = classByName.method("publicQuery");
 
-        final Operation operation = operationCreator().createOperation(method, OperationType.Query, null);
+        final Operation operation = operationCreator(complete).createOperation(method, OperationType.Query, null);
 
         assertEquals("publicQuery", operation.getName());
     }
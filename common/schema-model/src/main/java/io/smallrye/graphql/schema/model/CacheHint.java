@@ -0,0 +1,38 @@
+package io.smallrye.graphql.schema.model;
+
+import java.io.Serializable;
+
+/**
+ * Indicate how long the result of an operation stays valid, for caching whole responses
+ *
+ * Created from the {@code io.smallrye.graphql.api.CacheControl} annotation.
+ */
+public class CacheHint implements Serializable {
+
+    private int maxAge; // In seconds
+    private boolean privateScope; // If the result is for one user only
+
+    public CacheHint() {
+    }
+
+    public CacheHint(int maxAge, boolean privateScope) {
+        this.maxAge = maxAge;
+        this.privateScope = privateScope;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(int maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public boolean isPrivateScope() {
+        return privateScope;
+    }
+
+    public void setPrivateScope(boolean privateScope) {
+        this.privateScope = privateScope;
+    }
+}
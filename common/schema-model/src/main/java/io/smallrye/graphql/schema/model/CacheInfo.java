@@ -0,0 +1,58 @@
+package io.smallrye.graphql.schema.model;
+
+import java.io.Serializable;
+
+/**
+ * Indicate that the result of an operation can be cached
+ *
+ * Created from the {@code io.smallrye.graphql.api.Cached} annotation.
+ */
+public class CacheInfo implements Serializable {
+
+    private long ttl; // In milliseconds
+    private boolean byArguments;
+    private boolean bySource;
+    private boolean bySelection;
+
+    public CacheInfo() {
+    }
+
+    public CacheInfo(long ttl, boolean byArguments, boolean bySource, boolean bySelection) {
+        this.ttl = ttl;
+        this.byArguments = byArguments;
+        this.bySource = bySource;
+        this.bySelection = bySelection;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public boolean isByArguments() {
+        return byArguments;
+    }
+
+    public void setByArguments(boolean byArguments) {
+        this.byArguments = byArguments;
+    }
+
+    public boolean isBySource() {
+        return bySource;
+    }
+
+    public void setBySource(boolean bySource) {
+        this.bySource = bySource;
+    }
+
+    public boolean isBySelection() {
+        return bySelection;
+    }
+
+    public void setBySelection(boolean bySelection) {
+        this.bySelection = bySelection;
+    }
+}
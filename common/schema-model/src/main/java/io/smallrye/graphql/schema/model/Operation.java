@@ -24,6 +24,10 @@ public final class Operation extends Field {
 
     private boolean async;
 
+    private CacheInfo cacheInfo; // If the result can be cached
+
+    private CacheHint cacheHint; // How long the result stays valid, for caching responses
+
     public Operation() {
     }
 
@@ -81,4 +85,28 @@ public final class Operation extends Field {
     public void setAsync(final boolean async) {
         this.async = async;
     }
+
+    public CacheInfo getCacheInfo() {
+        return cacheInfo;
+    }
+
+    public void setCacheInfo(CacheInfo cacheInfo) {
+        this.cacheInfo = cacheInfo;
+    }
+
+    public boolean hasCacheInfo() {
+        return this.cacheInfo != null;
+    }
+
+    public CacheHint getCacheHint() {
+        return cacheHint;
+    }
+
+    public void setCacheHint(CacheHint cacheHint) {
+        this.cacheHint = cacheHint;
+    }
+
+    public boolean hasCacheHint() {
+        return this.cacheHint != null;
+    }
 }
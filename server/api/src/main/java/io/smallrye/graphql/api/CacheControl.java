@@ -0,0 +1,55 @@
+package io.smallrye.graphql.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A hint for how long the result of a {@code @Query} or {@code @Source} method stays valid, so whole responses can be
+ * cached (by the server, CDNs and browsers).
+ *
+ * A response can be cached for the lowest max-age of the operations that were resolved for it. If one of them has no
+ * hint, if one is private for a user and the response is shared, or if there are errors, the response is not cached.
+ * Fields of the returned objects have the hint of the operation that returned them.
+ *
+ * <pre>
+ * &#64;Query
+ * &#64;CacheControl(maxAge = 300)
+ * public List&lt;Country&gt; getCountries() {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Mutations can not have a hint, their responses are never cached.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface CacheControl {
+
+    /**
+     * @return how long (in seconds) the result stays valid
+     */
+    int maxAge();
+
+    /**
+     * @return who the result may be cached for
+     */
+    Scope scope() default Scope.PUBLIC;
+
+    /**
+     * Who a result may be cached for
+     */
+    enum Scope {
+        /**
+         * Everybody gets the same result
+         */
+        PUBLIC,
+        /**
+         * The result is for one user, only the user's browser may cache it
+         */
+        PRIVATE
+    }
+}
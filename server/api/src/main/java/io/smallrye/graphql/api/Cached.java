@@ -0,0 +1,67 @@
+package io.smallrye.graphql.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache the result of a {@code @Query} or {@code @Source} method for some time, so requests within that time get the
+ * same result without the method being called.
+ *
+ * The result is cached per value of the {@link #key()}, by default the arguments and (for {@code @Source} methods) the
+ * id of the source object. Failures are not cached, and concurrent requests for the same key only call the method once.
+ *
+ * Only use it where a slightly outdated result is fine, for example reference data or configuration:
+ *
+ * <pre>
+ * &#64;Query
+ * &#64;Cached(ttl = 5, unit = TimeUnit.MINUTES)
+ * public List&lt;Country&gt; getCountries() {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Mutations can not be cached.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface Cached {
+
+    /**
+     * @return how long a result is used, in the {@link #unit()}
+     */
+    long ttl();
+
+    /**
+     * @return the unit of the {@link #ttl()}
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * @return what the result depends on
+     */
+    Key[] key() default { Key.ARGUMENTS, Key.SOURCE };
+
+    /**
+     * What a cached result is looked up by
+     */
+    enum Key {
+        /**
+         * The arguments of the field
+         */
+        ARGUMENTS,
+        /**
+         * The id (the field of type {@code ID}) of the source object of a {@code @Source} method, or the source object
+         * itself (by equals and hashCode) if it has no id
+         */
+        SOURCE,
+        /**
+         * The sub-fields that are selected, for methods that only load what is selected
+         */
+        SELECTION
+    }
+}
@@ -0,0 +1,122 @@
+package io.smallrye.graphql.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import io.smallrye.graphql.benchmark.model.ArgumentApi;
+import io.smallrye.graphql.benchmark.model.Filter;
+import io.smallrye.graphql.execution.datafetcher.helper.ArgumentHelper;
+import io.smallrye.graphql.json.JsonInputRegistry;
+import io.smallrye.graphql.schema.model.InputType;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+
+/**
+ * Turning the arguments, as graphql-java gives them to the data fetcher, into the values the method is called with.
+ *
+ * The arguments are created in every invocation, as complex inputs are changed while transforming them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentBenchmark {
+
+    private ArgumentHelper scalar;
+    private ArgumentHelper complex;
+    private ArgumentHelper list;
+
+    @Setup
+    public void setup() throws AbstractDataFetcherException {
+        Schema schema = SyntheticSchema.model(ArgumentApi.class, Filter.class);
+        JsonInputRegistry jsonInputRegistry = new JsonInputRegistry();
+        for (InputType inputType : schema.getInputs().values()) {
+            jsonInputRegistry.register(inputType);
+        }
+        jsonInputRegistry.freeze();
+
+        scalar = argumentHelper(schema, "scalar", jsonInputRegistry);
+        complex = argumentHelper(schema, "complex", jsonInputRegistry);
+        list = argumentHelper(schema, "list", jsonInputRegistry);
+
+        Object filter = complex()[0];
+        if (!(filter instanceof Filter) || ((Filter) filter).getFrom() == null) {
+            throw new IllegalStateException("The complex argument was not created: " + filter);
+        }
+    }
+
+    @Benchmark
+    public Object[] scalar() throws AbstractDataFetcherException {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("id", "42");
+        arguments.put("count", 10);
+        arguments.put("enabled", Boolean.TRUE);
+        return scalar.getArguments(environment(arguments));
+    }
+
+    @Benchmark
+    public Object[] complex() throws AbstractDataFetcherException {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("filter", filter(0));
+        return complex.getArguments(environment(arguments));
+    }
+
+    @Benchmark
+    public Object[] list() throws AbstractDataFetcherException {
+        List<Long> ids = new ArrayList<>();
+        List<Map<String, Object>> filters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add((long) i);
+            filters.add(filter(i));
+        }
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("ids", ids);
+        arguments.put("filters", filters);
+        return list.getArguments(environment(arguments));
+    }
+
+    private static Map<String, Object> filter(int i) {
+        Map<String, Object> filter = new HashMap<>();
+        filter.put("name", "filter" + i);
+        filter.put("from", "0" + (i % 9 + 1) + "/02/2020");
+        filter.put("minimum", new BigDecimal("12.50"));
+        filter.put("tags", Arrays.asList("a", "b", "c"));
+        return filter;
+    }
+
+    private static DataFetchingEnvironment environment(Map<String, Object> arguments) {
+        return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(arguments)
+                .build();
+    }
+
+    private static ArgumentHelper argumentHelper(Schema schema, String query, JsonInputRegistry jsonInputRegistry) {
+        for (Operation operation : schema.getQueries()) {
+            if (operation.getName().equals(query)) {
+                return new ArgumentHelper(operation.getArguments(), jsonInputRegistry);
+            }
+        }
+        throw new IllegalStateException("No query " + query);
+    }
+}
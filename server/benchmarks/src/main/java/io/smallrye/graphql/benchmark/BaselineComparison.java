@@ -0,0 +1,167 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * Compares the (JSON) result of a JMH run with a stored baseline, and fails if a benchmark got slower, or allocates
+ * more, than the threshold allows.
+ *
+ * If there is no baseline yet, the result is stored as the baseline. To record a new baseline, remove it (or copy a
+ * result over it). A baseline is only meaningful on the machine it was recorded on.
+ *
+ * Arguments: the result file, the baseline file and the threshold in percent.
+ */
+public class BaselineComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <result.json> <baseline.json> [threshold %]");
+            System.exit(2);
+        }
+        Path result = Paths.get(args[0]);
+        Path baseline = Paths.get(args[1]);
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        if (!Files.exists(baseline)) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("No baseline found, stored " + result + " as the baseline in " + baseline);
+            return;
+        }
+
+        List<String> regressions = compare(read(baseline), read(result), threshold);
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            System.out.println(regressions.size() + " regression(s) of more than " + threshold + "% against " + baseline
+                    + ":");
+            regressions.forEach(r -> System.out.println("  " + r));
+            System.exit(1);
+        }
+        System.out.println("No regressions of more than " + threshold + "% against " + baseline);
+    }
+
+    /**
+     * Compare the scores, and the normalized allocation rate (if profiled with -prof gc) of all benchmarks that are in
+     * both runs
+     *
+     * @param baseline the baseline run
+     * @param result the current run
+     * @param threshold in percent
+     * @return the regressions
+     */
+    static List<String> compare(Map<String, JsonObject> baseline, Map<String, JsonObject> result, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-70s %14s %14s %9s %14s %14s %9s%n", "Benchmark", "Baseline", "Score", "Change",
+                "Baseline B/op", "B/op", "Change");
+
+        for (Map.Entry<String, JsonObject> entry : result.entrySet()) {
+            String name = entry.getKey();
+            JsonObject current = entry.getValue();
+            JsonObject previous = baseline.get(name);
+            if (previous == null) {
+                System.out.printf("%-70s %14s %14.3f%n", name, "-", score(current));
+                continue;
+            }
+
+            // Higher is better for throughput, lower is better for the time modes
+            boolean higherIsBetter = "thrpt".equals(current.getString("mode"));
+            double scoreChange = change(score(previous), score(current));
+            double scoreRegression = higherIsBetter ? -scoreChange : scoreChange;
+
+            Double previousAllocation = allocation(previous);
+            Double currentAllocation = allocation(current);
+            double allocationChange = previousAllocation != null && currentAllocation != null
+                    ? change(previousAllocation, currentAllocation)
+                    : 0;
+
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%% %14s %14s %+8.1f%%%n", name, score(previous), score(current),
+                    scoreChange, format(previousAllocation), format(currentAllocation), allocationChange);
+
+            if (scoreRegression > threshold) {
+                regressions.add(String.format("%s: score %.3f -> %.3f %s (%+.1f%%)", name, score(previous),
+                        score(current), current.getJsonObject("primaryMetric").getString("scoreUnit"), scoreChange));
+            }
+            // Ignore tiny differences in allocation, that are mostly noise of the measurement
+            if (allocationChange > threshold && currentAllocation - previousAllocation > MIN_ALLOCATION_DIFFERENCE) {
+                regressions.add(String.format("%s: allocation %.0f -> %.0f B/op (%+.1f%%)", name, previousAllocation,
+                        currentAllocation, allocationChange));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Read a JMH JSON result, by benchmark name and parameters
+     *
+     * @param file the file
+     * @return the results
+     * @throws IOException if the file could not be read
+     */
+    static Map<String, JsonObject> read(Path file) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                JsonReader jsonReader = Json.createReader(reader)) {
+            JsonArray runs = jsonReader.readArray();
+            for (JsonValue run : runs) {
+                JsonObject benchmark = run.asJsonObject();
+                results.put(name(benchmark), benchmark);
+            }
+        }
+        return results;
+    }
+
+    private static String name(JsonObject benchmark) {
+        String name = benchmark.getString("benchmark").replace(PACKAGE, "");
+        JsonObject params = benchmark.getJsonObject("params");
+        if (params != null && !params.isEmpty()) {
+            Map<String, String> sorted = new TreeMap<>();
+            params.forEach((k, v) -> sorted.put(k, params.getString(k)));
+            name = name + sorted;
+        }
+        return name;
+    }
+
+    private static double score(JsonObject benchmark) {
+        return benchmark.getJsonObject("primaryMetric").getJsonNumber("score").doubleValue();
+    }
+
+    private static Double allocation(JsonObject benchmark) {
+        JsonObject secondaryMetrics = benchmark.getJsonObject("secondaryMetrics");
+        if (secondaryMetrics != null && secondaryMetrics.containsKey(ALLOCATION_METRIC)) {
+            return secondaryMetrics.getJsonObject(ALLOCATION_METRIC).getJsonNumber("score").doubleValue();
+        }
+        return null;
+    }
+
+    private static double change(double previous, double current) {
+        if (previous == 0) {
+            return 0;
+        }
+        return (current - previous) / previous * 100;
+    }
+
+    private static String format(Double allocation) {
+        return allocation == null ? "-" : String.format("%.0f", allocation);
+    }
+
+    private static final String PACKAGE = "io.smallrye.graphql.";
+    private static final String ALLOCATION_METRIC = "\u00b7gc.alloc.rate.norm";
+    private static final double MIN_ALLOCATION_DIFFERENCE = 64;
+}
@@ -0,0 +1,59 @@
+package io.smallrye.graphql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * A request from the JSON input to the JSON response, as the servlet sends it to {@link ExecutionService}.
+ *
+ * The query is cached after the first request, so this measures execution and serialization, not parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutionBenchmark {
+
+    @Param({ "SMALL", "WIDE", "DEEP" })
+    SyntheticSchema schema;
+
+    private ExecutionService executionService;
+    private JsonObject request;
+
+    @Setup
+    public void setup() {
+        Config config = new Config() {
+        };
+        executionService = new ExecutionService(config, schema.bootstrap(config));
+        request = Json.createObjectBuilder().add("query", schema.getQuery()).build();
+
+        JsonObject response = executionService.execute(request);
+        if (response.containsKey("errors")) {
+            throw new IllegalStateException("The " + schema + " query failed: " + response);
+        }
+    }
+
+    @Benchmark
+    public JsonObject execute() {
+        return executionService.execute(request);
+    }
+}
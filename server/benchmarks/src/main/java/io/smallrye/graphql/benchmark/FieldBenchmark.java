@@ -0,0 +1,99 @@
+package io.smallrye.graphql.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.benchmark.model.Formatted;
+import io.smallrye.graphql.benchmark.model.FormattedApi;
+import io.smallrye.graphql.execution.datafetcher.helper.FieldHelper;
+import io.smallrye.graphql.schema.model.Field;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.schema.model.Type;
+import io.smallrye.graphql.transformation.AbstractDataFetcherException;
+
+/**
+ * Transforming a field value on the way out, as the property data fetcher does for every field
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldBenchmark {
+
+    private final LocalDate date = LocalDate.of(2020, 2, 29);
+    private final LocalDateTime timestamp = LocalDateTime.of(2020, 2, 29, 13, 37, 42);
+    private final BigDecimal amount = new BigDecimal("1234567.891");
+    private final List<LocalDate> dates = new ArrayList<>();
+
+    private FieldHelper name;
+    private FieldHelper formattedDate;
+    private FieldHelper defaultDateTime;
+    private FieldHelper formattedNumber;
+    private FieldHelper formattedDateList;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < 10; i++) {
+            dates.add(date.plusDays(i));
+        }
+
+        Schema schema = SyntheticSchema.model(FormattedApi.class, Formatted.class);
+        Type type = schema.getTypes().get("Formatted");
+        name = fieldHelper(type, "name");
+        formattedDate = fieldHelper(type, "date");
+        defaultDateTime = fieldHelper(type, "timestamp");
+        formattedNumber = fieldHelper(type, "amount");
+        formattedDateList = fieldHelper(type, "dates");
+    }
+
+    @Benchmark
+    public Object noTransformation() throws AbstractDataFetcherException {
+        return name.transformResponse("name");
+    }
+
+    @Benchmark
+    public Object formattedDate() throws AbstractDataFetcherException {
+        return formattedDate.transformResponse(date);
+    }
+
+    @Benchmark
+    public Object defaultDateTime() throws AbstractDataFetcherException {
+        return defaultDateTime.transformResponse(timestamp);
+    }
+
+    @Benchmark
+    public Object formattedNumber() throws AbstractDataFetcherException {
+        return formattedNumber.transformResponse(amount);
+    }
+
+    @Benchmark
+    public Object formattedDateList() throws AbstractDataFetcherException {
+        return formattedDateList.transformResponse(dates);
+    }
+
+    private static FieldHelper fieldHelper(Type type, String fieldName) {
+        for (Field field : type.getFields()) {
+            if (field.getName().equals(fieldName)) {
+                return new FieldHelper(field);
+            }
+        }
+        throw new IllegalStateException("No field " + fieldName + " on " + type.getName());
+    }
+}
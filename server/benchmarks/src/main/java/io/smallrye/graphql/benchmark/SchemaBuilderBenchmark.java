@@ -0,0 +1,65 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.servlet.IndexInitializer;
+
+/**
+ * Building the schema model of a {@link SyntheticApplication} from its index.
+ *
+ * The application is generated and indexed once per size, so only {@link SchemaBuilder#build(IndexView)} is measured.
+ * It needs a JDK, as the application is compiled on the fly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaBuilderBenchmark {
+
+    @Param({ "500", "2000" })
+    public int types;
+
+    private IndexView index;
+
+    @Setup
+    public void setup() throws IOException {
+        Path work = Files.createTempDirectory("smallrye-graphql-schema-builder");
+        try {
+            Path jar = new SyntheticApplication(types).createJar(work);
+            index = new IndexInitializer().createIndex(Collections.singleton(jar.toUri().toURL()));
+        } finally {
+            StartupBenchmark.delete(work);
+        }
+
+        Schema schema = SchemaBuilder.build(index);
+        if (schema.getQueries().size() != types) {
+            throw new IllegalStateException("Expected " + types + " queries, got " + schema.getQueries().size());
+        }
+    }
+
+    @Benchmark
+    public Schema build() {
+        return SchemaBuilder.build(index);
+    }
+}
@@ -0,0 +1,85 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonWriter;
+import javax.json.JsonWriterFactory;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * Serializing the data of a result the way {@link ExecutionService} builds the response, and writing it the way the
+ * servlet does
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final JsonBuilderFactory jsonObjectFactory = Json.createBuilderFactory(null);
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
+    private static final Jsonb JSONB = JsonbBuilder.create(new JsonbConfig()
+            .withNullValues(Boolean.TRUE)
+            .withFormatting(Boolean.TRUE));
+
+    @Param({ "SMALL", "WIDE", "DEEP" })
+    SyntheticSchema schema;
+
+    private Object data;
+
+    @Setup
+    public void setup() {
+        Config config = new Config() {
+        };
+        ExecutionResult result = GraphQL.newGraphQL(schema.bootstrap(config)).build().execute(schema.getQuery());
+        if (!result.getErrors().isEmpty()) {
+            throw new IllegalStateException("The " + schema + " query failed: " + result.getErrors());
+        }
+        data = result.getData();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        String json = JSONB.toJson(data);
+        JsonObject response;
+        try (JsonReader reader = jsonReaderFactory.createReader(new StringReader(json))) {
+            response = jsonObjectFactory.createObjectBuilder()
+                    .add("data", reader.readValue())
+                    .build();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(out)) {
+            jsonWriter.writeObject(response);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,240 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonWriter;
+import javax.json.JsonWriterFactory;
+import javax.json.stream.JsonGenerator;
+
+import org.jboss.jandex.IndexView;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.servlet.IndexInitializer;
+
+/**
+ * Measures what it costs to start the server, for applications of a growing size (see {@link SyntheticApplication}).
+ *
+ * Every sample is a new JVM, so class loading and a cold JIT are part of it, like when a server starts.
+ * In that JVM the steps are timed separately: indexing the application jar ({@link IndexInitializer}), building the
+ * schema model ({@link SchemaBuilder}) and creating the graphql-java schema ({@link Bootstrap}).
+ * After every step the heap that is still used is measured, so we know what the index, the {@link Schema} and the
+ * {@link GraphQLSchema} retain.
+ *
+ * The medians are printed, and written in the same JSON format as JMH results, so they can be compared with
+ * {@link BaselineComparison}, also across versions.
+ *
+ * Arguments (all optional): the sizes (comma separated number of types, default 100,250,500,1000,2500,5000,10000),
+ * the number of samples per size (default 5) and the result file (default target/startup-result.json).
+ */
+public class StartupBenchmark {
+
+    // Keeps what we measure the heap of reachable
+    private static volatile Object retained;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(SAMPLE)) {
+            sample(Paths.get(args[1]));
+            return;
+        }
+
+        List<Integer> sizes = new ArrayList<>();
+        for (String size : (args.length > 0 ? args[0] : DEFAULT_SIZES).split(",")) {
+            sizes.add(Integer.parseInt(size.trim()));
+        }
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Path resultFile = Paths.get(args.length > 2 ? args[2] : "target/startup-result.json");
+
+        String version = getVersion();
+        System.out.println("SmallRye GraphQL " + version + " on Java " + System.getProperty("java.version") + ", "
+                + samples + " samples per size (medians)");
+        System.out.printf("%8s %10s %10s %12s %10s %12s %12s %14s%n", "Types", "Index ms", "Build ms", "Bootstrap ms",
+                "Total ms", "Index KB", "Schema KB", "GraphQL KB");
+
+        JsonArrayBuilder results = Json.createArrayBuilder();
+        Path work = Files.createTempDirectory("smallrye-graphql-startup");
+        try {
+            for (int size : sizes) {
+                Path jar = new SyntheticApplication(size).createJar(Files.createDirectories(work.resolve("app-" + size)));
+
+                List<long[]> measurements = new ArrayList<>();
+                for (int i = 0; i < samples; i++) {
+                    measurements.add(runSample(jar));
+                }
+                long[] median = new long[MEASUREMENTS.length];
+                for (int m = 0; m < MEASUREMENTS.length; m++) {
+                    List<Long> values = new ArrayList<>();
+                    for (long[] measurement : measurements) {
+                        values.add(measurement[m]);
+                    }
+                    Collections.sort(values);
+                    median[m] = values.get(values.size() / 2);
+                }
+
+                System.out.printf("%8d %10.1f %10.1f %12.1f %10.1f %12d %12d %14d%n", size,
+                        median[0] / 1e6, median[1] / 1e6, median[2] / 1e6, (median[0] + median[1] + median[2]) / 1e6,
+                        median[3] / 1024, median[4] / 1024, median[5] / 1024);
+
+                for (int m = 0; m < MEASUREMENTS.length; m++) {
+                    boolean time = m < 3;
+                    results.add(result(MEASUREMENTS[m], size, time ? median[m] / 1e6 : median[m] / 1024.0,
+                            time ? "ms" : "KB", version));
+                }
+                results.add(result("startup.total", size, (median[0] + median[1] + median[2]) / 1e6, "ms", version));
+            }
+        } finally {
+            delete(work);
+        }
+
+        if (resultFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        }
+        JsonWriterFactory writerFactory = Json
+                .createWriterFactory(Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+        try (Writer writer = Files.newBufferedWriter(resultFile, StandardCharsets.UTF_8);
+                JsonWriter jsonWriter = writerFactory.createWriter(writer)) {
+            jsonWriter.writeArray(results.build());
+        }
+        System.out.println("Results written to " + resultFile);
+    }
+
+    /**
+     * Start one sample in a new JVM
+     *
+     * @param jar the application
+     * @return the measurements, see {@link #MEASUREMENTS}
+     */
+    private static long[] runSample(Path jar) throws IOException, InterruptedException {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        ProcessBuilder processBuilder = new ProcessBuilder(java.toString(),
+                "-cp", System.getProperty("java.class.path"),
+                StartupBenchmark.class.getName(), SAMPLE, jar.toString())
+                        .redirectErrorStream(true);
+        Process process = processBuilder.start();
+
+        long[] measurements = null;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(SAMPLE)) {
+                    measurements = Arrays.stream(line.substring(SAMPLE.length()).trim().split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                } else {
+                    output.append(line).append('\n');
+                }
+            }
+        }
+        if (process.waitFor() != 0 || measurements == null) {
+            throw new IllegalStateException("The sample for " + jar + " failed:\n" + output);
+        }
+        return measurements;
+    }
+
+    /**
+     * Start the application once, in this (new) JVM, and print the measurements
+     *
+     * @param jar the application
+     */
+    private static void sample(Path jar) throws IOException {
+        long heap = usedHeap();
+
+        long start = System.nanoTime();
+        IndexView index = new IndexInitializer().createIndex(Collections.singleton(jar.toUri().toURL()));
+        long indexTime = System.nanoTime() - start;
+        retained = index;
+        long indexHeap = usedHeap() - heap;
+
+        start = System.nanoTime();
+        Schema schema = SchemaBuilder.build(index);
+        long buildTime = System.nanoTime() - start;
+        index = null;
+        retained = schema;
+        long schemaHeap = usedHeap() - heap;
+
+        start = System.nanoTime();
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+        long bootstrapTime = System.nanoTime() - start;
+        // The graphql-java schema keeps the parts of the model it needs
+        schema = null;
+        retained = graphQLSchema;
+        long graphQLSchemaHeap = usedHeap() - heap;
+
+        if (graphQLSchema == null || graphQLSchema.getQueryType().getFieldDefinitions().isEmpty()) {
+            throw new IllegalStateException("No schema was created for " + jar);
+        }
+        System.out.println(SAMPLE + " " + indexTime + " " + buildTime + " " + bootstrapTime + " " + indexHeap + " "
+                + schemaHeap + " " + graphQLSchemaHeap);
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static JsonObject result(String benchmark, int size, double score, String unit, String version) {
+        return Json.createObjectBuilder()
+                .add("benchmark", benchmark)
+                .add("mode", "ss")
+                .add("version", version)
+                .add("params", Json.createObjectBuilder().add("types", String.valueOf(size)))
+                .add("primaryMetric", Json.createObjectBuilder()
+                        .add("score", score)
+                        .add("scoreUnit", unit))
+                .build();
+    }
+
+    private static String getVersion() {
+        try (InputStream stream = StartupBenchmark.class.getClassLoader().getResourceAsStream(POM_PROPERTIES)) {
+            if (stream != null) {
+                Properties properties = new Properties();
+                properties.load(stream);
+                return properties.getProperty("version", UNKNOWN);
+            }
+        } catch (IOException ex) {
+            // Then we do not know
+        }
+        return UNKNOWN;
+    }
+
+    private static final String SAMPLE = "--sample";
+    private static final String DEFAULT_SIZES = "100,250,500,1000,2500,5000,10000";
+    private static final String[] MEASUREMENTS = { "startup.index", "startup.build", "startup.bootstrap",
+            "startup.heap.index", "startup.heap.schema", "startup.heap.graphql" };
+    private static final String POM_PROPERTIES = "META-INF/maven/io.smallrye/smallrye-graphql/pom.properties";
+    private static final String UNKNOWN = "unknown";
+}
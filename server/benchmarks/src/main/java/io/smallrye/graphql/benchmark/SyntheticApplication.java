@@ -0,0 +1,205 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates (and compiles) an annotated application of a certain size, as a jar.
+ *
+ * The number of types is the size, everything else grows with it:
+ * one API per 50 types, one interface per 10 types, one enum per 20 types and one input per 10 types.
+ * Every type implements an interface, has an enum field and references the next type of the same API,
+ * every 5th type gets an extra field from a {@code @Source} method on the API,
+ * and every input is used in a mutation.
+ */
+public class SyntheticApplication {
+
+    private final int types;
+    private final int apis;
+    private final int interfaces;
+    private final int enums;
+    private final int inputs;
+
+    public SyntheticApplication(int types) {
+        this.types = types;
+        this.apis = (types + TYPES_PER_API - 1) / TYPES_PER_API;
+        this.interfaces = Math.max(1, types / 10);
+        this.enums = Math.max(1, types / 20);
+        this.inputs = Math.max(1, types / 10);
+    }
+
+    /**
+     * Generate and compile the application
+     *
+     * @param directory where to work
+     * @return the jar with the classes
+     * @throws IOException if the sources or the jar could not be written
+     */
+    public Path createJar(Path directory) throws IOException {
+        Path src = Files.createDirectories(directory.resolve("src").resolve(PACKAGE));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < apis; i++) {
+            files.add(write(src, "Api" + i, api(i)));
+        }
+        for (int i = 0; i < types; i++) {
+            files.add(write(src, "Type" + i, type(i)));
+        }
+        for (int i = 0; i < interfaces; i++) {
+            files.add(write(src, "Named" + i, namedInterface(i)));
+        }
+        for (int i = 0; i < enums; i++) {
+            files.add(write(src, "Status" + i, statusEnum(i)));
+        }
+        for (int i = 0; i < inputs; i++) {
+            files.add(write(src, "Input" + i, input(i)));
+        }
+        compile(files, classes);
+
+        Path jar = directory.resolve("app-" + types + ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                Stream<Path> walk = Files.walk(classes)) {
+            for (Path classFile : walk.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                out.putNextEntry(new JarEntry(classes.relativize(classFile).toString().replace('\\', '/')));
+                Files.copy(classFile, out);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private void compile(List<String> files, Path classes) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Generating the application needs a JDK");
+        }
+        // Too many files for the command line of some systems, so use an argument file
+        Path arguments = classes.getParent().resolve("sources.txt");
+        Files.write(arguments, files.stream().map(f -> "\"" + f.replace('\\', '/') + "\"").collect(Collectors.toList()),
+                StandardCharsets.UTF_8);
+
+        OutputStream quiet = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        };
+        int result = compiler.run(null, quiet, System.err, "-proc:none", "-nowarn",
+                "-cp", System.getProperty("java.class.path"),
+                "-d", classes.toString(),
+                "@" + arguments);
+        if (result != 0) {
+            throw new IllegalStateException("Could not compile the synthetic application");
+        }
+    }
+
+    private String api(int a) {
+        StringBuilder sb = header();
+        sb.append("@GraphQLApi\n");
+        sb.append("public class Api").append(a).append(" {\n");
+        int from = a * TYPES_PER_API;
+        int to = Math.min(types, from + TYPES_PER_API);
+        for (int i = from; i < to; i++) {
+            sb.append("    @Query @Description(\"Get type ").append(i).append("\")\n");
+            sb.append("    public Type").append(i).append(" type").append(i)
+                    .append("(@Name(\"id\") String id) { return new Type").append(i).append("(); }\n");
+            if (i % 5 == 0) {
+                sb.append("    @Name(\"extra\")\n");
+                sb.append("    public String extra").append(i).append("(@Source Type").append(i)
+                        .append(" source) { return source.getName(); }\n");
+            }
+            if (i % 10 == 0 && i / 10 < inputs) {
+                sb.append("    @Mutation\n");
+                sb.append("    public Type").append(i).append(" update").append(i)
+                        .append("(@Name(\"input\") Input").append(i / 10).append(" input) { return new Type")
+                        .append(i).append("(); }\n");
+            }
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String type(int i) {
+        // Reference the next type of the same API, as graphql-java validates the schema recursively
+        int group = i / TYPES_PER_API * TYPES_PER_API;
+        String next = "Type" + (group + (i + 1 - group) % Math.min(TYPES_PER_API, types - group));
+        String status = "Status" + (i % enums);
+        StringBuilder sb = header();
+        sb.append("@Description(\"Type ").append(i).append("\")\n");
+        sb.append("public class Type").append(i).append(" implements Named").append(i % interfaces).append(" {\n");
+        sb.append("    @Id private String id;\n");
+        sb.append("    @NonNull private String name;\n");
+        sb.append("    private int count;\n");
+        sb.append("    private ").append(status).append(" status;\n");
+        sb.append("    private ").append(next).append(" next;\n");
+        sb.append("    private java.util.List<String> tags;\n");
+        sb.append("    public String getId() { return id; }\n");
+        sb.append("    @Override public String getName() { return name; }\n");
+        sb.append("    public int getCount() { return count; }\n");
+        sb.append("    public ").append(status).append(" getStatus() { return status; }\n");
+        sb.append("    public ").append(next).append(" getNext() { return next; }\n");
+        sb.append("    public java.util.List<String> getTags() { return tags; }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String namedInterface(int i) {
+        StringBuilder sb = header();
+        sb.append("@Interface @Description(\"Named ").append(i).append("\")\n");
+        sb.append("public interface Named").append(i).append(" {\n");
+        sb.append("    String getName();\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String statusEnum(int i) {
+        StringBuilder sb = header();
+        sb.append("public enum Status").append(i).append(" { ACTIVE, INACTIVE, ARCHIVED }\n");
+        return sb.toString();
+    }
+
+    private String input(int i) {
+        String status = "Status" + (i % enums);
+        StringBuilder sb = header();
+        sb.append("public class Input").append(i).append(" {\n");
+        sb.append("    private String name;\n");
+        sb.append("    private int count;\n");
+        sb.append("    private ").append(status).append(" status;\n");
+        sb.append("    public String getName() { return name; }\n");
+        sb.append("    public void setName(String name) { this.name = name; }\n");
+        sb.append("    public int getCount() { return count; }\n");
+        sb.append("    public void setCount(int count) { this.count = count; }\n");
+        sb.append("    public ").append(status).append(" getStatus() { return status; }\n");
+        sb.append("    public void setStatus(").append(status).append(" status) { this.status = status; }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static StringBuilder header() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(PACKAGE).append(";\n");
+        sb.append("import org.eclipse.microprofile.graphql.*;\n");
+        return sb;
+    }
+
+    private static String write(Path src, String className, String content) throws IOException {
+        Path file = src.resolve(className + ".java");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    private static final String PACKAGE = "startup";
+    private static final int TYPES_PER_API = 50;
+}
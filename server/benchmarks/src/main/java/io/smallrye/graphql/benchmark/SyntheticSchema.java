@@ -0,0 +1,93 @@
+package io.smallrye.graphql.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.benchmark.model.DeepApi;
+import io.smallrye.graphql.benchmark.model.Greeting;
+import io.smallrye.graphql.benchmark.model.Node;
+import io.smallrye.graphql.benchmark.model.SmallApi;
+import io.smallrye.graphql.benchmark.model.Wide;
+import io.smallrye.graphql.benchmark.model.WideApi;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * The schemas we benchmark against, each with a query that is typical for its shape
+ */
+public enum SyntheticSchema {
+
+    /**
+     * One query, returning a type with a few fields
+     */
+    SMALL("{ greeting(name: \"world\") { message count } }", SmallApi.class, Greeting.class),
+
+    /**
+     * A list of 100 types with 20 fields each
+     */
+    WIDE("{ wides(count: 100) { id name description code category status owner region quantity rank version "
+            + "priority price weight score created updated active visible archived } }", WideApi.class, Wide.class),
+
+    /**
+     * A tree of nodes, 6 levels deep (127 nodes)
+     */
+    DEEP(deepQuery(6), DeepApi.class, Node.class);
+
+    private final String query;
+    private final Class<?>[] classes;
+
+    SyntheticSchema(String query, Class<?>... classes) {
+        this.query = query;
+        this.classes = classes;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public GraphQLSchema bootstrap(Config config) {
+        return Bootstrap.bootstrap(model(classes), config);
+    }
+
+    /**
+     * Build the schema model of these classes, like the server does when it starts
+     *
+     * @param classes the API and model classes
+     * @return the schema model
+     */
+    public static Schema model(Class<?>... classes) {
+        return SchemaBuilder.build(index(classes));
+    }
+
+    private static IndexView index(Class<?>... classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> c : classes) {
+            String resource = c.getName().replace('.', '/') + ".class";
+            try (InputStream stream = c.getClassLoader().getResourceAsStream(resource)) {
+                indexer.index(stream);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static String deepQuery(int depth) {
+        StringBuilder query = new StringBuilder("{ tree(depth: ").append(depth).append(") ");
+        for (int i = 0; i <= depth; i++) {
+            query.append("{ name depth children ");
+        }
+        query.append("{ name }");
+        for (int i = 0; i <= depth; i++) {
+            query.append(" }");
+        }
+        return query.append(" }").toString();
+    }
+}
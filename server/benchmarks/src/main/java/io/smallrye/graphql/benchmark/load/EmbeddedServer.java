@@ -0,0 +1,136 @@
+package io.smallrye.graphql.benchmark.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonReaderFactory;
+import javax.json.JsonWriter;
+import javax.json.JsonWriterFactory;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.smallrye.graphql.benchmark.SyntheticSchema;
+import io.smallrye.graphql.benchmark.model.Author;
+import io.smallrye.graphql.benchmark.model.Book;
+import io.smallrye.graphql.benchmark.model.LoadApi;
+import io.smallrye.graphql.benchmark.model.NewBook;
+import io.smallrye.graphql.benchmark.model.OutOfStockException;
+import io.smallrye.graphql.benchmark.model.Review;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.ExecutionResponse;
+import io.smallrye.graphql.execution.ExecutionService;
+
+/**
+ * Serves the {@link LoadApi} on {@code /graphql}, handling a POST the way the servlet does, so the load test needs
+ * no container.
+ *
+ * It uses the HTTP server of the JDK, with a fixed number of threads.
+ */
+class EmbeddedServer implements AutoCloseable {
+    private static final JsonReaderFactory jsonReaderFactory = Json.createReaderFactory(null);
+    private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ExecutionService executionService;
+
+    EmbeddedServer(int threads) throws IOException {
+        Config config = new Config() {
+        };
+        this.executionService = new ExecutionService(config, Bootstrap.bootstrap(SyntheticSchema.model(LoadApi.class,
+                Book.class, Author.class, Review.class, NewBook.class, OutOfStockException.class), config));
+
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        this.server.createContext(PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    URL getUrl() throws IOException {
+        return new URL("http", "localhost", server.getAddress().getPort(), PATH);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            JsonObject jsonInput;
+            try (InputStream in = exchange.getRequestBody();
+                    JsonReader jsonReader = jsonReaderFactory
+                            .createReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                jsonInput = jsonReader.readObject();
+            }
+
+            // The headers of the exchange are looked up case insensitive, like the servlet does
+            ExecutionResponse executionResponse = executionService.executeRequest(jsonInput,
+                    exchange.getRequestHeaders());
+            writeResponse(executionResponse, exchange);
+        } catch (RuntimeException ex) {
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Like the servlet: with the status and caching headers, cached responses as their bytes, others streamed.
+     * Conditional requests and gzip are left out, the load test does not use them.
+     */
+    private void writeResponse(ExecutionResponse executionResponse, HttpExchange exchange) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set(CONTENT_TYPE, APPLICATION_JSON_UTF8);
+        if (executionResponse.getStatus() != OK) {
+            // Rejected, the client can try again soon
+            headers.set(RETRY_AFTER, "1");
+        }
+        int maxAge = executionResponse.getMaxAge();
+        if (maxAge >= 0) {
+            headers.set(CACHE_CONTROL, (executionResponse.isPrivateScope() ? "private" : "public") + ", max-age="
+                    + maxAge);
+        }
+
+        if (!executionResponse.isCached() && maxAge < 0) {
+            exchange.sendResponseHeaders(executionResponse.getStatus(), 0);
+            try (OutputStream out = exchange.getResponseBody();
+                    JsonWriter jsonWriter = jsonWriterFactory.createWriter(out)) {
+                jsonWriter.writeObject(executionResponse.getJson());
+            }
+            return;
+        }
+
+        byte[] bytes = executionResponse.getBytes();
+        exchange.sendResponseHeaders(executionResponse.getStatus(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static final String PATH = "/graphql";
+    private static final int OK = 200;
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String APPLICATION_JSON_UTF8 = "application/json;charset=UTF-8";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String RETRY_AFTER = "Retry-After";
+}
@@ -0,0 +1,292 @@
+package io.smallrye.graphql.benchmark.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Sends a mix of GraphQL requests at a fixed rate, and reports the throughput and latency percentiles.
+ *
+ * The requests are sent at the rate, whether earlier requests were answered or not (an open model), and the latency is
+ * measured from the moment a request should have been sent. So when the server falls behind, the time requests wait
+ * is part of the latency, and the percentiles are not hiding it (coordinated omission). The time from the moment a
+ * request was really sent is reported as the service time.
+ *
+ * By default it starts an {@link EmbeddedServer} with the load test application, and sends the
+ * {@link RequestMix#defaultMix()}: long lists, {@code @Source} fan-out, a mutation with a large input and responses
+ * with many errors. With {@code --url} it tests a running server instead (for example the runner), with a mix that fits
+ * that application ({@code --mix}).
+ *
+ * Options:
+ * <ul>
+ * <li>{@code --url} the GraphQL endpoint, default an embedded server</li>
+ * <li>{@code --mix} a JSON file with the requests, see {@link RequestMix}, default the mix of the embedded server</li>
+ * <li>{@code --rate} requests per second, default 200</li>
+ * <li>{@code --duration} seconds to measure, default 30</li>
+ * <li>{@code --warmup} seconds to send requests before measuring, default 10</li>
+ * <li>{@code --connections} the number of concurrent connections, default 32</li>
+ * <li>{@code --server-threads} the number of threads of the embedded server, default twice the number of cores</li>
+ * <li>{@code --histogram} a file to write the latency distribution to (in HdrHistogram's percentile format)</li>
+ * </ul>
+ */
+public class LoadTest {
+
+    private final URL url;
+    private final RequestMix mix;
+    private final int rate;
+    private final long warmupNanos;
+    private final long durationNanos;
+    private final int connections;
+
+    private final Map<RequestMix.Request, Statistics> statistics = new LinkedHashMap<>();
+    private final AtomicLong lastCompletion = new AtomicLong();
+    private long measureFrom;
+
+    LoadTest(URL url, RequestMix mix, int rate, int warmupSeconds, int durationSeconds, int connections) {
+        this.url = url;
+        this.mix = mix;
+        this.rate = rate;
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(warmupSeconds);
+        this.durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        this.connections = connections;
+        for (RequestMix.Request request : mix.getRequests()) {
+            statistics.put(request, new Statistics(request.getName()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        RequestMix mix = options.containsKey("mix") ? RequestMix.read(Paths.get(options.get("mix")))
+                : RequestMix.defaultMix();
+        int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int connections = Integer.parseInt(options.getOrDefault("connections", "32"));
+        int serverThreads = Integer.parseInt(options.getOrDefault("server-threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors() * 2)));
+
+        // Else HttpURLConnection only keeps 5 connections alive
+        System.setProperty("http.maxConnections", String.valueOf(connections));
+
+        EmbeddedServer server = null;
+        try {
+            URL url;
+            if (options.containsKey("url")) {
+                url = new URL(options.get("url"));
+            } else {
+                server = new EmbeddedServer(serverThreads);
+                url = server.getUrl();
+            }
+
+            LoadTest loadTest = new LoadTest(url, mix, rate, warmup, duration, connections);
+            loadTest.run();
+            Histogram latency = loadTest.report(System.out);
+
+            if (options.containsKey("histogram")) {
+                Path file = Paths.get(options.get("histogram"));
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+                    latency.outputPercentileDistribution(out, NANOS_PER_MILLI);
+                }
+                System.out.println("Latency distribution (ms) written to " + file);
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * Send the requests at the rate, for the warm-up and the duration, and wait for the answers
+     */
+    void run() throws InterruptedException {
+        System.out.println("Sending " + rate + " requests/s to " + url + " for " + TimeUnit.NANOSECONDS.toSeconds(
+                warmupNanos) + " s warm-up and " + TimeUnit.NANOSECONDS.toSeconds(durationNanos) + " s, over "
+                + connections + " connections");
+
+        ExecutorService senders = Executors.newFixedThreadPool(connections);
+        // The same mix every run
+        Random random = new Random(42);
+        long begin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = begin + warmupNanos;
+        long end = measureFrom + durationNanos;
+        try {
+            for (long i = 0;; i++) {
+                long intendedStart = begin + i * NANOS_PER_SECOND / rate;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                RequestMix.Request request = mix.next(random);
+                Statistics stats = intendedStart >= measureFrom ? statistics.get(request) : null;
+                senders.execute(() -> send(request, intendedStart, stats));
+            }
+        } finally {
+            senders.shutdown();
+        }
+        this.measureFrom = measureFrom;
+        if (!senders.awaitTermination(5, TimeUnit.MINUTES)) {
+            senders.shutdownNow();
+            System.out.println("Not all requests were answered within 5 minutes after the test");
+        }
+    }
+
+    private void send(RequestMix.Request request, long intendedStart, Statistics stats) {
+        long start = System.nanoTime();
+        boolean failed = false;
+        boolean errors = false;
+        try {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setFixedLengthStreamingMode(request.getBody().length);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(request.getBody());
+            }
+            int status = connection.getResponseCode();
+            byte[] response = readAll(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+            failed = status != 200;
+            errors = startsWith(response, ERRORS);
+        } catch (IOException ex) {
+            failed = true;
+        }
+        long done = System.nanoTime();
+        if (stats != null) {
+            stats.latency.recordValue(done - intendedStart);
+            stats.serviceTime.recordValue(done - start);
+            if (failed) {
+                stats.failed.increment();
+            } else if (errors) {
+                stats.withErrors.increment();
+            }
+            lastCompletion.accumulateAndGet(done, Math::max);
+        }
+    }
+
+    /**
+     * Print the results of the run
+     *
+     * @param out where to print to
+     * @return the latency of all requests
+     */
+    Histogram report(PrintStream out) {
+        Histogram allLatency = new Histogram(3);
+        Histogram allServiceTime = new Histogram(3);
+        long withErrors = 0;
+        long failed = 0;
+        for (Statistics stats : statistics.values()) {
+            allLatency.add(stats.latency);
+            allServiceTime.add(stats.serviceTime);
+            withErrors += stats.withErrors.sum();
+            failed += stats.failed.sum();
+        }
+
+        double seconds = Math.max(durationNanos, lastCompletion.get() - measureFrom) / (double) NANOS_PER_SECOND;
+        out.println();
+        out.printf("%-16s %8s %9s %8s %8s %9s %9s %9s %9s %9s %12s%n", "Request", "Count", "Req/s", "Errors", "Failed",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "service p99");
+        for (Statistics stats : statistics.values()) {
+            print(out, stats.name, stats.latency, stats.serviceTime, stats.withErrors.sum(), stats.failed.sum(), seconds);
+        }
+        print(out, "all", allLatency, allServiceTime, withErrors, failed, seconds);
+        out.println();
+        out.println("Latency is measured from the moment a request should have been sent, the service time from the"
+                + " moment it was sent. Errors are responses with GraphQL errors, failed are HTTP or IO failures.");
+        return allLatency;
+    }
+
+    private void print(PrintStream out, String name, Histogram latency, Histogram serviceTime, long withErrors,
+            long failed, double seconds) {
+        out.printf("%-16s %8d %9.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n", name,
+                latency.getTotalCount(), latency.getTotalCount() / seconds, withErrors, failed,
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / NANOS_PER_MILLI, millis(serviceTime, 99));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        if (in == null) {
+            return new byte[0];
+        }
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    // The execution service adds the errors before the data
+    private static boolean startsWith(byte[] response, byte[] prefix) {
+        if (response.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (response[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    /**
+     * What we measured of one request of the mix
+     */
+    private static class Statistics {
+        private final String name;
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder withErrors = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        Statistics(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final byte[] ERRORS = "{\"errors\"".getBytes(StandardCharsets.UTF_8);
+}
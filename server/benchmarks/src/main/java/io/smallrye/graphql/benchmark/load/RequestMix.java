@@ -0,0 +1,148 @@
+package io.smallrye.graphql.benchmark.load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * The requests of a load test, and how often (relatively) each of them is sent.
+ *
+ * A mix can be read from a JSON file: an array of objects with a {@code name}, a {@code weight} and the
+ * {@code request} (the {@code query}, and optionally the {@code variables} and {@code operationName}), for example
+ * {@code [{"name": "hello", "weight": 1, "request": {"query": "{ hello }"}}]}.
+ */
+class RequestMix {
+
+    private final List<Request> requests;
+    private final int totalWeight;
+
+    RequestMix(List<Request> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("A request mix needs at least one request");
+        }
+        this.requests = Collections.unmodifiableList(requests);
+        int total = 0;
+        for (Request request : requests) {
+            total += request.weight;
+        }
+        this.totalWeight = total;
+    }
+
+    List<Request> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Pick a request, according to the weights
+     *
+     * @param random the random to use
+     * @return the request
+     */
+    Request next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (Request request : requests) {
+            pick -= request.weight;
+            if (pick < 0) {
+                return request;
+            }
+        }
+        return requests.get(requests.size() - 1);
+    }
+
+    static RequestMix read(Path file) throws IOException {
+        List<Request> requests = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                JsonReader jsonReader = Json.createReader(reader)) {
+            for (JsonValue value : jsonReader.readArray()) {
+                JsonObject entry = value.asJsonObject();
+                requests.add(new Request(entry.getString("name"), entry.getInt("weight", 1),
+                        entry.getJsonObject("request")));
+            }
+        }
+        return new RequestMix(requests);
+    }
+
+    /**
+     * The mix for the {@link io.smallrye.graphql.benchmark.model.LoadApi} (that the embedded server serves)
+     *
+     * @return the mix
+     */
+    static RequestMix defaultMix() {
+        List<Request> requests = new ArrayList<>();
+
+        // A long list, with scalars that are transformed
+        requests.add(new Request("list", 40, Json.createObjectBuilder()
+                .add("query", "query books($count: Int!) { books(count: $count) { title isbn published price } }")
+                .add("variables", Json.createObjectBuilder().add("count", 200))
+                .build()));
+
+        // Every book in the list calls two @Source methods
+        requests.add(new Request("source-fan-out", 25, Json.createObjectBuilder()
+                .add("query", "{ books(count: 50) { title author { name born } reviews { stars text } } }")
+                .build()));
+
+        // A mutation with 200 inputs
+        JsonArrayBuilder books = Json.createArrayBuilder();
+        for (int i = 0; i < 200; i++) {
+            books.add(Json.createObjectBuilder()
+                    .add("title", "New book " + i)
+                    .add("isbn", "978-1-" + (100000 + i))
+                    .add("published", "2020-01-" + (10 + i % 20))
+                    .add("price", 19.99)
+                    .add("tags", Json.createArrayBuilder().add("new").add("fiction").add("tag" + i)));
+        }
+        requests.add(new Request("large-input", 15, Json.createObjectBuilder()
+                .add("query", "mutation add($books: [NewBookInput]) { addBooks(books: $books) }")
+                .add("variables", Json.createObjectBuilder().add("books", books))
+                .build()));
+
+        // Every book in the list has a field that fails
+        requests.add(new Request("errors", 20, Json.createObjectBuilder()
+                .add("query", "{ books(count: 20) { title stock } }")
+                .build()));
+
+        return new RequestMix(requests);
+    }
+
+    /**
+     * One request of the mix
+     */
+    static class Request {
+        private final String name;
+        private final int weight;
+        private final byte[] body;
+
+        Request(String name, int weight, JsonObject request) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("The weight of " + name + " should be at least 1");
+            }
+            this.name = name;
+            this.weight = weight;
+            this.body = request.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+    }
+}
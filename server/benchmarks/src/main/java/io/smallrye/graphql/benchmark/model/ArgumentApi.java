@@ -0,0 +1,29 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * Queries with scalar, complex and list arguments
+ */
+@GraphQLApi
+public class ArgumentApi {
+
+    @Query
+    public String scalar(@Name("id") String id, @Name("count") int count, @Name("enabled") boolean enabled) {
+        return id;
+    }
+
+    @Query
+    public String complex(@Name("filter") Filter filter) {
+        return filter.getName();
+    }
+
+    @Query
+    public int list(@Name("ids") List<Long> ids, @Name("filters") List<Filter> filters) {
+        return ids.size() + filters.size();
+    }
+}
@@ -0,0 +1,24 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.time.LocalDate;
+
+/**
+ * The author of a book in the load test
+ */
+public class Author {
+    private final String name;
+    private final LocalDate born;
+
+    public Author(String name, LocalDate born) {
+        this.name = name;
+        this.born = born;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getBorn() {
+        return born;
+    }
+}
@@ -0,0 +1,37 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A book in the load test
+ */
+public class Book {
+    private final String title;
+    private final String isbn;
+    private final LocalDate published;
+    private final BigDecimal price;
+
+    public Book(String title, String isbn, LocalDate published, BigDecimal price) {
+        this.title = title;
+        this.isbn = isbn;
+        this.published = published;
+        this.price = price;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public LocalDate getPublished() {
+        return published;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,17 @@
+package io.smallrye.graphql.benchmark.model;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * A deep schema: a tree of nodes, where every node has two children
+ */
+@GraphQLApi
+public class DeepApi {
+
+    @Query
+    public Node tree(@Name("depth") int depth) {
+        return new Node("root", depth);
+    }
+}
@@ -0,0 +1,43 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.DateFormat;
+import org.eclipse.microprofile.graphql.NumberFormat;
+
+/**
+ * Fields with dates and formatted numbers
+ */
+public class Formatted {
+    private String name;
+    @DateFormat("dd MMM yyyy")
+    private LocalDate date;
+    private LocalDateTime timestamp;
+    @NumberFormat("#,##0.00")
+    private BigDecimal amount;
+    @DateFormat("dd MMM yyyy")
+    private List<LocalDate> dates;
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+}
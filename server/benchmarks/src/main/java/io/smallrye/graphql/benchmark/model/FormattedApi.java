@@ -0,0 +1,16 @@
+package io.smallrye.graphql.benchmark.model;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * A query that returns fields that are transformed on the way out
+ */
+@GraphQLApi
+public class FormattedApi {
+
+    @Query
+    public Formatted formatted() {
+        return new Formatted();
+    }
+}
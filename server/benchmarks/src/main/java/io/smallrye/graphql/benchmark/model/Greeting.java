@@ -0,0 +1,33 @@
+package io.smallrye.graphql.benchmark.model;
+
+/**
+ * The type of the small schema
+ */
+public class Greeting {
+    private String message;
+    private int count;
+
+    public Greeting() {
+    }
+
+    public Greeting(String message, int count) {
+        this.message = message;
+        this.count = count;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,48 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * The application of the load test: lists, {@code @Source} fields, large inputs and fields that fail
+ */
+@GraphQLApi
+public class LoadApi {
+
+    @Query
+    public List<Book> books(@Name("count") int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(new Book("Book " + i, "978-0-" + (100000 + i), LocalDate.of(2000, 1, 1).plusDays(i),
+                    new BigDecimal(10 + i % 90).add(new BigDecimal("0.99"))));
+        }
+        return books;
+    }
+
+    public Author author(@Source Book book) {
+        return new Author("Author of " + book.getTitle(), LocalDate.of(1950, 1, 1).plusDays(book.getTitle().length()));
+    }
+
+    public List<Review> reviews(@Source Book book) {
+        return Arrays.asList(new Review(5, "Great " + book.getTitle()), new Review(3, "Not bad"),
+                new Review(1, "Did not finish"));
+    }
+
+    public int stock(@Source Book book) throws OutOfStockException {
+        throw new OutOfStockException(book.getTitle() + " is out of stock");
+    }
+
+    @Mutation
+    public int addBooks(@Name("books") List<NewBook> books) {
+        return books.size();
+    }
+}
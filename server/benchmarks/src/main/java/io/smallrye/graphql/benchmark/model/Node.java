@@ -0,0 +1,34 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type of the deep schema
+ */
+public class Node {
+    private final String name;
+    private final int depth;
+
+    public Node(String name, int depth) {
+        this.name = name;
+        this.depth = depth;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public List<Node> getChildren() {
+        List<Node> children = new ArrayList<>(2);
+        if (depth > 0) {
+            children.add(new Node(name + ".0", depth - 1));
+            children.add(new Node(name + ".1", depth - 1));
+        }
+        return children;
+    }
+}
@@ -0,0 +1,11 @@
+package io.smallrye.graphql.benchmark.model;
+
+/**
+ * A (checked, so shown to the client) error in the load test
+ */
+public class OutOfStockException extends Exception {
+
+    public OutOfStockException(String message) {
+        super(message);
+    }
+}
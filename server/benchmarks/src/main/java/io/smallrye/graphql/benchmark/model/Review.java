@@ -0,0 +1,22 @@
+package io.smallrye.graphql.benchmark.model;
+
+/**
+ * A review of a book in the load test
+ */
+public class Review {
+    private final int stars;
+    private final String text;
+
+    public Review(int stars, String text) {
+        this.stars = stars;
+        this.text = text;
+    }
+
+    public int getStars() {
+        return stars;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
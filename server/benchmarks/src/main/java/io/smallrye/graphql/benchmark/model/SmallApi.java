@@ -0,0 +1,17 @@
+package io.smallrye.graphql.benchmark.model;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * A small schema: one query, one type with a few fields
+ */
+@GraphQLApi
+public class SmallApi {
+
+    @Query
+    public Greeting greeting(@Name("name") String name) {
+        return new Greeting("Hello " + name, name.length());
+    }
+}
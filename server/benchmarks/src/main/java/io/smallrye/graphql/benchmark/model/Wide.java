@@ -0,0 +1,130 @@
+package io.smallrye.graphql.benchmark.model;
+
+/**
+ * The type of the wide schema
+ */
+public class Wide {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final String code;
+    private final String category;
+    private final String status;
+    private final String owner;
+    private final String region;
+    private final int quantity;
+    private final int rank;
+    private final int version;
+    private final int priority;
+    private final double price;
+    private final double weight;
+    private final double score;
+    private final long created;
+    private final long updated;
+    private final boolean active;
+    private final boolean visible;
+    private final boolean archived;
+
+    public Wide(int i) {
+        this.id = "id-" + i;
+        this.name = "name-" + i;
+        this.description = "description-" + i;
+        this.code = "code-" + i;
+        this.category = "category-" + i;
+        this.status = "status-" + i;
+        this.owner = "owner-" + i;
+        this.region = "region-" + i;
+        this.quantity = i;
+        this.rank = i;
+        this.version = i;
+        this.priority = i;
+        this.price = i * 1.5;
+        this.weight = i * 1.5;
+        this.score = i * 1.5;
+        this.created = 1600000000000L + i;
+        this.updated = 1600000000000L + i;
+        this.active = i % 2 == 0;
+        this.visible = i % 2 == 0;
+        this.archived = i % 2 == 0;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+}
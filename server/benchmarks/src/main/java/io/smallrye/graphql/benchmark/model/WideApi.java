@@ -0,0 +1,24 @@
+package io.smallrye.graphql.benchmark.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+
+/**
+ * A wide schema: a list of types with many fields
+ */
+@GraphQLApi
+public class WideApi {
+
+    @Query
+    public List<Wide> wides(@Name("count") int count) {
+        List<Wide> wides = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            wides.add(new Wide(i));
+        }
+        return wides;
+    }
+}
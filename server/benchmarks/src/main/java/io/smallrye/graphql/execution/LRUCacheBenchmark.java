@@ -0,0 +1,62 @@
+package io.smallrye.graphql.execution;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link LRUCache} that holds the parsed queries, used from more threads at the same time.
+ *
+ * This is in the same package as the cache, as the cache is not public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LRUCacheBenchmark {
+    private static final int MAX_SIZE = 1024;
+
+    private final String[] keys = new String[MAX_SIZE * 2];
+    private LRUCache<String, String> cache;
+
+    @Setup
+    public void setup() {
+        cache = new LRUCache<>(MAX_SIZE);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "{ query" + i + " { id name } }";
+        }
+        for (int i = 0; i < MAX_SIZE; i++) {
+            cache.computeIfAbsent(keys[i], k -> k);
+        }
+    }
+
+    /**
+     * All queries are cached, like an application with a fixed set of queries
+     */
+    @Benchmark
+    public String hit() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(MAX_SIZE / 2)]);
+    }
+
+    /**
+     * Twice as many queries as fit in the cache, so about half of them evict another one
+     */
+    @Benchmark
+    public String churn() {
+        return cache.computeIfAbsent(keys[ThreadLocalRandom.current().nextInt(keys.length)], k -> k);
+    }
+}
@@ -1,21 +1,34 @@
 package io.smallrye.graphql.cdi;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.UnsatisfiedResolutionException;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.CDI;
 
 import org.eclipse.microprofile.metrics.MetricRegistry;
 
 import io.opentracing.Tracer;
+import io.smallrye.graphql.execution.RequestCleanup;
 import io.smallrye.graphql.spi.LookupService;
 import io.smallrye.graphql.spi.MetricsService;
 import io.smallrye.graphql.spi.OpenTracingService;
 
 /**
  * Lookup service that gets the beans via CDI
- * 
+ *
+ * The bean is resolved once per class. Normal scoped beans are looked up as a client proxy once, and that proxy is reused.
+ * Other (e.g. {@code @Dependent}) beans are created per lookup, and destroyed when the request is done.
+ *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class CdiLookupService implements LookupService, MetricsService, OpenTracingService {
 
+    private final Map<Class<?>, BeanLookup> lookups = new ConcurrentHashMap<>();
+
     @Override
     public String getName() {
         return "CDI";
@@ -23,13 +36,24 @@ public class CdiLookupService implements LookupService, MetricsService, OpenTrac
 
     @Override
     public Class<?> getClass(Class<?> declaringClass) {
-        Object declaringObject = getInstance(declaringClass);
-        return declaringObject.getClass();
+        return lookup(declaringClass).getInstanceClass();
     }
 
+    /**
+     * Get an instance outside of a request.
+     * This is meant for normal scoped beans. A {@code @Dependent} bean is not destroyed, that is up to the caller.
+     *
+     * @param declaringClass the class
+     * @return the instance
+     */
     @Override
     public Object getInstance(Class<?> declaringClass) {
-        return CDI.current().select(declaringClass).get();
+        return getInstance(declaringClass, null);
+    }
+
+    @Override
+    public Object getInstance(Class<?> declaringClass, RequestCleanup requestCleanup) {
+        return lookup(declaringClass).getInstance(requestCleanup);
     }
 
     @Override
@@ -42,4 +66,58 @@ public class CdiLookupService implements LookupService, MetricsService, OpenTrac
         return CDI.current().select(Tracer.class).get();
     }
 
+    private BeanLookup lookup(Class<?> declaringClass) {
+        BeanLookup lookup = lookups.get(declaringClass);
+        if (lookup == null) {
+            lookup = lookups.computeIfAbsent(declaringClass, BeanLookup::new);
+        }
+        return lookup;
+    }
+
+    private static class BeanLookup {
+        private final Class<?> declaringClass;
+        private final BeanManager beanManager;
+        private final Bean<Object> bean;
+        private final Object proxy;
+
+        @SuppressWarnings("unchecked")
+        BeanLookup(Class<?> declaringClass) {
+            this.declaringClass = declaringClass;
+            this.beanManager = CDI.current().getBeanManager();
+            this.bean = (Bean<Object>) beanManager.resolve(beanManager.getBeans(declaringClass));
+            if (bean == null) {
+                throw new UnsatisfiedResolutionException("No bean found for " + declaringClass.getName());
+            }
+            if (beanManager.isNormalScope(bean.getScope())) {
+                this.proxy = beanManager.getReference(bean, declaringClass, beanManager.createCreationalContext(bean));
+            } else {
+                this.proxy = null;
+            }
+        }
+
+        Object getInstance(RequestCleanup requestCleanup) {
+            if (proxy != null) {
+                return proxy;
+            }
+            CreationalContext<Object> creationalContext = beanManager.createCreationalContext(bean);
+            Object instance = beanManager.getReference(bean, declaringClass, creationalContext);
+            if (requestCleanup != null) {
+                requestCleanup.add(() -> bean.destroy(instance, creationalContext));
+            }
+            return instance;
+        }
+
+        Class<?> getInstanceClass() {
+            if (proxy != null) {
+                return proxy.getClass();
+            }
+            CreationalContext<Object> creationalContext = beanManager.createCreationalContext(bean);
+            Object instance = beanManager.getReference(bean, declaringClass, creationalContext);
+            try {
+                return instance.getClass();
+            } finally {
+                bean.destroy(instance, creationalContext);
+            }
+        }
+    }
 }
@@ -18,4 +18,26 @@ public interface ConfigKey extends org.eclipse.microprofile.graphql.ConfigKey {
     public static final String SCHEMA_INCLUDE_INTROSPECTION_TYPES = "smallrye.graphql.schema.includeIntrospectionTypes";
     public static final String LOG_PAYLOAD = "smallrye.graphql.logPayload";
     public static final String FIELD_VISIBILITY = "smallrye.graphql.fieldVisibility";
+    public static final String FIELD_TRACING_SAMPLE_RATE = "smallrye.graphql.fieldTracing.sampleRate";
+    public static final String FIELD_TRACING_HEADER_ENABLED = "smallrye.graphql.fieldTracing.headerEnabled";
+    public static final String ENABLE_OPERATION_STATISTICS = "smallrye.graphql.statistics.enabled";
+    public static final String OPERATION_STATISTICS_MAX_SIZE = "smallrye.graphql.statistics.maxOperations";
+    public static final String OPERATION_STATISTICS_ROLE = "smallrye.graphql.statistics.role";
+    public static final String INTROSPECTION_CACHE_ENABLED = "smallrye.graphql.introspectionCache.enabled";
+    public static final String RESPONSE_CACHE_ENABLED = "smallrye.graphql.responseCache.enabled";
+    public static final String RESPONSE_CACHE_MAX_SIZE = "smallrye.graphql.responseCache.maxSize";
+    public static final String RESPONSE_CACHE_HEADERS = "smallrye.graphql.responseCache.headers";
+    public static final String PERSISTED_QUERIES_ENABLED = "smallrye.graphql.persistedQueries.enabled";
+    public static final String PERSISTED_QUERIES_MAX_SIZE = "smallrye.graphql.persistedQueries.maxSize";
+    public static final String QUERY_COALESCING_ENABLED = "smallrye.graphql.queryCoalescing.enabled";
+    public static final String QUERY_COALESCING_HEADERS = "smallrye.graphql.queryCoalescing.headers";
+    public static final String QUERY_COALESCING_ALLOW_LIST = "smallrye.graphql.queryCoalescing.allowList";
+    public static final String ADMISSION_CONTROL_ENABLED = "smallrye.graphql.admissionControl.enabled";
+    public static final String ADMISSION_CONTROL_INITIAL_LIMIT = "smallrye.graphql.admissionControl.initialLimit";
+    public static final String ADMISSION_CONTROL_MAX_LIMIT = "smallrye.graphql.admissionControl.maxLimit";
+    public static final String ADMISSION_CONTROL_BULKHEADS = "smallrye.graphql.admissionControl.bulkheads";
+    public static final String DEADLINE_TIMEOUT = "smallrye.graphql.deadline.timeout";
+    public static final String DEADLINE_HEADER = "smallrye.graphql.deadline.header";
+    public static final String INDEX_CACHE_DIRECTORY = "smallrye.graphql.index.cacheDirectory";
+    public static final String INDEX_PREFILTER = "smallrye.graphql.index.prefilter";
 }
@@ -74,6 +74,94 @@ public class GraphQLConfig implements Config {
     @ConfigProperty(name = ConfigKey.FIELD_VISIBILITY, defaultValue = Config.FIELD_VISIBILITY_DEFAULT)
     private String fieldVisibility;
 
+    @Inject
+    @ConfigProperty(name = ConfigKey.FIELD_TRACING_SAMPLE_RATE, defaultValue = "0")
+    private double fieldTracingSampleRate;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.FIELD_TRACING_HEADER_ENABLED, defaultValue = "false")
+    private boolean fieldTracingHeaderEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.ENABLE_OPERATION_STATISTICS, defaultValue = "false")
+    private boolean operationStatisticsEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.OPERATION_STATISTICS_MAX_SIZE, defaultValue = "500")
+    private int operationStatisticsMaxSize;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.OPERATION_STATISTICS_ROLE)
+    private Optional<String> operationStatisticsRole;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.INTROSPECTION_CACHE_ENABLED, defaultValue = "true")
+    private boolean introspectionCacheEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.RESPONSE_CACHE_ENABLED, defaultValue = "false")
+    private boolean responseCacheEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.RESPONSE_CACHE_MAX_SIZE, defaultValue = "1000")
+    private int responseCacheMaxSize;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.RESPONSE_CACHE_HEADERS, defaultValue = "Authorization")
+    private List<String> responseCacheHeaders;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.PERSISTED_QUERIES_ENABLED, defaultValue = "true")
+    private boolean persistedQueriesEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.PERSISTED_QUERIES_MAX_SIZE, defaultValue = "2048")
+    private int persistedQueriesMaxSize;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.QUERY_COALESCING_ENABLED, defaultValue = "false")
+    private boolean queryCoalescingEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.QUERY_COALESCING_HEADERS, defaultValue = "Authorization,Cookie")
+    private List<String> queryCoalescingHeaders;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.QUERY_COALESCING_ALLOW_LIST, defaultValue = "")
+    private Optional<List<String>> queryCoalescingAllowList;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.ADMISSION_CONTROL_ENABLED, defaultValue = "false")
+    private boolean admissionControlEnabled;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.ADMISSION_CONTROL_INITIAL_LIMIT, defaultValue = "20")
+    private int admissionControlInitialLimit;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.ADMISSION_CONTROL_MAX_LIMIT, defaultValue = "200")
+    private int admissionControlMaxLimit;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.ADMISSION_CONTROL_BULKHEADS, defaultValue = "")
+    private Optional<List<String>> admissionControlBulkheads;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.DEADLINE_TIMEOUT, defaultValue = "0")
+    private long deadlineTimeout;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.DEADLINE_HEADER)
+    private Optional<String> deadlineHeader;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.INDEX_CACHE_DIRECTORY)
+    private Optional<String> indexCacheDirectory;
+
+    @Inject
+    @ConfigProperty(name = ConfigKey.INDEX_PREFILTER, defaultValue = "false")
+    private boolean indexPrefilter;
+
     @Override
     public String getDefaultErrorMessage() {
         return defaultErrorMessage;
@@ -144,6 +232,113 @@ public class GraphQLConfig implements Config {
         return fieldVisibility;
     }
 
+    @Override
+    public double getFieldTracingSampleRate() {
+        return fieldTracingSampleRate;
+    }
+
+    @Override
+    public boolean isFieldTracingHeaderEnabled() {
+        return fieldTracingHeaderEnabled;
+    }
+
+    @Override
+    public boolean isOperationStatisticsEnabled() {
+        return operationStatisticsEnabled;
+    }
+
+    @Override
+    public int getOperationStatisticsMaxSize() {
+        return operationStatisticsMaxSize;
+    }
+
+    public Optional<String> getOperationStatisticsRole() {
+        return operationStatisticsRole;
+    }
+
+    @Override
+    public boolean isIntrospectionCacheEnabled() {
+        return introspectionCacheEnabled;
+    }
+
+    @Override
+    public boolean isResponseCacheEnabled() {
+        return responseCacheEnabled;
+    }
+
+    @Override
+    public int getResponseCacheMaxSize() {
+        return responseCacheMaxSize;
+    }
+
+    @Override
+    public List<String> getResponseCacheHeaders() {
+        return responseCacheHeaders;
+    }
+
+    @Override
+    public boolean isPersistedQueriesEnabled() {
+        return persistedQueriesEnabled;
+    }
+
+    @Override
+    public int getPersistedQueriesMaxSize() {
+        return persistedQueriesMaxSize;
+    }
+
+    @Override
+    public boolean isQueryCoalescingEnabled() {
+        return queryCoalescingEnabled;
+    }
+
+    @Override
+    public List<String> getQueryCoalescingHeaders() {
+        return queryCoalescingHeaders;
+    }
+
+    @Override
+    public Optional<List<String>> getQueryCoalescingAllowList() {
+        return queryCoalescingAllowList;
+    }
+
+    @Override
+    public boolean isAdmissionControlEnabled() {
+        return admissionControlEnabled;
+    }
+
+    @Override
+    public int getAdmissionControlInitialLimit() {
+        return admissionControlInitialLimit;
+    }
+
+    @Override
+    public int getAdmissionControlMaxLimit() {
+        return admissionControlMaxLimit;
+    }
+
+    @Override
+    public Optional<List<String>> getAdmissionControlBulkheads() {
+        return admissionControlBulkheads;
+    }
+
+    @Override
+    public long getDeadlineTimeout() {
+        return deadlineTimeout;
+    }
+
+    @Override
+    public Optional<String> getDeadlineHeader() {
+        return deadlineHeader;
+    }
+
+    public Optional<String> getIndexCacheDirectory() {
+        return indexCacheDirectory;
+    }
+
+    public boolean isIndexPrefilter() {
+        return indexPrefilter;
+    }
+
     public void setHideErrorMessageList(Optional<List<String>> hideList) {
         this.hideList = hideList;
     }
@@ -195,4 +390,92 @@ public class GraphQLConfig implements Config {
     public void setFieldVisibility(String fieldVisibility) {
         this.fieldVisibility = fieldVisibility;
     }
+
+    public void setFieldTracingSampleRate(double fieldTracingSampleRate) {
+        this.fieldTracingSampleRate = fieldTracingSampleRate;
+    }
+
+    public void setFieldTracingHeaderEnabled(boolean fieldTracingHeaderEnabled) {
+        this.fieldTracingHeaderEnabled = fieldTracingHeaderEnabled;
+    }
+
+    public void setOperationStatisticsEnabled(boolean operationStatisticsEnabled) {
+        this.operationStatisticsEnabled = operationStatisticsEnabled;
+    }
+
+    public void setOperationStatisticsMaxSize(int operationStatisticsMaxSize) {
+        this.operationStatisticsMaxSize = operationStatisticsMaxSize;
+    }
+
+    public void setOperationStatisticsRole(Optional<String> operationStatisticsRole) {
+        this.operationStatisticsRole = operationStatisticsRole;
+    }
+
+    public void setIntrospectionCacheEnabled(boolean introspectionCacheEnabled) {
+        this.introspectionCacheEnabled = introspectionCacheEnabled;
+    }
+
+    public void setResponseCacheEnabled(boolean responseCacheEnabled) {
+        this.responseCacheEnabled = responseCacheEnabled;
+    }
+
+    public void setResponseCacheMaxSize(int responseCacheMaxSize) {
+        this.responseCacheMaxSize = responseCacheMaxSize;
+    }
+
+    public void setResponseCacheHeaders(List<String> responseCacheHeaders) {
+        this.responseCacheHeaders = responseCacheHeaders;
+    }
+
+    public void setPersistedQueriesEnabled(boolean persistedQueriesEnabled) {
+        this.persistedQueriesEnabled = persistedQueriesEnabled;
+    }
+
+    public void setPersistedQueriesMaxSize(int persistedQueriesMaxSize) {
+        this.persistedQueriesMaxSize = persistedQueriesMaxSize;
+    }
+
+    public void setQueryCoalescingEnabled(boolean queryCoalescingEnabled) {
+        this.queryCoalescingEnabled = queryCoalescingEnabled;
+    }
+
+    public void setQueryCoalescingHeaders(List<String> queryCoalescingHeaders) {
+        this.queryCoalescingHeaders = queryCoalescingHeaders;
+    }
+
+    public void setQueryCoalescingAllowList(Optional<List<String>> queryCoalescingAllowList) {
+        this.queryCoalescingAllowList = queryCoalescingAllowList;
+    }
+
+    public void setAdmissionControlEnabled(boolean admissionControlEnabled) {
+        this.admissionControlEnabled = admissionControlEnabled;
+    }
+
+    public void setAdmissionControlInitialLimit(int admissionControlInitialLimit) {
+        this.admissionControlInitialLimit = admissionControlInitialLimit;
+    }
+
+    public void setAdmissionControlMaxLimit(int admissionControlMaxLimit) {
+        this.admissionControlMaxLimit = admissionControlMaxLimit;
+    }
+
+    public void setAdmissionControlBulkheads(Optional<List<String>> admissionControlBulkheads) {
+        this.admissionControlBulkheads = admissionControlBulkheads;
+    }
+
+    public void setDeadlineTimeout(long deadlineTimeout) {
+        this.deadlineTimeout = deadlineTimeout;
+    }
+
+    public void setDeadlineHeader(Optional<String> deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    public void setIndexCacheDirectory(Optional<String> indexCacheDirectory) {
+        this.indexCacheDirectory = indexCacheDirectory;
+    }
+
+    public void setIndexPrefilter(boolean indexPrefilter) {
+        this.indexPrefilter = indexPrefilter;
+    }
 }
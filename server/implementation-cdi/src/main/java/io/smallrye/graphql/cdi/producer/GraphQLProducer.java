@@ -47,6 +47,31 @@ public class GraphQLProducer {
         return this.graphQLSchema;
     }
 
+    /**
+     * Replace the running schema with a new one.
+     *
+     * Requests that are running finish against the previous schema, new requests use the new one.
+     * Beans that had the previous {@code GraphQLSchema} injected keep the previous one, use
+     * {@link ExecutionService#getGraphQLSchema()} to get the current one.
+     *
+     * @param schema the new schema model
+     * @return the new schema
+     */
+    public synchronized GraphQLSchema update(Schema schema) {
+        if (this.executionService == null) {
+            return initialize(schema);
+        }
+        GraphQLSchema newGraphQLSchema = Bootstrap.bootstrap(schema, graphQLConfig);
+        if (graphQLConfig.isMetricsEnabled()) {
+            MetricRegistry vendorRegistry = MetricsService.load().getMetricRegistry(MetricRegistry.Type.VENDOR);
+            Bootstrap.registerMetrics(schema, vendorRegistry);
+        }
+        this.executionService.updateSchema(newGraphQLSchema);
+        this.schema = schema;
+        this.graphQLSchema = newGraphQLSchema;
+        return newGraphQLSchema;
+    }
+
     @Produces
     SchemaPrinter schemaPrinter;
 
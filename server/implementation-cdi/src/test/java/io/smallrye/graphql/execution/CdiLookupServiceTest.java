@@ -0,0 +1,92 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.UnsatisfiedResolutionException;
+
+import org.jboss.weld.junit5.WeldInitiator;
+import org.jboss.weld.junit5.WeldJunit5Extension;
+import org.jboss.weld.junit5.WeldSetup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.smallrye.graphql.cdi.CdiLookupService;
+
+/**
+ * Test the scoping of beans looked up via CDI
+ */
+@ExtendWith(WeldJunit5Extension.class)
+public class CdiLookupServiceTest {
+
+    @WeldSetup
+    public WeldInitiator weld = WeldInitiator.of(DependentApi.class, ApplicationScopedApi.class);
+
+    private final CdiLookupService lookupService = new CdiLookupService();
+
+    @BeforeEach
+    public void init() {
+        DependentApi.destroyed.set(0);
+    }
+
+    @Test
+    public void testNormalScopedProxyIsReused() {
+        Object first = lookupService.getInstance(ApplicationScopedApi.class, new RequestCleanup());
+        Object second = lookupService.getInstance(ApplicationScopedApi.class, new RequestCleanup());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void testDependentIsDestroyedWhenRequestIsDone() {
+        RequestCleanup requestCleanup = new RequestCleanup();
+        Object first = lookupService.getInstance(DependentApi.class, requestCleanup);
+        Object second = lookupService.getInstance(DependentApi.class, requestCleanup);
+        assertNotSame(first, second);
+        assertEquals(0, DependentApi.destroyed.get());
+
+        requestCleanup.run();
+        assertEquals(2, DependentApi.destroyed.get());
+
+        // Running it again does nothing
+        requestCleanup.run();
+        assertEquals(2, DependentApi.destroyed.get());
+    }
+
+    @Test
+    public void testClassOfDependentIsLookedUpWithoutLeaking() {
+        assertEquals(DependentApi.class, lookupService.getClass(DependentApi.class));
+        assertEquals(1, DependentApi.destroyed.get());
+    }
+
+    @Test
+    public void testUnsatisfiedBean() {
+        assertThrows(UnsatisfiedResolutionException.class,
+                () -> lookupService.getInstance(NotABean.class, new RequestCleanup()));
+    }
+
+    @Dependent
+    public static class DependentApi {
+        static final AtomicInteger destroyed = new AtomicInteger();
+
+        @PreDestroy
+        void destroy() {
+            destroyed.incrementAndGet();
+        }
+    }
+
+    @ApplicationScoped
+    public static class ApplicationScopedApi {
+    }
+
+    public static class NotABean {
+    }
+}
@@ -0,0 +1,178 @@
+package io.smallrye.graphql.servlet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A cheap check on a class file, to see if it might be relevant for the schema.
+ *
+ * Rather than indexing the class, we only walk the constant pool and look for a reference to the MicroProfile GraphQL
+ * or JSON-B annotations. Classes without such a reference can still be indexed later if the schema references them.
+ * For those we also keep the super class and interfaces, so the class hierarchy is known without indexing them.
+ */
+final class ClassFilePrefilter {
+
+    private static final byte[][] RELEVANT_PACKAGES = {
+            "org/eclipse/microprofile/graphql/".getBytes(StandardCharsets.UTF_8),
+            "javax/json/bind/annotation/".getBytes(StandardCharsets.UTF_8)
+    };
+
+    private ClassFilePrefilter() {
+    }
+
+    /**
+     * @param classFile the bytes of the class file
+     * @return null if the class references a relevant annotation (or if we could not tell), else the class hierarchy
+     */
+    static Hierarchy scan(byte[] classFile) {
+        try {
+            return scanConstantPool(classFile);
+        } catch (ArrayIndexOutOfBoundsException ex) {
+            // Not a class file we understand, let the indexer decide
+            return null;
+        }
+    }
+
+    private static Hierarchy scanConstantPool(byte[] b) {
+        if (u4(b, 0) != MAGIC) {
+            return null;
+        }
+        int count = u2(b, 8);
+        int[] offsets = new int[count];
+        int pos = 10;
+        for (int i = 1; i < count; i++) {
+            offsets[i] = pos;
+            int tag = b[pos] & 0xFF;
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    int length = u2(b, pos + 1);
+                    if (containsRelevantPackage(b, pos + 3, length)) {
+                        return null;
+                    }
+                    pos += 3 + length;
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    pos += 9;
+                    i++; // Takes two entries
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    pos += 5;
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    pos += 4;
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    pos += 3;
+                    break;
+                default:
+                    // Unknown constant, so we can not tell
+                    return null;
+            }
+        }
+
+        boolean isInterface = (u2(b, pos) & ACC_INTERFACE) != 0;
+        int superClass = u2(b, pos + 4);
+        String superName = superClass == 0 ? null : className(b, offsets, superClass);
+        int interfacesCount = u2(b, pos + 6);
+        List<String> interfaceNames = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            interfaceNames.add(className(b, offsets, u2(b, pos + 8 + i * 2)));
+        }
+        return new Hierarchy(isInterface, superName, interfaceNames);
+    }
+
+    private static String className(byte[] b, int[] offsets, int classIndex) {
+        int utf8 = offsets[u2(b, offsets[classIndex] + 1)];
+        return new String(b, utf8 + 3, u2(b, utf8 + 1), StandardCharsets.UTF_8).replace('/', '.');
+    }
+
+    private static boolean containsRelevantPackage(byte[] b, int offset, int length) {
+        for (byte[] relevant : RELEVANT_PACKAGES) {
+            int last = offset + length - relevant.length;
+            for (int start = offset; start <= last; start++) {
+                if (regionMatches(b, start, relevant)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(byte[] b, int start, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (b[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int u2(byte[] b, int pos) {
+        return ((b[pos] & 0xFF) << 8) | (b[pos + 1] & 0xFF);
+    }
+
+    private static int u4(byte[] b, int pos) {
+        return (u2(b, pos) << 16) | u2(b, pos + 2);
+    }
+
+    /**
+     * Where a class sits in the class hierarchy
+     */
+    static class Hierarchy {
+        private final boolean isInterface;
+        private final String superName;
+        private final List<String> interfaceNames;
+
+        Hierarchy(boolean isInterface, String superName, List<String> interfaceNames) {
+            this.isInterface = isInterface;
+            this.superName = superName;
+            this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+        }
+
+        boolean isInterface() {
+            return isInterface;
+        }
+
+        String getSuperName() {
+            return superName;
+        }
+
+        List<String> getInterfaceNames() {
+            return interfaceNames;
+        }
+    }
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+}
@@ -4,10 +4,17 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import javax.inject.Inject;
 import javax.json.Json;
+import javax.json.JsonException;
 import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
 import javax.json.JsonReader;
 import javax.json.JsonReaderFactory;
 import javax.json.JsonWriter;
@@ -19,7 +26,9 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.smallrye.graphql.cdi.config.GraphQLConfig;
+import io.smallrye.graphql.execution.ExecutionResponse;
 import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.execution.ResponseCache;
 
 /**
  * Executing the GraphQL request
@@ -50,9 +59,19 @@ public class ExecutionServlet extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response) {
         if (config.isAllowGet()) {
-            try (StringReader reader = new StringReader(request.getParameter(QUERY))) {
-                handleInput(reader, response);
+            JsonObject jsonInput;
+            try {
+                jsonInput = getJsonInput(request);
+            } catch (JsonException ex) {
+                try {
+                    response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Variables and extensions must be JSON objects");
+                } catch (IOException ioe) {
+                    SmallRyeGraphQLServletLogging.log.ioException(ioe);
+                }
+                return;
             }
+            SmallRyeGraphQLServletLogging.log.jsonInput(jsonInput.toString());
+            handleInput(jsonInput, request, response, true);
         } else {
             try {
                 response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED, "GET Queries is not enabled");
@@ -65,32 +84,152 @@ public class ExecutionServlet extends HttpServlet {
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response) {
         try (BufferedReader reader = request.getReader()) {
-            handleInput(reader, response);
-        } catch (IOException ex) {
+            Reader inputReader = logInputReader(reader);
+            try (JsonReader jsonReader = jsonReaderFactory.createReader(inputReader)) {
+                handleInput(jsonReader.readObject(), request, response, false);
+            }
+        } catch (Exception ex) {
             SmallRyeGraphQLServletLogging.log.ioException(ex);
         }
     }
 
-    private void handleInput(Reader inputReader, HttpServletResponse response) {
-        inputReader = logInputReader(inputReader);
+    private void handleInput(JsonObject jsonInput, HttpServletRequest request, HttpServletResponse response,
+            boolean conditional) {
+        try {
+            ExecutionResponse executionResponse = executionService.executeRequest(jsonInput, getHeaders(request));
+            if (executionResponse != null) {
+                writeResponse(executionResponse, request, response, conditional);
+            }
+        } catch (Exception ex) {
+            SmallRyeGraphQLServletLogging.log.ioException(ex);
+        }
+    }
 
-        try (JsonReader jsonReader = jsonReaderFactory.createReader(inputReader)) {
+    /**
+     * Write the response, with the cache headers.
+     *
+     * Responses to GET requests are conditional: they get an entity tag, and if the client already has it, the
+     * response is 304 (Not Modified) without a body. Those, and cached responses, are written as bytes (gzipped if the
+     * client accepts that), other responses are streamed.
+     */
+    private void writeResponse(ExecutionResponse executionResponse, HttpServletRequest request,
+            HttpServletResponse response, boolean conditional) throws IOException {
+        if (executionResponse.getStatus() != HttpServletResponse.SC_OK) {
+            // Rejected, the client can try again soon
+            response.setStatus(executionResponse.getStatus());
+            response.setHeader(HttpCaching.RETRY_AFTER, "1");
+        }
+        int maxAge = executionResponse.getMaxAge();
+        if (maxAge >= 0) {
+            response.setHeader(HttpCaching.CACHE_CONTROL,
+                    HttpCaching.cacheControl(maxAge, executionResponse.isPrivateScope()));
+            ResponseCache responseCache = executionService.getResponseCache();
+            if (responseCache != null) {
+                for (String headerName : responseCache.getHeaderNames()) {
+                    response.addHeader(HttpCaching.VARY, headerName);
+                }
+            }
+        }
 
-            JsonObject jsonInput = jsonReader.readObject();
+        if (!conditional && !executionResponse.isCached() && maxAge < 0) {
+            ServletOutputStream out = response.getOutputStream();
+            response.setContentType(APPLICATION_JSON_UTF8);
 
-            JsonObject outputJson = executionService.execute(jsonInput);
-            if (outputJson != null) {
-                ServletOutputStream out = response.getOutputStream();
-                response.setContentType(APPLICATION_JSON_UTF8);
+            try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(out)) {
+                jsonWriter.writeObject(executionResponse.getJson());
+                out.flush();
+            }
+            return;
+        }
 
-                try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(out)) {
-                    jsonWriter.writeObject(outputJson);
-                    out.flush();
-                }
+        boolean gzip = HttpCaching.acceptsGzip(request);
+        response.addHeader(HttpCaching.VARY, HttpCaching.ACCEPT_ENCODING);
+        if (conditional) {
+            String etag = gzip ? HttpCaching.gzipETag(executionResponse.getETag()) : executionResponse.getETag();
+            response.setHeader(HttpCaching.ETAG, etag);
+            if (HttpCaching.isNotModified(request, etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+
+        byte[] bytes;
+        if (gzip) {
+            response.setHeader(HttpCaching.CONTENT_ENCODING, HttpCaching.GZIP);
+            bytes = executionResponse.getGzippedBytes();
+        } else {
+            bytes = executionResponse.getBytes();
+        }
+        response.setContentType(APPLICATION_JSON_UTF8);
+        response.setContentLength(bytes.length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(bytes);
+        out.flush();
+    }
+
+    /**
+     * The request of a GET, from the query, operationName, variables and extensions parameters.
+     * For compatibility, the query parameter can also contain the whole request as JSON.
+     */
+    private static JsonObject getJsonInput(HttpServletRequest request) {
+        String query = request.getParameter(QUERY);
+        if (query != null && query.trim().startsWith("{")) {
+            JsonObject jsonInput = readRequestObject(query);
+            if (jsonInput != null) {
+                return jsonInput;
+            }
+        }
+
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        if (query != null) {
+            builder.add(QUERY, query);
+        }
+        String operationName = request.getParameter(OPERATION_NAME);
+        if (operationName != null && !operationName.isEmpty()) {
+            builder.add(OPERATION_NAME, operationName);
+        }
+        String variables = request.getParameter(VARIABLES);
+        if (variables != null && !variables.isEmpty()) {
+            builder.add(VARIABLES, readObject(variables));
+        }
+        String extensions = request.getParameter(EXTENSIONS);
+        if (extensions != null && !extensions.isEmpty()) {
+            builder.add(EXTENSIONS, readObject(extensions));
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return the request, or null if the value is a GraphQL document (that can also start with a {)
+     */
+    private static JsonObject readRequestObject(String value) {
+        try {
+            JsonObject jsonObject = readObject(value);
+            if (jsonObject.containsKey(QUERY) || jsonObject.containsKey(EXTENSIONS)) {
+                return jsonObject;
+            }
+        } catch (JsonException ex) {
+            // Not JSON
+        }
+        return null;
+    }
+
+    private static JsonObject readObject(String value) {
+        try (JsonReader jsonReader = jsonReaderFactory.createReader(new StringReader(value))) {
+            return jsonReader.readObject();
+        }
+    }
+
+    private static Map<String, List<String>> getHeaders(HttpServletRequest request) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Enumeration<String> names = request.getHeaderNames();
+        if (names != null) {
+            while (names.hasMoreElements()) {
+                String name = names.nextElement();
+                headers.put(name, Collections.list(request.getHeaders(name)));
             }
-        } catch (Exception ex) {
-            SmallRyeGraphQLServletLogging.log.ioException(ex);
         }
+        return headers;
     }
 
     private static Reader logInputReader(Reader inputReader) {
@@ -113,4 +252,7 @@ public class ExecutionServlet extends HttpServlet {
     private static final String APPLICATION_JSON_UTF8 = "application/json;charset=UTF-8";
 
     private static final String QUERY = "query";
+    private static final String OPERATION_NAME = "operationName";
+    private static final String VARIABLES = "variables";
+    private static final String EXTENSIONS = "extensions";
 }
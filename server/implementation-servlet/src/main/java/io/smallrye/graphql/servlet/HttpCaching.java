@@ -0,0 +1,115 @@
+package io.smallrye.graphql.servlet;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Helps the servlets with HTTP caching: entity tags, conditional requests and compression
+ */
+class HttpCaching {
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Create a strong entity tag for the content
+     *
+     * @param content the bytes that are sent
+     * @return the entity tag, quoted
+     */
+    static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST).digest(content);
+            StringBuilder sb = new StringBuilder(digest.length + 2).append('"');
+            // Half of the digest is more than unique enough
+            for (int i = 0; i < digest.length / 2; i++) {
+                sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return sb.append('"').toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * If the client already has this version, according to the If-None-Match header (compared weakly, as RFC 7232
+     * requires)
+     *
+     * @param request the request
+     * @param etag the entity tag of the current version
+     * @return true if the response can be 304 (Not Modified)
+     */
+    static boolean isNotModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK)) {
+                tag = tag.substring(WEAK.length());
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param request the request
+     * @return if the client accepts a gzipped response
+     */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                // gzip;q=0 means not gzip
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create the Cache-Control header value
+     *
+     * @param maxAge how long (in seconds) the response can be cached
+     * @param privateScope if only the user's browser may cache it
+     * @return the value
+     */
+    static String cacheControl(int maxAge, boolean privateScope) {
+        return (privateScope ? PRIVATE : PUBLIC) + MAX_AGE + maxAge;
+    }
+
+    /**
+     * The entity tag of the gzipped content, that has to differ from the one of the content
+     *
+     * @param etag the entity tag of the content, quoted
+     * @return the entity tag of the gzipped content, quoted
+     */
+    static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-" + GZIP + "\"";
+    }
+
+    static final String ETAG = "ETag";
+    static final String IF_NONE_MATCH = "If-None-Match";
+    static final String ACCEPT_ENCODING = "Accept-Encoding";
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    static final String VARY = "Vary";
+    static final String CACHE_CONTROL = "Cache-Control";
+    static final String RETRY_AFTER = "Retry-After";
+    static final String GZIP = "gzip";
+
+    private static final String WEAK = "W/";
+    private static final String PUBLIC = "public";
+    private static final String PRIVATE = "private";
+    private static final String MAX_AGE = ", max-age=";
+    private static final String DIGEST = "SHA-256";
+}
@@ -0,0 +1,234 @@
+package io.smallrye.graphql.servlet;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+
+/**
+ * Keeps the Jandex index of jars on disk, so unchanged jars do not need to be indexed again on the next start.
+ *
+ * Every jar has one file in the cache directory (named after its path). That file starts with the fingerprint of the
+ * jar (path, size, last modified time and a SHA-256 of the content), followed by the index.
+ * The cached index is used if the size and last modified time still match. Only if they do not, the content is
+ * hashed: a jar that was rebuilt, but did not change, still uses its cached index. Like with build tools, a jar that
+ * changed without its size or last modified time changing is not noticed.
+ *
+ * The files of jars that were not asked for since the cache was created (e.g. jars that were removed or upgraded) are
+ * removed by {@link #prune()}, so the cache directory should not be shared between applications.
+ */
+class IndexCache {
+
+    private final Path directory;
+    private final Set<Path> used = ConcurrentHashMap.newKeySet();
+
+    IndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Get the index of a jar from the cache, or create (and cache) it
+     *
+     * @param jar the jar
+     * @param indexer creates the index if it is not cached (or the jar changed)
+     * @return the index
+     * @throws IOException if the jar could not be indexed
+     */
+    Index get(Path jar, JarIndexer indexer) throws IOException {
+        Fingerprint fingerprint;
+        try {
+            fingerprint = Fingerprint.of(jar);
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotUseIndexCache(jar.toString(), ex);
+            return indexer.index(jar);
+        }
+
+        Path cached = directory.resolve(hex(digest(fingerprint.path.getBytes(StandardCharsets.UTF_8))) + DOT_IDX);
+        used.add(cached);
+        Index index = read(cached, fingerprint);
+        if (index != null) {
+            SmallRyeGraphQLServletLogging.log.loadedCachedIndex(jar.toString());
+            return index;
+        }
+
+        index = indexer.index(jar);
+        write(cached, fingerprint, index);
+        return index;
+    }
+
+    /**
+     * Remove the cached indexes of the jars that were not asked for since this cache was created
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> unused = files
+                    .filter(file -> file.getFileName().toString().endsWith(DOT_IDX) && !used.contains(file))
+                    .collect(Collectors.toList());
+            for (Path file : unused) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException | RuntimeException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotUseIndexCache(directory.toString(), ex);
+        }
+    }
+
+    private Index read(Path cached, Fingerprint fingerprint) {
+        if (!Files.isRegularFile(cached)) {
+            return null;
+        }
+        Index index;
+        boolean touched;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cached)))) {
+            Fingerprint stored = Fingerprint.read(in);
+            if (stored == null || !stored.path.equals(fingerprint.path)) {
+                return null;
+            }
+            touched = stored.size != fingerprint.size || stored.lastModified != fingerprint.lastModified;
+            // Only hash the content if the jar was touched, it may still be the same
+            if (touched && !stored.hash.equals(fingerprint.hash())) {
+                return null;
+            }
+            index = new IndexReader(in).read();
+        } catch (IOException | RuntimeException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotUseIndexCache(cached.toString(), ex);
+            return null;
+        }
+        if (touched) {
+            // So the next start does not need to hash it again
+            write(cached, fingerprint, index);
+        }
+        return index;
+    }
+
+    private void write(Path cached, Fingerprint fingerprint, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            // Write to a temporary file first, so that a concurrent start never sees half a file
+            tmp = Files.createTempFile(directory, cached.getFileName().toString(), TMP);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                fingerprint.write(out);
+                new IndexWriter(out).write(index);
+            }
+            Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotUseIndexCache(cached.toString(), ex);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignore) {
+                    // Nothing more we can do
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the index of a jar
+     */
+    interface JarIndexer {
+        Index index(Path jar) throws IOException;
+    }
+
+    private static class Fingerprint {
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        // Of the content, only computed when it is needed
+        private String hash;
+
+        private Fingerprint(String path, long size, long lastModified, String hash) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        static Fingerprint of(Path jar) throws IOException {
+            Path absolute = jar.toAbsolutePath();
+            long size = Files.size(absolute);
+            long lastModified = Files.getLastModifiedTime(absolute).toMillis();
+            return new Fingerprint(absolute.toString(), size, lastModified, null);
+        }
+
+        static Fingerprint read(DataInputStream in) throws IOException {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            return new Fingerprint(in.readUTF(), in.readLong(), in.readLong(), in.readUTF());
+        }
+
+        String hash() throws IOException {
+            if (hash == null) {
+                MessageDigest digest = newDigest();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                try (InputStream in = Files.newInputStream(Paths.get(path))) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+                hash = hex(digest.digest());
+            }
+            return hash;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(path);
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeUTF(hash());
+        }
+    }
+
+    private static byte[] digest(byte[] bytes) {
+        return newDigest().digest(bytes);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static final int MAGIC = 0x53524749; // SRGI
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String DIGEST = "SHA-256";
+    private static final String DOT_IDX = ".idx";
+    private static final String TMP = ".tmp";
+}
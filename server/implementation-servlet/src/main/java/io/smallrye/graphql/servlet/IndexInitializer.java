@@ -1,5 +1,8 @@
 package io.smallrye.graphql.servlet;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -13,15 +16,22 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
@@ -30,32 +40,39 @@ import org.jboss.jandex.Indexer;
  * This creates an index from the classpath.
  * Based on similar class in LRA
  * (https://github.com/jbosstm/narayana/blob/master/rts/lra/lra-proxy/api/src/main/java/io/narayana/lra/client/internal/proxy/nonjaxrs/ClassPathIndexer.java)
- * 
+ *
+ * Every jar or folder that contains a {@code META-INF/jandex.idx} is not scanned, that index is used as is (if it can
+ * be read).
+ * The others are indexed in parallel (one task per jar or folder), and all indexes are merged.
+ * Optionally the indexes of jars are kept in a cache directory, and reused on the next start if the jar did not change.
+ *
+ * Optionally only the classes that reference GraphQL or JSON-B annotations are indexed (see {@link ClassFilePrefilter}),
+ * the others are indexed when the schema builder asks for them (see {@link LazyIndex}).
+ * Jars that are cached are always fully indexed, as a cached index is cheap to load anyway.
+ *
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class IndexInitializer {
 
-    public IndexView createIndex(Set<URL> urls) {
-        List<IndexView> indexes = new ArrayList<>();
-
-        // TODO: Read all jandex.idx in the classpath: 
-        // something like Enumeration<URL> systemResources = ClassLoader.getSystemResources(JANDEX_IDX);
+    private final IndexCache indexCache;
+    private final boolean prefilter;
 
-        // Check in this war
-        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(JANDEX_IDX)) {
-            IndexReader reader = new IndexReader(stream);
-            IndexView i = reader.read();
-            SmallRyeGraphQLServletLogging.log.loadedIndexFrom(JANDEX_IDX);
-            indexes.add(i);
-        } catch (IOException ex) {
-            SmallRyeGraphQLServletLogging.log.generatingIndex();
-        }
+    public IndexInitializer() {
+        this(null, false);
+    }
 
-        // Classes in this artifact
-        IndexView i = createIndexView(urls);
-        indexes.add(i);
+    /**
+     * @param indexCacheDirectory where to keep the indexes of jars between starts (not shared with other applications),
+     *        or null to not cache
+     * @param prefilter only index the classes that reference GraphQL or JSON-B annotations up front
+     */
+    public IndexInitializer(Path indexCacheDirectory, boolean prefilter) {
+        this.indexCache = indexCacheDirectory != null ? new IndexCache(indexCacheDirectory) : null;
+        this.prefilter = prefilter;
+    }
 
-        return merge(indexes);
+    public IndexView createIndex(Set<URL> urls) {
+        return createIndexView(urls);
     }
 
     public IndexView createIndex() {
@@ -64,21 +81,53 @@ public class IndexInitializer {
     }
 
     private IndexView createIndexView(Set<URL> urls) {
-        Indexer indexer = new Indexer();
-        for (URL url : urls) {
-            try {
-                if (url.toString().endsWith(DOT_JAR) || url.toString().endsWith(DOT_WAR)) {
-                    SmallRyeGraphQLServletLogging.log.processingFile(url.toString());
-                    processJar(url.openStream(), indexer);
-                } else {
-                    processFolder(url, indexer);
+        Map<String, LazyIndex.DeferredClass> deferred = prefilter ? new ConcurrentHashMap<>() : null;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(urls.size(), PARALLELISM)));
+        try {
+            List<ForkJoinTask<IndexView>> tasks = new ArrayList<>();
+            for (URL url : urls) {
+                tasks.add(pool.submit(() -> createIndexView(url, deferred)));
+            }
+            List<IndexView> indexes = new ArrayList<>();
+            for (ForkJoinTask<IndexView> task : tasks) {
+                IndexView index = task.join();
+                if (index != null) {
+                    indexes.add(index);
                 }
-            } catch (IOException ex) {
-                SmallRyeGraphQLServletLogging.log.cannotProcessFile(url.toString(), ex);
             }
+            if (indexCache != null) {
+                indexCache.prune();
+            }
+            IndexView index = merge(indexes);
+            if (deferred != null && !deferred.isEmpty()) {
+                return new LazyIndex(index, deferred);
+            }
+            return index;
+        } finally {
+            pool.shutdown();
         }
+    }
 
-        return indexer.complete();
+    private IndexView createIndexView(URL url, Map<String, LazyIndex.DeferredClass> deferred) {
+        try {
+            if (url.toString().endsWith(DOT_JAR) || url.toString().endsWith(DOT_WAR)) {
+                SmallRyeGraphQLServletLogging.log.processingFile(url.toString());
+                if (FILE.equals(url.getProtocol())) {
+                    return processJar(toPath(url), deferred);
+                }
+                // Not on the file system, so we can only stream it
+                Indexer indexer = new Indexer();
+                try (InputStream stream = url.openStream()) {
+                    processNestedJar(stream, indexer);
+                }
+                return indexer.complete();
+            } else {
+                return processFolder(url, deferred);
+            }
+        } catch (IOException | URISyntaxException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotProcessFile(url.toString(), ex);
+            return null;
+        }
     }
 
     private Set<URL> collectURLsFromClassPath() {
@@ -94,32 +143,105 @@ public class IndexInitializer {
         return urls;
     }
 
-    private void processFolder(URL url, Indexer indexer) throws IOException {
-        try {
-            Path folderPath = Paths.get(url.toURI());
-            if (Files.isDirectory(folderPath)) {
-                try (Stream<Path> walk = Files.walk(folderPath)) {
+    private IndexView processFolder(URL url, Map<String, LazyIndex.DeferredClass> deferred)
+            throws IOException, URISyntaxException {
+        Path folderPath = toPath(url);
+        if (!Files.isDirectory(folderPath)) {
+            SmallRyeGraphQLServletLogging.log.ignoringUrl(url);
+            return null;
+        }
 
-                    List<Path> collected = walk
-                            .filter(Files::isRegularFile)
-                            .collect(Collectors.toList());
+        Path jandexIdx = folderPath.resolve(JANDEX_IDX);
+        if (Files.isRegularFile(jandexIdx)) {
+            try (InputStream stream = Files.newInputStream(jandexIdx)) {
+                IndexView index = readIndex(stream, jandexIdx.toString());
+                if (index != null) {
+                    return index;
+                }
+            }
+        }
+
+        Indexer indexer = new Indexer();
+        try (Stream<Path> walk = Files.walk(folderPath)) {
+            List<Path> collected = walk
+                    .filter(Files::isRegularFile)
+                    .collect(Collectors.toList());
 
-                    for (Path c : collected) {
-                        String entryName = c.getFileName().toString();
-                        processFile(entryName, Files.newInputStream(c), indexer);
+            for (Path c : collected) {
+                String entryName = c.getFileName().toString();
+                try (InputStream stream = Files.newInputStream(c)) {
+                    if (deferred != null && entryName.endsWith(DOT_CLASS)) {
+                        String className = folderPath.relativize(c).toString().replace(c.getFileSystem().getSeparator(),
+                                "/");
+                        processClass(className, stream, indexer, deferred, () -> Files.newInputStream(c));
+                    } else {
+                        processFile(entryName, stream, indexer);
                     }
                 }
-            } else {
-                SmallRyeGraphQLServletLogging.log.ignoringUrl(url);
             }
+        }
+        return indexer.complete();
+    }
+
+    private IndexView processJar(Path jar, Map<String, LazyIndex.DeferredClass> deferred) throws IOException {
+        // ZipFile reads the central directory, so we can look up (and read) entries without streaming the whole jar
+        try (ZipFile zipFile = new ZipFile(jar.toFile(), StandardCharsets.UTF_8)) {
+            ZipEntry jandexIdx = zipFile.getEntry(JANDEX_IDX);
+            if (jandexIdx != null) {
+                try (InputStream stream = zipFile.getInputStream(jandexIdx)) {
+                    IndexView index = readIndex(stream, jar + "!/" + JANDEX_IDX);
+                    if (index != null) {
+                        return index;
+                    }
+                }
+            }
+        }
 
-        } catch (URISyntaxException ex) {
-            SmallRyeGraphQLServletLogging.log.couldNotProcessUrl(url, ex);
+        if (indexCache != null) {
+            return indexCache.get(jar, j -> indexJar(j, null));
         }
+        return indexJar(jar, deferred);
     }
 
-    private void processJar(InputStream inputStream, Indexer indexer) throws IOException {
+    /**
+     * Read an embedded index
+     *
+     * @return the index, or null if it can not be read (e.g. it is corrupt, or written by a newer Jandex), so the
+     *         classes are scanned instead
+     */
+    private IndexView readIndex(InputStream stream, String location) {
+        try {
+            IndexView index = new IndexReader(stream).read();
+            SmallRyeGraphQLServletLogging.log.loadedIndexFrom(location);
+            return index;
+        } catch (IOException | RuntimeException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotReadIndex(location, ex);
+            return null;
+        }
+    }
+
+    private Index indexJar(Path jar, Map<String, LazyIndex.DeferredClass> deferred) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar.toFile(), StandardCharsets.UTF_8)) {
+            Indexer indexer = new Indexer();
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (entryName.endsWith(DOT_CLASS) || entryName.endsWith(DOT_WAR)) {
+                    try (InputStream stream = zipFile.getInputStream(entry)) {
+                        if (deferred != null && entryName.endsWith(DOT_CLASS)) {
+                            processClass(entryName, stream, indexer, deferred, () -> openEntry(jar, entryName));
+                        } else {
+                            processFile(entryName, stream, indexer);
+                        }
+                    }
+                }
+            }
+            return indexer.complete();
+        }
+    }
 
+    private void processNestedJar(InputStream inputStream, Indexer indexer) throws IOException {
         ZipInputStream zis = new ZipInputStream(inputStream, StandardCharsets.UTF_8);
         ZipEntry ze;
 
@@ -135,10 +257,60 @@ public class IndexInitializer {
             indexer.index(is);
         } else if (fileName.endsWith(DOT_WAR)) {
             // necessary because of the thorntail arquillian adapter
-            processJar(is, indexer);
+            processNestedJar(is, indexer);
         }
     }
 
+    /**
+     * Index the class if it passes the prefilter, else remember where to find it
+     */
+    private void processClass(String path, InputStream is, Indexer indexer, Map<String, LazyIndex.DeferredClass> deferred,
+            LazyIndex.ClassSource source) throws IOException {
+        byte[] classFile = readAll(is);
+        ClassFilePrefilter.Hierarchy hierarchy = ClassFilePrefilter.scan(classFile);
+        if (hierarchy == null) {
+            SmallRyeGraphQLServletLogging.log.processingFile(path);
+            indexer.index(new ByteArrayInputStream(classFile));
+        } else {
+            String className = path.substring(0, path.length() - DOT_CLASS.length()).replace('/', '.');
+            deferred.put(className, new LazyIndex.DeferredClass(source, hierarchy));
+        }
+    }
+
+    private InputStream openEntry(Path jar, String entryName) throws IOException {
+        ZipFile zipFile = new ZipFile(jar.toFile(), StandardCharsets.UTF_8);
+        try {
+            // Closing the stream also closes the jar
+            return new FilterInputStream(zipFile.getInputStream(zipFile.getEntry(entryName))) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zipFile.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException ex) {
+            zipFile.close();
+            throw ex;
+        }
+    }
+
+    private byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private Path toPath(URL url) throws URISyntaxException {
+        return Paths.get(url.toURI());
+    }
+
     private IndexView merge(Collection<IndexView> indexes) {
         return CompositeIndex.create(indexes);
     }
@@ -155,6 +327,9 @@ public class IndexInitializer {
         return urls;
     }
 
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final String FILE = "file";
     private static final String DOT_JAR = ".jar";
     private static final String DOT_WAR = ".war";
     private static final String DOT_CLASS = ".class";
@@ -0,0 +1,193 @@
+package io.smallrye.graphql.servlet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+/**
+ * An index of the classes that passed the {@link ClassFilePrefilter}, that indexes the other classes when they are
+ * asked for by name.
+ *
+ * {@link #getClassByName(DotName)} and the subclass and implementor lookups also see the classes that are not indexed
+ * yet (their hierarchy is known from the prefilter), and index them when they are returned.
+ * {@link #getKnownClasses()} and {@link #getAnnotations(DotName)} only see the prefiltered classes. That is all the schema
+ * builder needs, as the annotations it looks for survive the prefilter.
+ */
+class LazyIndex implements IndexView {
+
+    private final IndexView index;
+    private final Map<String, DeferredClass> deferred;
+    private final Map<String, List<String>> deferredSubclasses = new HashMap<>();
+    private final Map<String, List<String>> deferredImplementors = new HashMap<>();
+    private final Map<String, ClassInfo> indexedOnDemand = new ConcurrentHashMap<>();
+
+    LazyIndex(IndexView index, Map<String, DeferredClass> deferred) {
+        this.index = index;
+        this.deferred = deferred;
+        for (Map.Entry<String, DeferredClass> entry : deferred.entrySet()) {
+            ClassFilePrefilter.Hierarchy hierarchy = entry.getValue().hierarchy;
+            if (hierarchy.getSuperName() != null) {
+                deferredSubclasses.computeIfAbsent(hierarchy.getSuperName(), k -> new ArrayList<>()).add(entry.getKey());
+            }
+            for (String interfaceName : hierarchy.getInterfaceNames()) {
+                deferredImplementors.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+    }
+
+    @Override
+    public ClassInfo getClassByName(DotName className) {
+        ClassInfo classInfo = index.getClassByName(className);
+        if (classInfo != null) {
+            return classInfo;
+        }
+        String name = className.toString();
+        DeferredClass deferredClass = deferred.get(name);
+        if (deferredClass == null) {
+            return null;
+        }
+        return indexedOnDemand.computeIfAbsent(name, n -> indexOnDemand(n, deferredClass.source));
+    }
+
+    private ClassInfo indexOnDemand(String name, ClassSource source) {
+        try (InputStream stream = source.open()) {
+            SmallRyeGraphQLServletLogging.log.indexingOnDemand(name);
+            return new Indexer().index(stream);
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotProcessFile(name, ex);
+            return null;
+        }
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownClasses() {
+        return index.getKnownClasses();
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
+        return toClassInfos(directSubclasses(className.toString()));
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
+        Set<String> subclasses = new LinkedHashSet<>();
+        addAllSubclasses(className.toString(), subclasses);
+        return toClassInfos(subclasses);
+    }
+
+    @Override
+    public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
+        return toClassInfos(directImplementors(className.toString()));
+    }
+
+    @Override
+    public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
+        Set<String> implementors = new LinkedHashSet<>();
+        Set<String> interfaces = new LinkedHashSet<>();
+        Queue<String> todo = new ArrayDeque<>();
+        todo.add(interfaceName.toString());
+        while (!todo.isEmpty()) {
+            String current = todo.poll();
+            if (!interfaces.add(current)) {
+                continue;
+            }
+            for (String implementor : directImplementors(current)) {
+                if (isInterface(implementor)) {
+                    todo.add(implementor);
+                } else if (implementors.add(implementor)) {
+                    addAllSubclasses(implementor, implementors);
+                }
+            }
+        }
+        return toClassInfos(implementors);
+    }
+
+    @Override
+    public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+        return index.getAnnotations(annotationName);
+    }
+
+    private void addAllSubclasses(String className, Set<String> subclasses) {
+        for (String subclass : directSubclasses(className)) {
+            if (subclasses.add(subclass)) {
+                addAllSubclasses(subclass, subclasses);
+            }
+        }
+    }
+
+    private Set<String> directSubclasses(String className) {
+        Set<String> subclasses = new LinkedHashSet<>();
+        for (ClassInfo classInfo : index.getKnownDirectSubclasses(DotName.createSimple(className))) {
+            subclasses.add(classInfo.name().toString());
+        }
+        subclasses.addAll(deferredSubclasses.getOrDefault(className, Collections.emptyList()));
+        return subclasses;
+    }
+
+    private Set<String> directImplementors(String interfaceName) {
+        Set<String> implementors = new LinkedHashSet<>();
+        for (ClassInfo classInfo : index.getKnownDirectImplementors(DotName.createSimple(interfaceName))) {
+            implementors.add(classInfo.name().toString());
+        }
+        implementors.addAll(deferredImplementors.getOrDefault(interfaceName, Collections.emptyList()));
+        return implementors;
+    }
+
+    private boolean isInterface(String className) {
+        DeferredClass deferredClass = deferred.get(className);
+        if (deferredClass != null) {
+            return deferredClass.hierarchy.isInterface();
+        }
+        ClassInfo classInfo = index.getClassByName(DotName.createSimple(className));
+        return classInfo != null && Modifier.isInterface(classInfo.flags());
+    }
+
+    private List<ClassInfo> toClassInfos(Collection<String> classNames) {
+        List<ClassInfo> classInfos = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            ClassInfo classInfo = getClassByName(DotName.createSimple(className));
+            if (classInfo != null) {
+                classInfos.add(classInfo);
+            }
+        }
+        return classInfos;
+    }
+
+    /**
+     * Where to read a class file from, once it is needed
+     */
+    interface ClassSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * A class that is not indexed yet
+     */
+    static class DeferredClass {
+        private final ClassSource source;
+        private final ClassFilePrefilter.Hierarchy hierarchy;
+
+        DeferredClass(ClassSource source, ClassFilePrefilter.Hierarchy hierarchy) {
+            this.source = source;
+            this.hierarchy = hierarchy;
+        }
+    }
+}
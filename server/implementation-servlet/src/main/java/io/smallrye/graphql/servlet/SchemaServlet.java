@@ -1,7 +1,7 @@
 package io.smallrye.graphql.servlet;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 
 import javax.inject.Inject;
 import javax.servlet.annotation.WebServlet;
@@ -10,10 +10,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.execution.ExecutionService;
 import io.smallrye.graphql.execution.SchemaPrinter;
 
 /**
  * Serving the GraphQL schema
+ *
+ * The schema is printed once (per version of the schema), and served with a strong ETag, so clients can ask if it
+ * changed (If-None-Match) and get a 304 if it did not.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
@@ -25,6 +29,11 @@ public class SchemaServlet extends HttpServlet {
     @Inject
     private SchemaPrinter schemaPrinter;
 
+    @Inject
+    private ExecutionService executionService;
+
+    private transient volatile PrintedSchema printedSchema;
+
     public SchemaServlet() {
     }
 
@@ -34,16 +43,54 @@ public class SchemaServlet extends HttpServlet {
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+        PrintedSchema printed = getPrintedSchema(getSchema(request));
+        response.setHeader(HttpCaching.ETAG, printed.etag);
+        if (HttpCaching.isNotModified(request, printed.etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
         response.setContentType(CONTENT_TYPE);
-        try (PrintWriter out = response.getWriter()) {
-            GraphQLSchema schema = (GraphQLSchema) request.getServletContext().getAttribute(SCHEMA_PROP);
-            out.print(schemaPrinter.print(schema));
-            out.flush();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(printed.bytes.length);
+        try {
+            response.getOutputStream().write(printed.bytes);
         } catch (IOException ex) {
             SmallRyeGraphQLServletLogging.log.ioException(ex);
         }
     }
 
+    private PrintedSchema getPrintedSchema(GraphQLSchema schema) {
+        PrintedSchema printed = this.printedSchema;
+        if (printed == null || printed.schema != schema) {
+            printed = new PrintedSchema(schema, schemaPrinter.print(schema));
+            this.printedSchema = printed;
+        }
+        return printed;
+    }
+
+    private GraphQLSchema getSchema(HttpServletRequest request) {
+        // The schema might have been updated since startup
+        if (executionService != null && executionService.getGraphQLSchema() != null) {
+            return executionService.getGraphQLSchema();
+        }
+        return (GraphQLSchema) request.getServletContext().getAttribute(SCHEMA_PROP);
+    }
+
+    /**
+     * The printed schema, for one version of the schema
+     */
+    private static class PrintedSchema {
+        private final GraphQLSchema schema;
+        private final byte[] bytes;
+        private final String etag;
+
+        PrintedSchema(GraphQLSchema schema, String printed) {
+            this.schema = schema;
+            this.bytes = printed.getBytes(StandardCharsets.UTF_8);
+            this.etag = HttpCaching.etag(bytes);
+        }
+    }
+
     private static final String CONTENT_TYPE = "text/plain";
 
 }
@@ -55,6 +55,30 @@ public interface SmallRyeGraphQLServletLogging {
     @Message(id = 20008, value = "SmallRye GraphQL destroyed")
     void destroyed();
 
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 20009, value = "Loaded schema model from [%s]")
+    void loadedSchemaModelFrom(String path);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 20010, value = "Can not use schema model [%s], scanning the classes instead")
+    void cannotUseSchemaModel(String path, @Cause Exception cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 20011, value = "Loaded cached index for [%s]")
+    void loadedCachedIndex(String path);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 20012, value = "Can not use the index cache for [%s]")
+    void cannotUseIndexCache(String path, @Cause Exception cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 20013, value = "Indexing [%s] on demand")
+    void indexingOnDemand(String className);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 20014, value = "Can not read index [%s], scanning the classes instead")
+    void cannotReadIndex(String path, @Cause Exception cause);
+
     /* 21000-21999: query processing related logs */
 
     @LogMessage(level = Logger.Level.ERROR)
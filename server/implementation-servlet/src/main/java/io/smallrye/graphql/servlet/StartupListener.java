@@ -1,6 +1,7 @@
 package io.smallrye.graphql.servlet;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
@@ -13,6 +14,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
+import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import javax.servlet.annotation.WebListener;
@@ -20,8 +22,10 @@ import javax.servlet.annotation.WebListener;
 import org.jboss.jandex.IndexView;
 
 import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.cdi.config.GraphQLConfig;
 import io.smallrye.graphql.cdi.producer.GraphQLProducer;
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaModelFile;
 import io.smallrye.graphql.schema.model.Schema;
 
 /**
@@ -35,25 +39,17 @@ public class StartupListener implements ServletContextListener {
     @Inject
     private GraphQLProducer graphQLProducer;
 
-    private final IndexInitializer indexInitializer = new IndexInitializer();
+    @Inject
+    private GraphQLConfig config;
 
     @Override
     public void contextInitialized(ServletContextEvent sce) {
 
         try {
-            Set<URL> warURLs = new HashSet<>();
-            // Classes in the war
-            String warClasses = sce.getServletContext().getRealPath("WEB-INF/classes");
-            warURLs.add(Paths.get(warClasses).toUri().toURL());
-
-            // Libs in the war
-            String libs = sce.getServletContext().getRealPath("WEB-INF/lib");
-            List<Path> jarsInLib = getJarsInLib(Paths.get(libs));
-            warURLs.addAll(toURLs(jarsInLib));
-
-            IndexView index = indexInitializer.createIndex(warURLs);
-
-            Schema schema = SchemaBuilder.build(index); // Get the smallrye schema
+            Schema schema = loadSchemaModel(sce.getServletContext());
+            if (schema == null) {
+                schema = scan(sce.getServletContext());
+            }
             GraphQLSchema graphQLSchema = graphQLProducer.initialize(schema);
 
             sce.getServletContext().setAttribute(SchemaServlet.SCHEMA_PROP, graphQLSchema);
@@ -68,6 +64,43 @@ public class StartupListener implements ServletContextListener {
         SmallRyeGraphQLServletLogging.log.destroyed();
     }
 
+    /**
+     * Load the schema model that was created at build time (see the Maven and Gradle plugins), if there is one
+     *
+     * @param servletContext the servlet context
+     * @return the model, or null if there is none, or it can not be used
+     */
+    private Schema loadSchemaModel(ServletContext servletContext) {
+        try (InputStream in = servletContext.getResourceAsStream(MODEL_PATH)) {
+            if (in == null) {
+                return null;
+            }
+            Schema schema = SchemaModelFile.read(in);
+            SmallRyeGraphQLServletLogging.log.loadedSchemaModelFrom(MODEL_PATH);
+            return schema;
+        } catch (IOException | RuntimeException ex) {
+            SmallRyeGraphQLServletLogging.log.cannotUseSchemaModel(MODEL_PATH, ex);
+            return null;
+        }
+    }
+
+    private Schema scan(ServletContext servletContext) throws MalformedURLException {
+        Set<URL> warURLs = new HashSet<>();
+        // Classes in the war
+        String warClasses = servletContext.getRealPath("WEB-INF/classes");
+        warURLs.add(Paths.get(warClasses).toUri().toURL());
+
+        // Libs in the war
+        String libs = servletContext.getRealPath("WEB-INF/lib");
+        List<Path> jarsInLib = getJarsInLib(Paths.get(libs));
+        warURLs.addAll(toURLs(jarsInLib));
+
+        Path indexCacheDirectory = config.getIndexCacheDirectory().map(Paths::get).orElse(null);
+        IndexView index = new IndexInitializer(indexCacheDirectory, config.isIndexPrefilter()).createIndex(warURLs);
+
+        return SchemaBuilder.build(index); // Get the smallrye schema
+    }
+
     private List<URL> toURLs(List<Path> paths) throws MalformedURLException {
         List<URL> urls = new ArrayList<>();
         for (Path path : paths) {
@@ -89,4 +122,6 @@ public class StartupListener implements ServletContextListener {
         }
         return jars;
     }
+
+    private static final String MODEL_PATH = "/WEB-INF/classes/" + SchemaModelFile.LOCATION;
 }
@@ -0,0 +1,158 @@
+package io.smallrye.graphql.servlet;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonWriter;
+import javax.json.JsonWriterFactory;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.smallrye.graphql.cdi.config.GraphQLConfig;
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.execution.OperationStatistics;
+
+/**
+ * Serving the top operations, by total time, p99 latency or error rate.
+ *
+ * GET /graphql/stats?top=20&amp;orderBy=totalTime|p99|errorRate returns the statistics, DELETE resets them.
+ * Both are only served to users in the role that is configured with {@code smallrye.graphql.statistics.role}, and not
+ * at all if no role is configured.
+ */
+@WebServlet(name = "SmallRyeGraphQLStatisticsServlet", urlPatterns = { "/graphql/stats" }, loadOnStartup = 3)
+public class StatisticsServlet extends HttpServlet {
+    private static final long serialVersionUID = 4415372563104562127L;
+
+    private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
+
+    @Inject
+    ExecutionService executionService;
+
+    @Inject
+    GraphQLConfig config;
+
+    public StatisticsServlet() {
+    }
+
+    public StatisticsServlet(ExecutionService executionService, GraphQLConfig config) {
+        this.executionService = executionService;
+        this.config = config;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+        try {
+            OperationStatistics statistics = getOperationStatistics(request, response);
+            if (statistics == null) {
+                return;
+            }
+            int top = DEFAULT_TOP;
+            OperationStatistics.Order order;
+            try {
+                String topParameter = request.getParameter(TOP);
+                if (topParameter != null) {
+                    top = Integer.parseInt(topParameter);
+                    if (top < 1) {
+                        throw new IllegalArgumentException("top must be at least 1, but was " + top);
+                    }
+                }
+                order = toOrder(request.getParameter(ORDER_BY));
+            } catch (IllegalArgumentException ex) {
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, ex.getMessage());
+                return;
+            }
+
+            JsonArrayBuilder operations = Json.createArrayBuilder();
+            for (OperationStatistics.Summary summary : statistics.getTop(top, order)) {
+                operations.add(toJson(summary));
+            }
+
+            response.setContentType(CONTENT_TYPE);
+            response.setCharacterEncoding("UTF-8");
+            try (PrintWriter out = response.getWriter();
+                    JsonWriter jsonWriter = jsonWriterFactory.createWriter(out)) {
+                jsonWriter.writeObject(Json.createObjectBuilder().add("operations", operations).build());
+            }
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.ioException(ex);
+        }
+    }
+
+    @Override
+    protected void doDelete(HttpServletRequest request, HttpServletResponse response) {
+        try {
+            OperationStatistics statistics = getOperationStatistics(request, response);
+            if (statistics == null) {
+                return;
+            }
+            statistics.reset();
+            response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+        } catch (IOException ex) {
+            SmallRyeGraphQLServletLogging.log.ioException(ex);
+        }
+    }
+
+    /**
+     * Get the statistics if they are enabled and the user may see them, else send the error
+     */
+    private OperationStatistics getOperationStatistics(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        OperationStatistics statistics = executionService.getOperationStatistics();
+        Optional<String> role = config.getOperationStatisticsRole();
+        if (statistics == null || !role.isPresent()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "Operation statistics are not enabled");
+            return null;
+        }
+        if (!request.isUserInRole(role.get())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return null;
+        }
+        return statistics;
+    }
+
+    private OperationStatistics.Order toOrder(String orderBy) {
+        if (orderBy == null || orderBy.equalsIgnoreCase("totalTime")) {
+            return OperationStatistics.Order.TOTAL_TIME;
+        } else if (orderBy.equalsIgnoreCase("p99")) {
+            return OperationStatistics.Order.P99;
+        } else if (orderBy.equalsIgnoreCase("errorRate")) {
+            return OperationStatistics.Order.ERROR_RATE;
+        }
+        throw new IllegalArgumentException("Unknown orderBy [" + orderBy + "], expected one of "
+                + ORDER_BY_VALUES);
+    }
+
+    private JsonObjectBuilder toJson(OperationStatistics.Summary summary) {
+        JsonObjectBuilder builder = Json.createObjectBuilder()
+                .add("hash", summary.getHash());
+        if (summary.getOperationName() != null) {
+            builder.add("operationName", summary.getOperationName());
+        }
+        if (summary.getSignature() != null) {
+            builder.add("signature", summary.getSignature());
+        }
+        return builder.add("count", summary.getCount())
+                .add("errors", summary.getErrors())
+                .add("errorRate", summary.getErrorRate())
+                .add("totalTimeNanos", summary.getTotalTimeNanos())
+                .add("averageTimeNanos", summary.getAverageTimeNanos())
+                .add("p50Nanos", summary.getP50Nanos())
+                .add("p99Nanos", summary.getP99Nanos())
+                .add("averageResponseSize", summary.getAverageResponseSize());
+    }
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final String TOP = "top";
+    private static final String ORDER_BY = "orderBy";
+    private static final int DEFAULT_TOP = 20;
+    private static final List<String> ORDER_BY_VALUES = Arrays.asList("totalTime", "p99", "errorRate");
+}
@@ -0,0 +1,221 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test walking the constant pool of class files
+ */
+public class ClassFilePrefilterTest {
+
+    @Test
+    public void testCompiledClass() throws IOException {
+        ClassFilePrefilter.Hierarchy hierarchy = ClassFilePrefilter.scan(classFile(Plain.class));
+
+        assertNotNull(hierarchy);
+        assertFalse(hierarchy.isInterface());
+        assertEquals(Base.class.getName(), hierarchy.getSuperName());
+        assertEquals(Arrays.asList(Serializable.class.getName(), Supplier.class.getName()),
+                hierarchy.getInterfaceNames());
+    }
+
+    @Test
+    public void testCompiledInterface() throws IOException {
+        ClassFilePrefilter.Hierarchy hierarchy = ClassFilePrefilter.scan(classFile(Shape.class));
+
+        assertNotNull(hierarchy);
+        assertTrue(hierarchy.isInterface());
+        assertEquals(Object.class.getName(), hierarchy.getSuperName());
+        assertEquals(Collections.singletonList(Serializable.class.getName()), hierarchy.getInterfaceNames());
+    }
+
+    @Test
+    public void testUnusualConstants() throws IOException {
+        ClassFile classFile = new ClassFile();
+        classFile.longConstant(42L);
+        classFile.doubleConstant(4.2d);
+        classFile.constant(CONSTANT_INTEGER, 4);
+        classFile.constant(CONSTANT_FLOAT, 4);
+        classFile.constant(CONSTANT_METHOD_HANDLE, 3);
+        classFile.constant(CONSTANT_METHOD_TYPE, 2);
+        classFile.constant(CONSTANT_DYNAMIC, 4);
+        classFile.constant(CONSTANT_INVOKE_DYNAMIC, 4);
+        classFile.constant(CONSTANT_MODULE, 2);
+        classFile.constant(CONSTANT_PACKAGE, 2);
+
+        ClassFilePrefilter.Hierarchy hierarchy = ClassFilePrefilter.scan(classFile.build("com/example/Sub",
+                "com/example/Super", "com/example/Api"));
+
+        assertNotNull(hierarchy);
+        assertEquals("com.example.Super", hierarchy.getSuperName());
+        assertEquals(Collections.singletonList("com.example.Api"), hierarchy.getInterfaceNames());
+    }
+
+    @Test
+    public void testReferenceToAnnotation() throws IOException {
+        ClassFile graphql = new ClassFile();
+        graphql.longConstant(42L);
+        graphql.utf8("Lorg/eclipse/microprofile/graphql/Query;");
+        assertNull(ClassFilePrefilter.scan(graphql.build("com/example/Api", "java/lang/Object")));
+
+        ClassFile jsonb = new ClassFile();
+        jsonb.utf8("Ljavax/json/bind/annotation/JsonbProperty;");
+        assertNull(ClassFilePrefilter.scan(jsonb.build("com/example/Api", "java/lang/Object")));
+
+        // Only the package counts
+        ClassFile other = new ClassFile();
+        other.utf8("org/eclipse/microprofile/graphqlish/Query");
+        assertNotNull(ClassFilePrefilter.scan(other.build("com/example/Api", "java/lang/Object")));
+    }
+
+    @Test
+    public void testUnknownConstant() throws IOException {
+        ClassFile classFile = new ClassFile();
+        classFile.constant(2, 4);
+
+        assertNull(ClassFilePrefilter.scan(classFile.build("com/example/Api", "java/lang/Object")));
+    }
+
+    @Test
+    public void testNotAClassFile() throws IOException {
+        assertNull(ClassFilePrefilter.scan(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }));
+        byte[] truncated = Arrays.copyOf(classFile(Plain.class), 64);
+        assertNull(ClassFilePrefilter.scan(truncated));
+    }
+
+    @Test
+    public void testModuleInfo() throws IOException {
+        // No super class
+        ClassFilePrefilter.Hierarchy hierarchy = ClassFilePrefilter.scan(new ClassFile().build("module-info", null));
+
+        assertNotNull(hierarchy);
+        assertNull(hierarchy.getSuperName());
+    }
+
+    private static byte[] classFile(Class<?> type) throws IOException {
+        String name = type.getName();
+        try (InputStream in = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the start of a class file, up to the interfaces, which is all the prefilter reads
+     */
+    private static class ClassFile {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream pool = new DataOutputStream(bytes);
+        private int count = 1;
+
+        void utf8(String value) throws IOException {
+            pool.writeByte(CONSTANT_UTF8);
+            pool.writeUTF(value);
+            count++;
+        }
+
+        void longConstant(long value) throws IOException {
+            pool.writeByte(CONSTANT_LONG);
+            pool.writeLong(value);
+            count += 2;
+        }
+
+        void doubleConstant(double value) throws IOException {
+            pool.writeByte(CONSTANT_DOUBLE);
+            pool.writeDouble(value);
+            count += 2;
+        }
+
+        void constant(int tag, int length) throws IOException {
+            pool.writeByte(tag);
+            pool.write(new byte[length]);
+            count++;
+        }
+
+        int classConstant(String name) throws IOException {
+            utf8(name);
+            pool.writeByte(CONSTANT_CLASS);
+            pool.writeShort(count - 1);
+            return count++;
+        }
+
+        byte[] build(String name, String superName, String... interfaceNames) throws IOException {
+            int thisClass = classConstant(name);
+            int superClass = superName == null ? 0 : classConstant(superName);
+            int[] interfaces = new int[interfaceNames.length];
+            for (int i = 0; i < interfaces.length; i++) {
+                interfaces[i] = classConstant(interfaceNames[i]);
+            }
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(result);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            out.writeShort(count);
+            pool.flush();
+            bytes.writeTo(out);
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int index : interfaces) {
+                out.writeShort(index);
+            }
+            out.flush();
+            return result.toByteArray();
+        }
+    }
+
+    public static class Base {
+    }
+
+    public static class Plain extends Base implements Serializable, Supplier<String> {
+        private static final long serialVersionUID = 1L;
+        private final long big = 1234567890123L;
+        private final double ratio = 0.5d;
+
+        @Override
+        public String get() {
+            // Uses invokedynamic and method handles in the constant pool
+            Supplier<String> supplier = () -> "plain" + big + ratio;
+            return supplier.get();
+        }
+    }
+
+    public interface Shape extends Serializable {
+    }
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+}
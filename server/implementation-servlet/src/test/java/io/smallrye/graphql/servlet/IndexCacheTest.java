@@ -0,0 +1,150 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test when the cached index of a jar is used, and when the jar is indexed again
+ */
+public class IndexCacheTest {
+
+    @TempDir
+    Path work;
+
+    private Path jar;
+    private Path directory;
+    private IndexCache indexCache;
+    private final AtomicInteger indexed = new AtomicInteger();
+
+    private final IndexCache.JarIndexer indexer = path -> {
+        indexed.incrementAndGet();
+        Indexer jandex = new Indexer();
+        try (InputStream stream = IndexCacheTest.class.getResourceAsStream("IndexCacheTest.class")) {
+            jandex.index(stream);
+        }
+        return jandex.complete();
+    };
+
+    @BeforeEach
+    public void init() throws IOException {
+        jar = work.resolve("app.jar");
+        Files.write(jar, "version 1".getBytes(StandardCharsets.UTF_8));
+        directory = work.resolve("cache");
+        indexCache = new IndexCache(directory);
+    }
+
+    @Test
+    public void testUnchangedJarIsReadFromCache() throws IOException {
+        indexCache.get(jar, indexer);
+        Index cached = indexCache.get(jar, indexer);
+
+        assertEquals(1, indexed.get());
+        assertNotNull(cached.getClassByName(DotName.createSimple(IndexCacheTest.class.getName())));
+        // A new cache on the same directory, like on the next start
+        new IndexCache(directory).get(jar, indexer);
+        assertEquals(1, indexed.get());
+    }
+
+    @Test
+    public void testChangedJarIsIndexedAgain() throws IOException {
+        indexCache.get(jar, indexer);
+
+        Files.write(jar, "version 2, bigger".getBytes(StandardCharsets.UTF_8));
+        indexCache.get(jar, indexer);
+        assertEquals(2, indexed.get());
+
+        // And the new index is cached
+        indexCache.get(jar, indexer);
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testChangedContentWithSameTimeIsIndexedAgain() throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(jar);
+        indexCache.get(jar, indexer);
+
+        // Same time, other content
+        Files.write(jar, "version 22".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(jar, lastModified);
+        indexCache.get(jar, indexer);
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testTouchedJarIsNotIndexedAgain() throws IOException {
+        indexCache.get(jar, indexer);
+
+        // Rebuilt, but the content is the same
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() - 60_000));
+        indexCache.get(jar, indexer);
+        new IndexCache(directory).get(jar, indexer);
+        assertEquals(1, indexed.get());
+    }
+
+    @Test
+    public void testUnusedIndexesArePruned() throws IOException {
+        Path other = work.resolve("other.jar");
+        Files.write(other, "other".getBytes(StandardCharsets.UTF_8));
+        indexCache.get(jar, indexer);
+        indexCache.get(other, indexer);
+        indexCache.prune();
+        assertEquals(2, cachedFiles().size());
+
+        // The next start does not have the other jar anymore
+        IndexCache next = new IndexCache(directory);
+        next.get(jar, indexer);
+        next.prune();
+        assertEquals(1, cachedFiles().size());
+        new IndexCache(directory).get(jar, indexer);
+        assertEquals(2, indexed.get());
+    }
+
+    @Test
+    public void testCorruptCacheIsIndexedAgain() throws IOException {
+        indexCache.get(jar, indexer);
+        for (Path cached : cachedFiles()) {
+            Files.write(cached, "not an index".getBytes(StandardCharsets.UTF_8));
+        }
+
+        Index index = indexCache.get(jar, indexer);
+        assertEquals(2, indexed.get());
+        assertNotNull(index.getClassByName(DotName.createSimple(IndexCacheTest.class.getName())));
+        assertEquals(1, cachedFiles().size());
+    }
+
+    @Test
+    public void testJarThatCanNotBeReadIsIndexed() throws IOException {
+        indexCache.get(work.resolve("missing.jar"), indexer);
+
+        assertEquals(1, indexed.get());
+        assertEquals(0, cachedFiles().size());
+    }
+
+    private List<Path> cachedFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test that jars and folders with an embedded index that can not be read are scanned instead
+ */
+public class IndexInitializerTest {
+
+    private static final String CLASS_FILE = IndexInitializerTest.class.getName().replace('.', '/') + ".class";
+    private static final byte[] NOT_AN_INDEX = "not an index".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path work;
+
+    @Test
+    public void testFolderWithUnreadableIndex() throws IOException {
+        Path folder = work.resolve("classes");
+        Files.createDirectories(folder.resolve("META-INF"));
+        Files.write(folder.resolve("META-INF/jandex.idx"), NOT_AN_INDEX);
+        Path classFile = folder.resolve(CLASS_FILE);
+        Files.createDirectories(classFile.getParent());
+        try (InputStream in = classFile()) {
+            Files.copy(in, classFile);
+        }
+
+        assertIndexed(new IndexInitializer().createIndex(Collections.singleton(folder.toUri().toURL())));
+    }
+
+    @Test
+    public void testJarWithUnreadableIndex() throws IOException {
+        Path jar = work.resolve("app.jar");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(jar))) {
+            zip.putNextEntry(new ZipEntry("META-INF/jandex.idx"));
+            zip.write(NOT_AN_INDEX);
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry(CLASS_FILE));
+            try (InputStream in = classFile()) {
+                copy(in, zip);
+            }
+            zip.closeEntry();
+        }
+
+        assertIndexed(new IndexInitializer().createIndex(Collections.singleton(jar.toUri().toURL())));
+    }
+
+    private static void assertIndexed(IndexView index) {
+        assertNotNull(index.getClassByName(DotName.createSimple(IndexInitializerTest.class.getName())));
+    }
+
+    private static InputStream classFile() {
+        return IndexInitializerTest.class.getResourceAsStream("IndexInitializerTest.class");
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.smallrye.graphql.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test that the class hierarchy includes the classes that are not indexed yet, and that those are only indexed when
+ * they are returned
+ */
+public class LazyIndexTest {
+
+    private final Map<String, Integer> opened = new HashMap<>();
+    private LazyIndex lazyIndex;
+
+    @BeforeEach
+    public void init() throws IOException {
+        Indexer indexer = new Indexer();
+        indexer.index(new ByteArrayInputStream(classFile(Shape.class)));
+        indexer.index(new ByteArrayInputStream(classFile(Circle.class)));
+
+        Map<String, LazyIndex.DeferredClass> deferred = new HashMap<>();
+        for (Class<?> type : Arrays.asList(Polygon.class, Square.class, BigSquare.class, Unrelated.class)) {
+            byte[] classFile = classFile(type);
+            LazyIndex.ClassSource source = () -> {
+                opened.merge(type.getName(), 1, Integer::sum);
+                return new ByteArrayInputStream(classFile);
+            };
+            deferred.put(type.getName(), new LazyIndex.DeferredClass(source, ClassFilePrefilter.scan(classFile)));
+        }
+        lazyIndex = new LazyIndex(indexer.complete(), deferred);
+    }
+
+    @Test
+    public void testAllKnownImplementors() {
+        Collection<ClassInfo> implementors = lazyIndex.getAllKnownImplementors(name(Shape.class));
+
+        // Through the deferred interface, and the subclass of the implementor
+        assertEquals(names(Circle.class, Square.class, BigSquare.class), names(implementors));
+        // Only the returned classes are indexed, once
+        assertEquals(names(Square.class, BigSquare.class), opened.keySet());
+
+        lazyIndex.getAllKnownImplementors(name(Polygon.class));
+        assertEquals(1, opened.get(Square.class.getName()));
+        assertEquals(1, opened.get(BigSquare.class.getName()));
+    }
+
+    @Test
+    public void testDirectImplementors() {
+        assertEquals(names(Circle.class, Polygon.class),
+                names(lazyIndex.getKnownDirectImplementors(name(Shape.class))));
+        assertEquals(names(Square.class), names(lazyIndex.getKnownDirectImplementors(name(Polygon.class))));
+    }
+
+    @Test
+    public void testSubclasses() {
+        assertEquals(names(BigSquare.class), names(lazyIndex.getAllKnownSubclasses(name(Square.class))));
+        assertEquals(names(BigSquare.class), names(lazyIndex.getKnownDirectSubclasses(name(Square.class))));
+        assertEquals(names(BigSquare.class), opened.keySet());
+    }
+
+    @Test
+    public void testDeferredClassesAreOnlyIndexedWhenAskedFor() {
+        assertEquals(names(Shape.class, Circle.class), names(lazyIndex.getKnownClasses()));
+        assertEquals(0, opened.size());
+
+        ClassInfo unrelated = lazyIndex.getClassByName(name(Unrelated.class));
+        assertNotNull(unrelated);
+        assertEquals(Unrelated.class.getName(), unrelated.name().toString());
+        lazyIndex.getClassByName(name(Unrelated.class));
+        assertEquals(1, opened.get(Unrelated.class.getName()));
+    }
+
+    private static DotName name(Class<?> type) {
+        return DotName.createSimple(type.getName());
+    }
+
+    private static Set<String> names(Class<?>... types) {
+        return Arrays.stream(types).map(Class::getName).collect(Collectors.toSet());
+    }
+
+    private static Set<String> names(Collection<ClassInfo> classInfos) {
+        Set<String> names = new HashSet<>();
+        for (ClassInfo classInfo : classInfos) {
+            names.add(classInfo.name().toString());
+        }
+        return names;
+    }
+
+    private static byte[] classFile(Class<?> type) throws IOException {
+        String name = type.getName();
+        try (InputStream in = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public interface Shape {
+    }
+
+    public interface Polygon extends Shape {
+    }
+
+    public static class Circle implements Shape {
+    }
+
+    public static class Square implements Polygon {
+    }
+
+    public static class BigSquare extends Square {
+    }
+
+    public static class Unrelated {
+    }
+}
@@ -24,6 +24,14 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 10001, value = "No GraphQL methods found. Try annotating your methods with @Query or @Mutation")
     void noGraphQLMethodsFound();
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 10002, value = "Could not preload class [%s]")
+    void couldNotPreloadClass(String className);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 10003, value = "GraphQL schema updated")
+    void schemaUpdated();
+
     /* 11000-11999: query related logs */
 
     @LogMessage(level = Logger.Level.WARN)
@@ -78,6 +86,14 @@ public interface SmallRyeGraphQLServerLogging {
     @Message(id = 13004, value = "Using %s service for class loading")
     void usingClassLoadingService(String name);
 
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 13005, value = "Could not release an instance that was looked up for the request")
+    void requestCleanupFailed(@Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 13006, value = "Using %s service for caching field results")
+    void usingFieldCacheService(String name);
+
     /* 14000-14999: data transforming related logs */
 
     @LogMessage(level = Logger.Level.ERROR)
@@ -67,4 +67,16 @@ public interface SmallRyeGraphQLServerMessages {
     @Message(id = 18, value = "Unknown date format [%s]")
     DateTimeException unknownDateFormat(String input);
 
+    @Message(id = 19, value = "The server is overloaded, try again later")
+    String overloaded();
+
+    @Message(id = 20, value = "Too many concurrent requests for [%s], try again later")
+    String bulkheadFull(String operation);
+
+    @Message(id = 21, value = "Invalid bulkhead [%s], expected operation=maxConcurrentRequests")
+    IllegalArgumentException invalidBulkhead(String bulkhead);
+
+    @Message(id = 22, value = "Execution deadline of %s ms exceeded, the response is not complete")
+    String deadlineExceeded(long timeout);
+
 }
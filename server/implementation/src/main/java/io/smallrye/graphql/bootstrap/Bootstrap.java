@@ -48,7 +48,9 @@ import io.smallrye.graphql.execution.MetricNaming;
 import io.smallrye.graphql.execution.datafetcher.AsyncDataFetcher;
 import io.smallrye.graphql.execution.datafetcher.PropertyDataFetcher;
 import io.smallrye.graphql.execution.datafetcher.ReflectionDataFetcher;
+import io.smallrye.graphql.execution.datafetcher.decorator.CacheControlDecorator;
 import io.smallrye.graphql.execution.datafetcher.decorator.DataFetcherDecorator;
+import io.smallrye.graphql.execution.datafetcher.decorator.FieldCacheDecorator;
 import io.smallrye.graphql.execution.datafetcher.decorator.MetricDecorator;
 import io.smallrye.graphql.execution.datafetcher.decorator.OpenTracingDecorator;
 import io.smallrye.graphql.execution.datafetcher.decorator.ValidationDecorator;
@@ -69,6 +71,7 @@ import io.smallrye.graphql.schema.model.ReferenceType;
 import io.smallrye.graphql.schema.model.Schema;
 import io.smallrye.graphql.schema.model.Type;
 import io.smallrye.graphql.spi.ClassloadingService;
+import io.smallrye.graphql.spi.FieldCacheService;
 
 /**
  * Bootstrap MicroProfile GraphQL
@@ -87,6 +90,13 @@ public class Bootstrap {
     private final Map<String, GraphQLInputObjectType> inputMap = new HashMap<>();
     private final Map<String, GraphQLObjectType> typeMap = new HashMap<>();
 
+    // Runtime registries, used by the resolvers and data fetchers of this schema only
+    private final InterfaceOutputRegistry interfaceOutputRegistry = new InterfaceOutputRegistry();
+    private final JsonInputRegistry jsonInputRegistry = new JsonInputRegistry();
+
+    // Loaded when the first cached operation is created
+    private FieldCacheService fieldCacheService;
+
     public static GraphQLSchema bootstrap(Schema schema) {
         return bootstrap(schema, null);
     }
@@ -121,6 +131,19 @@ public class Bootstrap {
                             .withDescription(description)
                             .build();
                     metricRegistry.simpleTimer(metadata);
+
+                    if (operation.hasCacheInfo()) {
+                        metricRegistry.counter(Metadata.builder()
+                                .withName(MetricNaming.cacheHitsFromOperation(operation))
+                                .withType(MetricType.COUNTER)
+                                .withDescription("Cache hits for the field '" + operation.getName() + "'")
+                                .build());
+                        metricRegistry.counter(Metadata.builder()
+                                .withName(MetricNaming.cacheMissesFromOperation(operation))
+                                .withType(MetricType.COUNTER)
+                                .withDescription("Cache misses for the field '" + operation.getName() + "'")
+                                .build());
+                    }
                 });
     }
 
@@ -144,6 +167,8 @@ public class Bootstrap {
     private GraphQLSchema generateGraphQLSchema() {
         GraphQLSchema.Builder schemaBuilder = GraphQLSchema.newSchema();
 
+        preloadClasses();
+
         createGraphQLEnumTypes();
         createGraphQLInterfaceTypes();
         createGraphQLObjectTypes();
@@ -157,12 +182,62 @@ public class Bootstrap {
         schemaBuilder.additionalTypes(new HashSet<>(typeMap.values()));
         schemaBuilder.additionalTypes(new HashSet<>(inputMap.values()));
 
+        interfaceOutputRegistry.freeze();
+        jsonInputRegistry.freeze();
+
         codeRegistryBuilder.fieldVisibility(getGraphqlFieldVisibility());
         schemaBuilder = schemaBuilder.codeRegistry(codeRegistryBuilder.build());
 
         return schemaBuilder.build();
     }
 
+    /**
+     * Load every class the schema refers to once, so that the classloading service has them cached before the first
+     * request comes in.
+     */
+    private void preloadClasses() {
+        Set<String> classNames = new HashSet<>();
+        for (Operation operation : findAllOperations(schema)) {
+            classNames.add(operation.getClassName());
+            addClassNames(classNames, operation);
+            for (Field argument : operation.getArguments()) {
+                addClassNames(classNames, argument);
+            }
+        }
+        for (Type type : schema.getTypes().values()) {
+            classNames.add(type.getClassName());
+            type.getFields().forEach(field -> addClassNames(classNames, field));
+        }
+        for (InputType inputType : schema.getInputs().values()) {
+            classNames.add(inputType.getClassName());
+            inputType.getFields().forEach(field -> addClassNames(classNames, field));
+        }
+        for (InterfaceType interfaceType : schema.getInterfaces().values()) {
+            classNames.add(interfaceType.getClassName());
+            interfaceType.getFields().forEach(field -> addClassNames(classNames, field));
+        }
+        for (EnumType enumType : schema.getEnums().values()) {
+            classNames.add(enumType.getClassName());
+        }
+        classNames.remove(null);
+
+        ClassloadingService classloadingService = ClassloadingService.load();
+        for (String className : classNames) {
+            try {
+                classloadingService.loadClass(className);
+            } catch (RuntimeException ex) {
+                log.couldNotPreloadClass(className);
+            }
+        }
+    }
+
+    private void addClassNames(Set<String> classNames, Field field) {
+        classNames.add(field.getReference().getClassName());
+        if (field.hasArray()) {
+            classNames.add(field.getArray().getClassName());
+        }
+    }
+
     private void addQueries(GraphQLSchema.Builder schemaBuilder) {
 
         GraphQLObjectType.Builder queryBuilder = GraphQLObjectType.newObject()
@@ -254,7 +329,7 @@ public class Bootstrap {
         GraphQLInterfaceType graphQLInterfaceType = interfaceTypeBuilder.build();
         // To resolve the concrete class
         codeRegistryBuilder.typeResolver(graphQLInterfaceType,
-                new InterfaceResolver(interfaceType));
+                new InterfaceResolver(interfaceType, interfaceOutputRegistry));
 
         interfaceMap.put(interfaceType.getClassName(), graphQLInterfaceType);
     }
@@ -277,7 +352,7 @@ public class Bootstrap {
             inputObjectTypeBuilder = inputObjectTypeBuilder
                     .fields(createGraphQLInputObjectFieldsFromFields(inputType.getFields()));
             // Register this input for posible JsonB usage 
-            JsonInputRegistry.register(inputType);
+            jsonInputRegistry.register(inputType);
         }
 
         GraphQLInputObjectType graphQLInputObjectType = inputObjectTypeBuilder.build();
@@ -327,7 +402,7 @@ public class Bootstrap {
         typeMap.put(type.getClassName(), graphQLObjectType);
 
         // Register this output for interface type resolving
-        InterfaceOutputRegistry.register(type, graphQLObjectType);
+        interfaceOutputRegistry.register(type, graphQLObjectType);
     }
 
     private GraphQLFieldDefinition createGraphQLFieldDefinitionFromOperation(String operationTypeName, Operation operation) {
@@ -349,7 +424,7 @@ public class Bootstrap {
         // DataFetcher
         Collection<DataFetcherDecorator> decorators = new ArrayList<>();
         if (config != null && config.isMetricsEnabled()) {
-            decorators.add(new MetricDecorator());
+            decorators.add(new MetricDecorator(operation));
         }
         if (config != null && config.isTracingEnabled()) {
             decorators.add(new OpenTracingDecorator());
@@ -357,12 +432,21 @@ public class Bootstrap {
         if (config != null && config.isValidationEnabled() && operation.hasArguments()) {
             decorators.add(new ValidationDecorator());
         }
+        if (config != null && config.isResponseCacheEnabled()
+                && operation.getOperationType() != OperationType.Mutation) {
+            decorators.add(new CacheControlDecorator(operation.getCacheHint()));
+        }
+        if (operation.hasCacheInfo()) {
+            // Last, so a hit skips only the method
+            decorators.add(new FieldCacheDecorator(operation, getSourceIdProperty(operation), getFieldCacheService(),
+                    config != null && config.isMetricsEnabled()));
+        }
 
         DataFetcher<?> datafetcher;
         if (operation.isAsync()) {
-            datafetcher = new AsyncDataFetcher(operation, decorators);
+            datafetcher = new AsyncDataFetcher(operation, decorators, jsonInputRegistry);
         } else {
-            datafetcher = new ReflectionDataFetcher(operation, decorators);
+            datafetcher = new ReflectionDataFetcher(operation, decorators, jsonInputRegistry);
         }
 
         codeRegistryBuilder.dataFetcher(FieldCoordinates.coordinates(operationTypeName,
@@ -371,6 +455,31 @@ public class Bootstrap {
         return graphQLFieldDefinition;
     }
 
+    private FieldCacheService getFieldCacheService() {
+        if (fieldCacheService == null) {
+            fieldCacheService = FieldCacheService.load();
+        }
+        return fieldCacheService;
+    }
+
+    /**
+     * The property of the source that is its id (of type ID), if the source is part of the cache key
+     */
+    private String getSourceIdProperty(Operation operation) {
+        if (operation.getOperationType() != OperationType.Source || !operation.getCacheInfo().isBySource()) {
+            return null;
+        }
+        Type type = schema.getTypes().get(operation.getContainingType().getName());
+        if (type != null && type.hasFields()) {
+            for (Field field : type.getFields()) {
+                if (field.getReference().getName().equals(ID)) {
+                    return field.getPropertyName();
+                }
+            }
+        }
+        return null;
+    }
+
     private List<GraphQLFieldDefinition> createGraphQLFieldDefinitionsFromFields(String ownerName, Set<Field> fields) {
         List<GraphQLFieldDefinition> graphQLFieldDefinitions = new ArrayList<>();
         for (Field field : fields) {
@@ -607,6 +716,7 @@ public class Bootstrap {
 
     private static final String QUERY = "Query";
     private static final String MUTATION = "Mutation";
+    private static final String ID = "ID";
     private static final String COMMA = ",";
 
     private static final Jsonb JSONB = JsonbBuilder.create();
@@ -1,5 +1,7 @@
 package io.smallrye.graphql.bootstrap;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +64,82 @@ public interface Config {
         return false;
     }
 
+    default double getFieldTracingSampleRate() {
+        return 0;
+    }
+
+    default boolean isFieldTracingHeaderEnabled() {
+        return false;
+    }
+
+    default boolean isOperationStatisticsEnabled() {
+        return false;
+    }
+
+    default int getOperationStatisticsMaxSize() {
+        return 500;
+    }
+
+    default boolean isIntrospectionCacheEnabled() {
+        return true;
+    }
+
+    default boolean isResponseCacheEnabled() {
+        return false;
+    }
+
+    default int getResponseCacheMaxSize() {
+        return 1000;
+    }
+
+    default List<String> getResponseCacheHeaders() {
+        return Collections.singletonList("Authorization");
+    }
+
+    default boolean isPersistedQueriesEnabled() {
+        return true;
+    }
+
+    default int getPersistedQueriesMaxSize() {
+        return 2048;
+    }
+
+    default boolean isQueryCoalescingEnabled() {
+        return false;
+    }
+
+    default List<String> getQueryCoalescingHeaders() {
+        return Arrays.asList("Authorization", "Cookie");
+    }
+
+    default Optional<List<String>> getQueryCoalescingAllowList() {
+        return Optional.empty();
+    }
+
+    default boolean isAdmissionControlEnabled() {
+        return false;
+    }
+
+    default int getAdmissionControlInitialLimit() {
+        return 20;
+    }
+
+    default int getAdmissionControlMaxLimit() {
+        return 200;
+    }
+
+    default Optional<List<String>> getAdmissionControlBulkheads() {
+        return Optional.empty();
+    }
+
+    default long getDeadlineTimeout() {
+        return 0;
+    }
+
+    default Optional<String> getDeadlineHeader() {
+        return Optional.empty();
+    }
+
     default String getFieldVisibility() {
         return FIELD_VISIBILITY_DEFAULT;
     }
@@ -0,0 +1,81 @@
+package io.smallrye.graphql.execution;
+
+/**
+ * A concurrency limit that adapts to the observed latency (gradient).
+ *
+ * The latency is tracked twice: as a long-term average, that is what the service does when it is healthy, and as a
+ * short-term average, that is what it does now. While the short-term latency stays within a tolerance of the long-term
+ * one, the limit grows (by about its square root, so requests can queue a little). When requests get slower, because
+ * the service or a backend is saturated, the limit shrinks with the ratio of the two, at most by half per request.
+ * The limit only grows if the requests use at least half of it, so a quiet period does not leave it too high.
+ */
+class AdaptiveLimit {
+    private static final int MIN_LIMIT = 1;
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int maxLimit;
+
+    // Guarded by this
+    private double limit;
+    private int inFlight;
+    private double longLatency;
+    private double shortLatency;
+
+    AdaptiveLimit(int initialLimit, int maxLimit) {
+        this.maxLimit = Math.max(maxLimit, MIN_LIMIT);
+        this.limit = Math.max(Math.min(initialLimit, this.maxLimit), MIN_LIMIT);
+    }
+
+    /**
+     * @return if the request can execute now, then it must be released
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Release a request that executed, and adapt the limit to its latency
+     *
+     * @param latency how long the request took, in nanoseconds
+     */
+    synchronized void release(long latency) {
+        int concurrency = inFlight--;
+        if (longLatency == 0) {
+            longLatency = shortLatency = latency;
+            return;
+        }
+        longLatency += (latency - longLatency) / LONG_WINDOW;
+        shortLatency += (latency - shortLatency) / SHORT_WINDOW;
+        if (longLatency > 2 * shortLatency) {
+            // Faster than it was for a while, so forget the slow period sooner
+            longLatency *= 0.95;
+        }
+        if (concurrency < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / shortLatency));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(MIN_LIMIT, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+
+    /**
+     * @return the current limit
+     */
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests that are executing
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,171 @@
+package io.smallrye.graphql.execution;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Decides if a request can execute now, or is rejected right away (without queueing), so a slow operation or backend
+ * does not make every request wait.
+ *
+ * There are two limits:
+ * <ul>
+ * <li>bulkheads, the maximum number of concurrent requests for an operation (a root field), so requests for a slow
+ * operation can not take all the threads of the others. A request needs a permit of the bulkhead of every operation it
+ * selects (also through fragments), or of all bulkheads if that is not known. They are configured as
+ * {@code operation=maxConcurrentRequests}.</li>
+ * <li>a global {@link AdaptiveLimit}, that follows the latency of the requests. Requests over it get a 503
+ * (Service Unavailable), requests over a bulkhead a 429 (Too Many Requests).</li>
+ * </ul>
+ */
+class AdmissionControl {
+    static final String OVERLOADED_CODE = "OVERLOADED";
+    static final String TOO_MANY_REQUESTS_CODE = "TOO_MANY_REQUESTS";
+    static final int SERVICE_UNAVAILABLE = 503;
+    static final int TOO_MANY_REQUESTS = 429;
+
+    // Null if there is no global limit
+    private final AdaptiveLimit limit;
+    // By operation name
+    private final Map<String, Semaphore> bulkheads;
+
+    AdmissionControl(AdaptiveLimit limit, List<String> bulkheads) {
+        this.limit = limit;
+        this.bulkheads = parseBulkheads(bulkheads);
+    }
+
+    /**
+     * @return if anything is limited
+     */
+    boolean isEnabled() {
+        return limit != null || !bulkheads.isEmpty();
+    }
+
+    /**
+     * Get a permit for a request
+     *
+     * @param operationKey the operation of the request, null if it is not known
+     * @return the permit, that must be released when the request is done, or a rejected one
+     */
+    Permit acquire(OperationKeys.OperationKey operationKey) {
+        Collection<String> operations = Collections.emptySet();
+        if (!bulkheads.isEmpty() && operationKey != null) {
+            operations = operationKey.getFieldNames();
+            if (operations == null) {
+                // We do not know what it selects, so it counts for all
+                operations = bulkheads.keySet();
+            }
+        }
+        int acquired = 0;
+        for (String operation : operations) {
+            Semaphore bulkhead = bulkheads.get(operation);
+            if (bulkhead != null) {
+                if (!bulkhead.tryAcquire()) {
+                    releaseBulkheads(operations, acquired);
+                    return new Permit(null, TOO_MANY_REQUESTS, msg.bulkheadFull(operation), TOO_MANY_REQUESTS_CODE);
+                }
+            }
+            acquired++;
+        }
+        if (limit != null && !limit.tryAcquire()) {
+            releaseBulkheads(operations, acquired);
+            return new Permit(null, SERVICE_UNAVAILABLE, msg.overloaded(), OVERLOADED_CODE);
+        }
+        return new Permit(operations, 0, null, null);
+    }
+
+    private void releaseBulkheads(Collection<String> operations, int count) {
+        Iterator<String> iterator = operations.iterator();
+        for (int i = 0; i < count; i++) {
+            Semaphore bulkhead = bulkheads.get(iterator.next());
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private static Map<String, Semaphore> parseBulkheads(List<String> bulkheads) {
+        if (bulkheads == null || bulkheads.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Semaphore> parsed = new HashMap<>();
+        for (String bulkhead : bulkheads) {
+            int separator = bulkhead.indexOf('=');
+            if (separator < 1) {
+                throw msg.invalidBulkhead(bulkhead);
+            }
+            try {
+                int maxConcurrentRequests = Integer.parseInt(bulkhead.substring(separator + 1).trim());
+                if (maxConcurrentRequests < 1) {
+                    throw msg.invalidBulkhead(bulkhead);
+                }
+                parsed.put(bulkhead.substring(0, separator).trim(), new Semaphore(maxConcurrentRequests));
+            } catch (NumberFormatException ex) {
+                throw msg.invalidBulkhead(bulkhead);
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * The permit for one request
+     */
+    final class Permit {
+        private final Collection<String> operations;
+        private final int status;
+        private final String message;
+        private final String code;
+        private final long start = System.nanoTime();
+
+        private Permit(Collection<String> operations, int status, String message, String code) {
+            this.operations = operations;
+            this.status = status;
+            this.message = message;
+            this.code = code;
+        }
+
+        boolean isRejected() {
+            return operations == null;
+        }
+
+        /**
+         * @return the HTTP status of the rejection
+         */
+        int getStatus() {
+            return status;
+        }
+
+        /**
+         * @return the error message of the rejection
+         */
+        String getMessage() {
+            return message;
+        }
+
+        /**
+         * @return the error code of the rejection
+         */
+        String getCode() {
+            return code;
+        }
+
+        /**
+         * Release the permit, when the request is done
+         */
+        void release() {
+            if (isRejected()) {
+                return;
+            }
+            releaseBulkheads(operations, operations.size());
+            if (limit != null) {
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.smallrye.graphql.execution;
+
+import graphql.GraphQLContext;
+import io.smallrye.graphql.schema.model.CacheHint;
+
+/**
+ * How long the response to a request can be cached: the lowest max-age of the cache hints of the operations that
+ * were resolved for it.
+ *
+ * One instance is registered in the request's {@link GraphQLContext} if responses can be cached, and every operation
+ * that is resolved restricts it with its hint. An operation without a hint makes the response not cacheable, and one
+ * private hint makes the whole response private.
+ */
+public class CachePolicy {
+
+    private static final Object KEY = CachePolicy.class;
+
+    private boolean resolved;
+    private int maxAge = Integer.MAX_VALUE;
+    private boolean privateScope;
+
+    /**
+     * Get the cache policy of the request that this context belongs to
+     *
+     * @param context the request context (from the ExecutionInput or DataFetchingEnvironment)
+     * @return the cache policy, or null if responses are not cached
+     */
+    public static CachePolicy of(Object context) {
+        if (context instanceof GraphQLContext) {
+            return ((GraphQLContext) context).get(KEY);
+        }
+        return null;
+    }
+
+    static CachePolicy register(Object context) {
+        CachePolicy cachePolicy = new CachePolicy();
+        if (context instanceof GraphQLContext) {
+            ((GraphQLContext) context).put(KEY, cachePolicy);
+        }
+        return cachePolicy;
+    }
+
+    /**
+     * An operation was resolved for the response
+     *
+     * @param cacheHint the hint of the operation, null if it has none
+     */
+    public synchronized void restrict(CacheHint cacheHint) {
+        resolved = true;
+        if (cacheHint == null) {
+            maxAge = 0;
+        } else {
+            maxAge = Math.min(maxAge, cacheHint.getMaxAge());
+            privateScope |= cacheHint.isPrivateScope();
+        }
+    }
+
+    /**
+     * @return how long (in seconds) the response can be cached, 0 if it can not be cached
+     */
+    public synchronized int getMaxAge() {
+        return resolved ? maxAge : 0;
+    }
+
+    public synchronized boolean isPrivateScope() {
+        return privateScope;
+    }
+}
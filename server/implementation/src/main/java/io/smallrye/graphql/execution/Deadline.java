@@ -0,0 +1,289 @@
+package io.smallrye.graphql.execution;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import graphql.GraphQLContext;
+
+/**
+ * The point in time by which a request has to be answered.
+ *
+ * One instance is registered in the request's {@link GraphQLContext} if the request has a deadline. When it passes,
+ * fields that were not fetched yet are skipped, and the {@code CompletionStage}s of asynchronous resolvers that are
+ * still outstanding are not waited for anymore, so the response is returned with what was fetched until then, and a
+ * timeout error.
+ *
+ * Those stages are cancelled, which stops the resolvers that react to it. As a stage can ignore that, the request is
+ * only cleaned up (and its {@code @Dependent} beans destroyed) once they complete, or after a grace period if they do
+ * not, so a resolver that never completes does not keep the request around.
+ *
+ * Resolvers can read the time they have left with {@link #current()}, for example to give a backend call a timeout,
+ * or to return less. Asynchronous resolvers have to read it before they return their {@code CompletionStage}.
+ */
+public class Deadline {
+
+    private static final Object KEY = Deadline.class;
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    // How long the cleanup waits for the abandoned stages at most
+    private static final long GRACE_PERIOD_SECONDS = 10;
+
+    private final long timeout;
+    private final long deadline;
+
+    // The stages used instead of the stages of the resolvers, to those. Guarded by this
+    private final Map<CompletableFuture<Object>, CompletionStage<?>> outstanding = new IdentityHashMap<>();
+    // The stages of the resolvers that were still running when the deadline passed. Guarded by this
+    private final List<CompletionStage<?>> abandoned = new ArrayList<>();
+    private volatile boolean exceeded;
+
+    private Deadline(long timeout) {
+        this.timeout = timeout;
+        this.deadline = System.nanoTime() + timeout;
+    }
+
+    /**
+     * Get the deadline of the request that this context belongs to
+     *
+     * @param context the request context (from the ExecutionInput or DataFetchingEnvironment)
+     * @return the deadline, or null if the request has none
+     */
+    public static Deadline of(Object context) {
+        if (context instanceof GraphQLContext) {
+            return ((GraphQLContext) context).get(KEY);
+        }
+        return null;
+    }
+
+    /**
+     * Get the deadline of the request the resolver that is called on this thread is called for
+     *
+     * @return the deadline, or null if the request has none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    static Deadline register(Object context, long timeout, TimeUnit unit) {
+        Deadline deadline = new Deadline(unit.toNanos(timeout));
+        if (context instanceof GraphQLContext) {
+            ((GraphQLContext) context).put(KEY, deadline);
+        }
+        return deadline;
+    }
+
+    /**
+     * @param unit the unit of the result
+     * @return the time that is left, 0 if the deadline passed
+     */
+    public long getRemaining(TimeUnit unit) {
+        return unit.convert(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit the unit of the result
+     * @return the time the request had in total
+     */
+    public long getTimeout(TimeUnit unit) {
+        return unit.convert(timeout, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return if the deadline passed
+     */
+    public boolean isExpired() {
+        return exceeded || System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * @return if the deadline passed before the request was answered, so the response is not complete
+     */
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    /**
+     * A field was not fetched, because the deadline passed
+     */
+    void skipped() {
+        this.exceeded = true;
+    }
+
+    /**
+     * Call a resolver, that can read this deadline as the {@link #current()} one
+     *
+     * @param resolver calls the resolver
+     * @return what the resolver returned
+     * @throws Exception what the resolver threw
+     */
+    public Object call(Callable<Object> resolver) throws Exception {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return resolver.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Keep track of the stage of an asynchronous resolver, so it is not waited for when the deadline passes
+     *
+     * @param stage the stage the resolver returned
+     * @return the stage to use instead, that completes (with null) when the deadline passes
+     */
+    public CompletionStage<Object> track(CompletionStage<?> stage) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        boolean late;
+        synchronized (this) {
+            late = exceeded;
+            if (late) {
+                abandoned.add(stage);
+            } else {
+                outstanding.put(result, stage);
+            }
+        }
+        if (late) {
+            result.complete(null);
+            cancel(stage);
+            return result;
+        }
+        stage.whenComplete((value, throwable) -> {
+            synchronized (this) {
+                outstanding.remove(result);
+            }
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Wait for the result of the execution until the deadline. When it passes, the outstanding stages are abandoned,
+     * and the result is what could be fetched until then.
+     *
+     * @param execution the execution
+     * @param <T> the type of the result
+     * @return the result
+     */
+    <T> T await(CompletableFuture<T> execution) {
+        try {
+            return execution.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            expire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            expire();
+        } catch (ExecutionException ex) {
+            throw rethrow(ex.getCause());
+        }
+        try {
+            return execution.join();
+        } catch (CompletionException ex) {
+            throw rethrow(ex.getCause());
+        }
+    }
+
+    /**
+     * The deadline passed, stop waiting for the stages that are outstanding, and cancel them
+     */
+    void expire() {
+        Map<CompletableFuture<Object>, CompletionStage<?>> expired;
+        synchronized (this) {
+            exceeded = true;
+            expired = new IdentityHashMap<>(outstanding);
+            outstanding.clear();
+            abandoned.addAll(expired.values());
+        }
+        // Fields below them are not fetched anymore. Completed first, as the cancel would complete them exceptionally
+        expired.forEach((result, stage) -> {
+            result.complete(null);
+            cancel(stage);
+        });
+    }
+
+    private static void cancel(CompletionStage<?> stage) {
+        try {
+            stage.toCompletableFuture().cancel(true);
+        } catch (UnsupportedOperationException ex) {
+            // Can not be cancelled, it is left to complete
+        }
+    }
+
+    /**
+     * Run an action once the stages that were abandoned when the deadline passed are complete, as their resolvers may
+     * still use what the action releases. Runs it right away if there are none, and after a grace period if they do not
+     * complete.
+     *
+     * @param action the action
+     */
+    void whenAbandonedComplete(Runnable action) {
+        whenAbandonedComplete(action, GRACE_PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    void whenAbandonedComplete(Runnable action, long gracePeriod, TimeUnit unit) {
+        List<CompletionStage<?>> stages;
+        synchronized (this) {
+            stages = new ArrayList<>(abandoned);
+        }
+        if (stages.isEmpty()) {
+            action.run();
+            return;
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        Runnable once = () -> {
+            if (done.compareAndSet(false, true)) {
+                action.run();
+            }
+        };
+        AtomicInteger running = new AtomicInteger(stages.size());
+        for (CompletionStage<?> stage : stages) {
+            stage.whenComplete((value, throwable) -> {
+                if (running.decrementAndGet() == 0) {
+                    once.run();
+                }
+            });
+        }
+        if (!done.get()) {
+            Timer.INSTANCE.schedule(once, gracePeriod, unit);
+        }
+    }
+
+    // Only created once a deadline passed
+    private static class Timer {
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "smallrye-graphql-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new CompletionException(cause);
+    }
+}
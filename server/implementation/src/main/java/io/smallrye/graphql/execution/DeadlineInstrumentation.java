@@ -0,0 +1,63 @@
+package io.smallrye.graphql.execution;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import graphql.ErrorType;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+/**
+ * Skips the fields that are not fetched yet when the {@link Deadline} of the request passed, and adds a timeout error
+ * to the response when that happened.
+ *
+ * Fields that are skipped are null, like the fields of asynchronous resolvers that did not complete in time. Fields of objects
+ * that were fetched before (that only read a property) are still returned, so the response has all the data that could
+ * be fetched in time.
+ */
+public class DeadlineInstrumentation extends SimpleInstrumentation {
+
+    public static final String TIMEOUT_CODE = "TIMEOUT";
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        return environment -> {
+            Deadline deadline = Deadline.of(environment.getContext());
+            if (deadline != null && deadline.isExpired()) {
+                deadline.skipped();
+                return null;
+            }
+            return dataFetcher.get(environment);
+        };
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+            InstrumentationExecutionParameters parameters) {
+        Deadline deadline = Deadline.of(parameters.getExecutionInput().getContext());
+        if (deadline == null || !deadline.isExceeded()) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        return CompletableFuture.completedFuture(ExecutionResultImpl.newExecutionResult()
+                .from(executionResult)
+                .addError(GraphqlErrorBuilder.newError()
+                        .message(msg.deadlineExceeded(deadline.getTimeout(TimeUnit.MILLISECONDS)))
+                        .errorType(ErrorType.ExecutionAborted)
+                        .extensions(Collections.singletonMap(CODE, TIMEOUT_CODE))
+                        .build())
+                .build());
+    }
+
+    private static final String CODE = "code";
+}
@@ -0,0 +1,154 @@
+package io.smallrye.graphql.execution;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+import io.smallrye.graphql.spi.MetricsService;
+
+/**
+ * Records how long every request spends in each phase (parse, validate, execute and serialize),
+ * and how big the request and response are.
+ *
+ * The histograms are tagged with the operation name, and looked up once per operation name.
+ * Parsing is only recorded when the document was not in the query cache.
+ */
+public class ExecutionPhaseMetrics extends SimpleInstrumentation {
+
+    // Operation names come from the client, so we bound the number of distinct tags
+    private static final int MAX_OPERATIONS = 512;
+    private static final String ANONYMOUS = "anonymous";
+    private static final String OTHER = "other";
+    private static final String OPERATION_TAG = "operation";
+
+    private final MetricRegistry metricRegistry;
+    private final Map<String, Histograms> histograms = new ConcurrentHashMap<>();
+    private final AtomicInteger operations = new AtomicInteger();
+
+    public ExecutionPhaseMetrics() {
+        this.metricRegistry = MetricsService.load().getMetricRegistry(MetricRegistry.Type.VENDOR);
+    }
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters) {
+        Histogram histogram = forOperation(parameters.getExecutionInput()).parse;
+        return timed(histogram);
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
+        Histogram histogram = forOperation(parameters.getExecutionInput()).validate;
+        return timed(histogram);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters) {
+        Histogram histogram = forOperation(parameters.getExecutionContext().getExecutionInput()).execute;
+        return timed(histogram);
+    }
+
+    /**
+     * Record the size of the incoming query document (in characters)
+     *
+     * @param executionInput the input
+     */
+    public void requestReceived(ExecutionInput executionInput) {
+        String query = executionInput.getQuery();
+        if (query != null) {
+            forOperation(executionInput).requestSize.update(query.length());
+        }
+    }
+
+    /**
+     * Record the time it took to serialize the result, and the size of the serialized response (in bytes)
+     *
+     * @param executionInput the input
+     * @param durationNanos time spent serializing
+     * @param responseSize size of the serialized response, in bytes
+     */
+    public void responseSerialized(ExecutionInput executionInput, long durationNanos, long responseSize) {
+        Histograms h = forOperation(executionInput);
+        h.serialize.update(durationNanos);
+        h.responseSize.update(responseSize);
+    }
+
+    private <T> InstrumentationContext<T> timed(Histogram histogram) {
+        final long start = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, throwable) -> histogram
+                .update(System.nanoTime() - start));
+    }
+
+    private Histograms forOperation(ExecutionInput executionInput) {
+        String operationName = executionInput.getOperationName();
+        if (operationName == null || operationName.isEmpty()) {
+            operationName = ANONYMOUS;
+        }
+        Histograms h = histograms.get(operationName);
+        if (h == null) {
+            // Counted in the mapping function, so concurrent new operations can not exceed the bound
+            h = histograms.computeIfAbsent(operationName, name -> {
+                if (operations.incrementAndGet() > MAX_OPERATIONS) {
+                    operations.decrementAndGet();
+                    return null;
+                }
+                return new Histograms(name);
+            });
+            if (h == null) {
+                h = histograms.computeIfAbsent(OTHER, Histograms::new);
+            }
+        }
+        return h;
+    }
+
+    private class Histograms {
+        final Histogram parse;
+        final Histogram validate;
+        final Histogram execute;
+        final Histogram serialize;
+        final Histogram requestSize;
+        final Histogram responseSize;
+
+        Histograms(String operationName) {
+            Tag tag = new Tag(OPERATION_TAG, operationName);
+            this.parse = histogram(MetricNaming.PARSE, "Time spent parsing the request", MetricUnits.NANOSECONDS, tag);
+            this.validate = histogram(MetricNaming.VALIDATE, "Time spent validating the request", MetricUnits.NANOSECONDS,
+                    tag);
+            this.execute = histogram(MetricNaming.EXECUTE, "Time spent executing the request", MetricUnits.NANOSECONDS,
+                    tag);
+            this.serialize = histogram(MetricNaming.SERIALIZE, "Time spent serializing the response",
+                    MetricUnits.NANOSECONDS, tag);
+            this.requestSize = histogram(MetricNaming.REQUEST_SIZE, "Size of the request query", MetricUnits.NONE, tag);
+            this.responseSize = histogram(MetricNaming.RESPONSE_SIZE, "Size of the serialized response", MetricUnits.BYTES,
+                    tag);
+        }
+
+        private Histogram histogram(String name, String description, String unit, Tag tag) {
+            Metadata metadata = Metadata.builder()
+                    .withName(name)
+                    .withType(MetricType.HISTOGRAM)
+                    .withDescription(description)
+                    .withUnit(unit)
+                    .build();
+            return metricRegistry.histogram(metadata, tag);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.smallrye.graphql.execution;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonWriter;
+import javax.json.JsonWriterFactory;
+
+import graphql.GraphQL;
+
+/**
+ * The response to a request, with what the transport needs to write it: the serialized (and gzipped) bytes, and if
+ * and how long it can be cached.
+ *
+ * The serialized forms are created when they are first asked for, and kept, so responses that are cached are only
+ * serialized once.
+ */
+public class ExecutionResponse {
+    private static final JsonWriterFactory jsonWriterFactory = Json.createWriterFactory(null);
+    static final int OK = 200;
+
+    private final GraphQL graphQL;
+    private final JsonObject json;
+    private final int maxAge;
+    private final boolean privateScope;
+    private final int status;
+    private final long created = System.nanoTime();
+
+    private volatile byte[] bytes;
+    private volatile byte[] gzipped;
+    private volatile long size = -1;
+    private volatile String etag;
+    private volatile boolean cached;
+
+    ExecutionResponse(GraphQL graphQL, JsonObject json) {
+        this(graphQL, json, -1, false);
+    }
+
+    ExecutionResponse(GraphQL graphQL, JsonObject json, int maxAge, boolean privateScope) {
+        this(graphQL, json, maxAge, privateScope, OK);
+    }
+
+    ExecutionResponse(GraphQL graphQL, JsonObject json, int maxAge, boolean privateScope, int status) {
+        this.graphQL = graphQL;
+        this.json = json;
+        this.maxAge = maxAge;
+        this.privateScope = privateScope;
+        this.status = status;
+    }
+
+    /**
+     * @return what the response was created with, so the version of the schema
+     */
+    GraphQL getGraphQL() {
+        return graphQL;
+    }
+
+    public JsonObject getJson() {
+        return json;
+    }
+
+    /**
+     * @return how long (in seconds, from now) the response can be cached, or -1 if it can not be cached
+     */
+    public int getMaxAge() {
+        if (maxAge < 0) {
+            return -1;
+        }
+        long age = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - created);
+        return (int) Math.max(maxAge - age, 0);
+    }
+
+    /**
+     * @return the HTTP status, for transports over HTTP: 200, or 503 or 429 if the request was rejected because the
+     *         server or the operation is overloaded
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return if the response is for one user, so only the user's browser may cache it
+     */
+    public boolean isPrivateScope() {
+        return privateScope;
+    }
+
+    /**
+     * @return if this response is (or can be) served from a cache, so keeping its serialized forms pays off
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    void setCached() {
+        this.cached = true;
+    }
+
+    boolean isExpired() {
+        return System.nanoTime() - created >= TimeUnit.SECONDS.toNanos(maxAge);
+    }
+
+    /**
+     * @return the serialized response (UTF-8), do not change it
+     */
+    public byte[] getBytes() {
+        byte[] b = bytes;
+        if (b == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(out, StandardCharsets.UTF_8)) {
+                jsonWriter.writeObject(json);
+            }
+            b = bytes = out.toByteArray();
+        }
+        return b;
+    }
+
+    /**
+     * @return the length of the serialized response (UTF-8) in bytes. Counted without keeping the bytes, if they were
+     *         not serialized yet
+     */
+    public long getSize() {
+        long s = size;
+        if (s < 0) {
+            byte[] b = bytes;
+            if (b != null) {
+                s = b.length;
+            } else {
+                CountingOutputStream out = new CountingOutputStream();
+                try (JsonWriter jsonWriter = jsonWriterFactory.createWriter(out, StandardCharsets.UTF_8)) {
+                    jsonWriter.writeObject(json);
+                }
+                s = out.count;
+            }
+            size = s;
+        }
+        return s;
+    }
+
+    /**
+     * @return the gzipped serialized response, do not change it
+     */
+    public byte[] getGzippedBytes() {
+        byte[] g = gzipped;
+        if (g == null) {
+            byte[] b = getBytes();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(b.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(b);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            g = gzipped = out.toByteArray();
+        }
+        return g;
+    }
+
+    /**
+     * @return a strong entity tag of the serialized response (quoted), for conditional requests
+     */
+    public String getETag() {
+        String e = etag;
+        if (e == null) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(getBytes());
+                StringBuilder sb = new StringBuilder(digest.length + 2).append('"');
+                // Half of the digest is more than unique enough
+                for (int i = 0; i < digest.length / 2; i++) {
+                    sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16))
+                            .append(Character.forDigit(digest[i] & 0xF, 16));
+                }
+                e = etag = sb.append('"').toString();
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return e;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
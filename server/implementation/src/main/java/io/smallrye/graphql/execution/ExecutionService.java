@@ -1,11 +1,15 @@
 package io.smallrye.graphql.execution;
 
 import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
 
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.json.Json;
@@ -25,6 +29,8 @@ import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.execution.ExecutionId;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
 import graphql.schema.GraphQLSchema;
 import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.execution.error.ExceptionHandler;
@@ -52,12 +58,35 @@ public class ExecutionService {
 
     private final Config config;
 
-    private final GraphQLSchema graphQLSchema;
+    private GraphQLSchema graphQLSchema; // guarded by this
 
-    private GraphQL graphQL;
+    private QueryCache queryCache; // guarded by this
+
+    // Replaced as a whole when the schema changes, so a request runs against one version from start to end
+    private volatile GraphQL graphQL;
 
     private final List<ExecutionDecorator> executionDecorators = new ArrayList<>();
 
+    private final ExecutionPhaseMetrics phaseMetrics;
+
+    private final FieldTracingInstrumentation fieldTracing;
+
+    private final OperationStatistics operationStatistics;
+
+    private final IntrospectionCache introspectionCache;
+
+    private final ResponseCache responseCache;
+
+    private final OperationKeys operationKeys;
+
+    private final PersistedQueries persistedQueries;
+
+    private final QueryCoalescing queryCoalescing;
+
+    private final AdmissionControl admissionControl;
+
+    private final boolean deadlines;
+
     public ExecutionService(Config config, GraphQLSchema graphQLSchema) {
         this.config = config;
         this.graphQLSchema = graphQLSchema;
@@ -67,10 +96,97 @@ public class ExecutionService {
         if (config != null && config.isTracingEnabled()) {
             executionDecorators.add(new OpenTracingExecutionDecorator());
         }
+        this.phaseMetrics = (config != null && config.isMetricsEnabled()) ? new ExecutionPhaseMetrics() : null;
+        if (config != null && (config.getFieldTracingSampleRate() > 0 || config.isFieldTracingHeaderEnabled())) {
+            this.fieldTracing = new FieldTracingInstrumentation(config.getFieldTracingSampleRate());
+        } else {
+            this.fieldTracing = null;
+        }
+        if (config != null && config.isOperationStatisticsEnabled()) {
+            this.operationStatistics = new OperationStatistics(config.getOperationStatisticsMaxSize());
+        } else {
+            this.operationStatistics = null;
+        }
+        OperationKeys operationKeys = new OperationKeys();
+        if (config != null && config.isIntrospectionCacheEnabled()) {
+            this.introspectionCache = new IntrospectionCache(operationKeys);
+        } else {
+            this.introspectionCache = null;
+        }
+        if (config != null && config.isResponseCacheEnabled()) {
+            this.responseCache = new ResponseCache(config.getResponseCacheMaxSize(), config.getResponseCacheHeaders());
+        } else {
+            this.responseCache = null;
+        }
+        this.operationKeys = operationKeys;
+        if (config != null && config.isPersistedQueriesEnabled()) {
+            this.persistedQueries = new PersistedQueries(config.getPersistedQueriesMaxSize());
+        } else {
+            this.persistedQueries = null;
+        }
+        if (config != null && config.isQueryCoalescingEnabled()) {
+            this.queryCoalescing = new QueryCoalescing(config.getQueryCoalescingHeaders(),
+                    config.getQueryCoalescingAllowList().orElse(null));
+        } else {
+            this.queryCoalescing = null;
+        }
+        if (config != null) {
+            AdmissionControl control = new AdmissionControl(
+                    config.isAdmissionControlEnabled()
+                            ? new AdaptiveLimit(config.getAdmissionControlInitialLimit(),
+                                    config.getAdmissionControlMaxLimit())
+                            : null,
+                    config.getAdmissionControlBulkheads().orElse(null));
+            this.admissionControl = control.isEnabled() ? control : null;
+        } else {
+            this.admissionControl = null;
+        }
+        this.deadlines = config != null
+                && (config.getDeadlineTimeout() > 0 || config.getDeadlineHeader().isPresent());
     }
 
     public JsonObject execute(JsonObject jsonInput) {
-        String query = jsonInput.getString(QUERY);
+        return execute(jsonInput, Collections.emptyMap());
+    }
+
+    /**
+     * Execute the request
+     *
+     * @param jsonInput the request
+     * @param headers the (transport) headers that came with the request, keyed case-insensitively
+     * @return the response
+     */
+    public JsonObject execute(JsonObject jsonInput, Map<String, List<String>> headers) {
+        ExecutionResponse executionResponse = executeRequest(jsonInput, headers);
+        return executionResponse != null ? executionResponse.getJson() : null;
+    }
+
+    /**
+     * Execute the request, for a transport that wants to write the response as bytes, or cache it.
+     *
+     * The response can come from a cache, then it is already serialized.
+     *
+     * @param jsonInput the request
+     * @param headers the (transport) headers that came with the request, keyed case-insensitively
+     * @return the response
+     */
+    public ExecutionResponse executeRequest(JsonObject jsonInput, Map<String, List<String>> headers) {
+        long start = System.nanoTime();
+        String query = jsonInput.getString(QUERY, null);
+        String operationName = hasOperationName(jsonInput) ? jsonInput.getString(OPERATION_NAME) : null;
+
+        // Persisted query
+        String persistedQueryHash = persistedQueries != null ? PersistedQueries.getHash(jsonInput) : null;
+        if (persistedQueryHash != null) {
+            if (query == null) {
+                query = persistedQueries.get(persistedQueryHash);
+                if (query == null) {
+                    return errorResponse(PersistedQueries.NOT_FOUND, PersistedQueries.NOT_FOUND_CODE);
+                }
+            } else if (!persistedQueries.put(persistedQueryHash, query)) {
+                return errorResponse(PersistedQueries.HASH_MISMATCH, PersistedQueries.HASH_MISMATCH_CODE);
+            }
+        }
 
         if (config.logPayload()) {
             log.payloadIn(query);
@@ -78,50 +194,174 @@ public class ExecutionService {
 
         GraphQL g = getGraphQL();
         if (g != null) {
-            // Query
-            ExecutionInput.Builder executionBuilder = ExecutionInput.newExecutionInput()
-                    .query(query)
-                    .executionId(ExecutionId.from(executionIdPrefix + executionId.getAndIncrement()));
+            // A cached response would not have the traces, so traced requests bypass the caches
+            boolean traced = isTraced(headers);
+            String introspectionKey = traced ? null : getIntrospectionKey(query, operationName);
+            if (introspectionKey != null) {
+                ExecutionResponse cachedResponse = introspectionCache.get(introspectionKey, g);
+                if (cachedResponse != null) {
+                    return cachedResponse;
+                }
+            }
 
-            // Variables
-            graphQLVariables.getVariables(jsonInput).ifPresent(executionBuilder::variables);
+            OperationKeys.OperationKey operationKey = responseCache != null || queryCoalescing != null
+                    || admissionControl != null
+                            ? operationKeys.get(query, operationName)
+                            : null;
+
+            // Only queries can be cached
+            boolean cacheableQuery = responseCache != null && !traced && operationKey != null && operationKey.isQuery();
+            String responseKey = null;
+            if (cacheableQuery && introspectionKey == null) {
+                responseKey = responseCache.getKey(operationKey, jsonInput.get(VARIABLES), headers);
+                ExecutionResponse cachedResponse = responseCache.get(responseKey, g);
+                if (cachedResponse != null) {
+                    return cachedResponse;
+                }
+            }
 
-            // Operation name
-            if (hasOperationName(jsonInput)) {
-                executionBuilder.operationName(jsonInput.getString(OPERATION_NAME));
+            // Identical queries that run at the same time are executed once
+            long timeout = deadlines ? getTimeout(headers) : 0;
+            // A request that asks for less time executes on its own, so it can not cut the response of others short
+            String coalescingKey = queryCoalescing != null && operationKey != null && !traced
+                    && (!deadlines || timeout == config.getDeadlineTimeout())
+                            ? queryCoalescing.getKey(operationKey, jsonInput.get(VARIABLES), headers)
+                            : null;
+            if (coalescingKey != null) {
+                String coalescedQuery = query;
+                String coalescedResponseKey = responseKey;
+                return queryCoalescing.execute(coalescingKey,
+                        () -> executeAdmitted(operationKey, g, jsonInput, coalescedQuery, operationName, traced,
+                                introspectionKey, cacheableQuery, coalescedResponseKey, timeout, start),
+                        timeout, () -> errorResponse(msg.deadlineExceeded(timeout), DeadlineInstrumentation.TIMEOUT_CODE));
             }
+            return executeAdmitted(operationKey, g, jsonInput, query, operationName, traced, introspectionKey,
+                    cacheableQuery, responseKey, timeout, start);
+        } else {
+            log.noGraphQLMethodsFound();
+            return null;
+        }
+    }
+
+    /**
+     * Execute the operation if admission control lets it, else reject it right away
+     */
+    private ExecutionResponse executeAdmitted(OperationKeys.OperationKey operationKey, GraphQL g,
+            JsonObject jsonInput, String query, String operationName, boolean traced, String introspectionKey,
+            boolean cacheableQuery, String responseKey, long timeout, long start) {
+        if (admissionControl == null) {
+            return executeOperation(g, jsonInput, query, operationName, traced, introspectionKey, cacheableQuery,
+                    responseKey, timeout, start);
+        }
+        AdmissionControl.Permit permit = admissionControl.acquire(operationKey);
+        if (permit.isRejected()) {
+            return errorResponse(permit.getMessage(), permit.getCode(), permit.getStatus());
+        }
+        try {
+            return executeOperation(g, jsonInput, query, operationName, traced, introspectionKey, cacheableQuery,
+                    responseKey, timeout, start);
+        } finally {
+            permit.release();
+        }
+    }
+
+    private ExecutionResponse executeOperation(GraphQL g, JsonObject jsonInput, String query, String operationName,
+            boolean traced, String introspectionKey, boolean cacheableQuery, String responseKey, long timeout,
+            long start) {
+        // Query
+        ExecutionInput.Builder executionBuilder = ExecutionInput.newExecutionInput()
+                .query(query)
+                .executionId(ExecutionId.from(executionIdPrefix + executionId.getAndIncrement()));
+
+        // Variables
+        graphQLVariables.getVariables(jsonInput).ifPresent(executionBuilder::variables);
+
+        // Operation name
+        if (operationName != null) {
+            executionBuilder.operationName(operationName);
+        }
+
+        ExecutionInput executionInput = executionBuilder.build();
+
+        if (traced) {
+            FieldTracingInstrumentation.requestTracing(executionInput);
+        }
+
+        if (phaseMetrics != null) {
+            phaseMetrics.requestReceived(executionInput);
+        }
 
-            ExecutionInput executionInput = executionBuilder.build();
+        CachePolicy cachePolicy = cacheableQuery ? CachePolicy.register(executionInput.getContext()) : null;
 
-            ExecutionResult executionResult = execute(g, executionInput);
+        Deadline deadline = timeout > 0
+                ? Deadline.register(executionInput.getContext(), timeout, TimeUnit.MILLISECONDS)
+                : null;
 
+        RequestCleanup requestCleanup = RequestCleanup.register(executionInput.getContext());
+        try {
+            ExecutionResult executionResult = execute(g, executionInput, deadline);
+
+            long serializeStart = System.nanoTime();
             JsonObjectBuilder returnObjectBuilder = jsonObjectFactory.createObjectBuilder();
 
             // Errors
             returnObjectBuilder = addErrorsToResponse(returnObjectBuilder, executionResult);
             // Data
-            returnObjectBuilder = addDataToResponse(returnObjectBuilder, executionResult);
+            String data = toJson(executionResult.getData());
+            returnObjectBuilder = addDataToResponse(returnObjectBuilder, data);
+            // Extensions
+            returnObjectBuilder = addExtensionsToResponse(returnObjectBuilder, executionResult);
 
             JsonObject jsonResponse = returnObjectBuilder.build();
+            boolean complete = !jsonResponse.containsKey(ERRORS) && !jsonResponse.containsKey(EXTENSIONS);
+
+            ExecutionResponse executionResponse;
+            if (introspectionKey != null && complete) {
+                executionResponse = introspectionCache.put(introspectionKey, g, jsonResponse);
+            } else if (cachePolicy != null && complete && cachePolicy.getMaxAge() > 0) {
+                executionResponse = new ExecutionResponse(g, jsonResponse, cachePolicy.getMaxAge(),
+                        cachePolicy.isPrivateScope());
+                if (responseKey != null) {
+                    responseCache.put(responseKey, executionResponse);
+                }
+            } else {
+                executionResponse = new ExecutionResponse(g, jsonResponse);
+            }
+
+            if (phaseMetrics != null) {
+                phaseMetrics.responseSerialized(executionInput, System.nanoTime() - serializeStart,
+                        executionResponse.getSize());
+            }
+            if (operationStatistics != null) {
+                operationStatistics.record(executionInput, System.nanoTime() - start,
+                        executionResult.getErrors() != null && !executionResult.getErrors().isEmpty(),
+                        executionResponse.getSize());
+            }
 
             if (config.logPayload()) {
                 log.payloadOut(jsonResponse.toString());
             }
 
-            return jsonResponse;
-        } else {
-            log.noGraphQLMethodsFound();
-            return null;
+            return executionResponse;
+        } finally {
+            if (deadline != null) {
+                // Resolvers that did not complete in time may still use what the request cleans up
+                deadline.whenAbandonedComplete(requestCleanup::run);
+            } else {
+                requestCleanup.run();
+            }
         }
     }
 
-    private ExecutionResult execute(final GraphQL g, final ExecutionInput executionInput) {
+    private ExecutionResult execute(final GraphQL g, final ExecutionInput executionInput, final Deadline deadline) {
 
         for (ExecutionDecorator decorator : executionDecorators) {
             decorator.before(executionInput);
         }
         try {
-            ExecutionResult executionResult = g.execute(executionInput);
+            ExecutionResult executionResult = deadline != null
+                    ? deadline.await(g.executeAsync(executionInput))
+                    : g.execute(executionInput);
             for (ExecutionDecorator decorator : executionDecorators) {
                 decorator.after(executionInput, executionResult);
             }
@@ -134,20 +374,94 @@ public class ExecutionService {
         }
     }
 
-    private JsonObjectBuilder addDataToResponse(JsonObjectBuilder returnObjectBuilder, ExecutionResult executionResult) {
-        Object pojoData = executionResult.getData();
-        return addDataToResponse(returnObjectBuilder, pojoData);
+    /**
+     * The cached response to the request, if it is an introspection query that was answered before (for the current
+     * schema). The transport can write the serialized response as it is.
+     *
+     * @param jsonInput the request
+     * @return the cached response, or null if there is none
+     */
+    public ExecutionResponse getCachedResponse(JsonObject jsonInput) {
+        String introspectionKey = getIntrospectionKey(jsonInput.getString(QUERY, null),
+                hasOperationName(jsonInput) ? jsonInput.getString(OPERATION_NAME) : null);
+        GraphQL g = this.graphQL;
+        if (introspectionKey != null && g != null) {
+            return introspectionCache.get(introspectionKey, g);
+        }
+        return null;
+    }
+
+    /**
+     * Decide if the request is traced: if it asked for it with the header, or else if it is sampled
+     */
+    private boolean isTraced(Map<String, List<String>> headers) {
+        if (fieldTracing == null) {
+            return false;
+        }
+        if (config.isFieldTracingHeaderEnabled()
+                && Boolean.parseBoolean(getHeader(headers, FieldTracingInstrumentation.TRACE_HEADER))) {
+            return true;
+        }
+        return fieldTracing.sample();
+    }
+
+    private String getIntrospectionKey(String query, String operationName) {
+        if (introspectionCache == null) {
+            return null;
+        }
+        return introspectionCache.getKey(query, operationName);
+    }
+
+    /**
+     * The response cache, if enabled
+     *
+     * @return the response cache, or null if not enabled
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    private ExecutionResponse errorResponse(String message, String code) {
+        return errorResponse(message, code, ExecutionResponse.OK);
     }
 
-    private JsonObjectBuilder addDataToResponse(JsonObjectBuilder returnObjectBuilder, Object pojoData) {
-        if (pojoData != null) {
-            JsonValue data = toJsonValue(pojoData);
+    private ExecutionResponse errorResponse(String message, String code, int status) {
+        JsonObject error = jsonObjectFactory.createObjectBuilder()
+                .add(MESSAGE, message)
+                .add(EXTENSIONS, jsonObjectFactory.createObjectBuilder().add(CODE, code))
+                .build();
+        return new ExecutionResponse(null, jsonObjectFactory.createObjectBuilder()
+                .add(ERRORS, jsonObjectFactory.createArrayBuilder().add(error))
+                .build(), -1, false, status);
+    }
+
+    /**
+     * The per-operation statistics, if enabled
+     *
+     * @return the statistics, or null if not enabled
+     */
+    public OperationStatistics getOperationStatistics() {
+        return operationStatistics;
+    }
+
+    private JsonObjectBuilder addDataToResponse(JsonObjectBuilder returnObjectBuilder, String json) {
+        if (json != null) {
+            JsonValue data = toJsonValue(json);
             return returnObjectBuilder.add(DATA, data);
         } else {
             return returnObjectBuilder.addNull(DATA);
         }
     }
 
+    private JsonObjectBuilder addExtensionsToResponse(JsonObjectBuilder returnObjectBuilder,
+            ExecutionResult executionResult) {
+        Map<Object, Object> extensions = executionResult.getExtensions();
+        if (extensions != null && !extensions.isEmpty()) {
+            return returnObjectBuilder.add(EXTENSIONS, toJsonValue(toJson(extensions)));
+        }
+        return returnObjectBuilder;
+    }
+
     private JsonObjectBuilder addErrorsToResponse(JsonObjectBuilder returnObjectBuilder, ExecutionResult executionResult) {
         List<GraphQLError> errors = executionResult.getErrors();
         if (errors != null) {
@@ -162,31 +476,139 @@ public class ExecutionService {
 
     }
 
-    private JsonValue toJsonValue(Object pojo) {
-        String json = JSONB.toJson(pojo);
+    private String toJson(Object pojo) {
+        if (pojo != null) {
+            return JSONB.toJson(pojo);
+        }
+        return null;
+    }
+
+    private JsonValue toJsonValue(String json) {
         try (StringReader sr = new StringReader(json); JsonReader reader = jsonReaderFactory.createReader(sr)) {
             return reader.readValue();
         }
     }
 
-    private GraphQL getGraphQL() {
-        if (this.graphQL == null) {
-            ExceptionHandler exceptionHandler = new ExceptionHandler(config);
+    /**
+     * Replace the schema, without interrupting requests.
+     *
+     * Requests that are running finish against the previous schema, new requests use the new one.
+     * The query cache of the new schema is filled with the (still valid) queries that were cached for the previous one.
+     *
+     * @param graphQLSchema the new schema
+     */
+    public void updateSchema(GraphQLSchema graphQLSchema) {
+        synchronized (this) {
+            QueryCache previousQueryCache = this.queryCache;
+            this.graphQLSchema = graphQLSchema;
             if (graphQLSchema != null) {
-                QueryCache queryCache = new QueryCache();
-                this.graphQL = GraphQL
-                        .newGraphQL(graphQLSchema)
-                        .queryExecutionStrategy(new QueryExecutionStrategy(exceptionHandler))
-                        .mutationExecutionStrategy(new MutationExecutionStrategy(exceptionHandler))
-                        .instrumentation(queryCache)
-                        .preparsedDocumentProvider(queryCache)
-                        .build();
+                QueryCache newQueryCache = new QueryCache();
+                if (previousQueryCache != null) {
+                    newQueryCache.prewarm(graphQLSchema, previousQueryCache.getQueries());
+                }
+                this.queryCache = newQueryCache;
+                this.graphQL = createGraphQL(graphQLSchema, newQueryCache);
             } else {
-                log.noGraphQLMethodsFound();
+                this.queryCache = null;
+                this.graphQL = null;
+            }
+            // Only after the swap, else a request that still uses the old schema could fill the caches again
+            if (introspectionCache != null) {
+                introspectionCache.clear();
+            }
+            if (responseCache != null) {
+                responseCache.clear();
+            }
+        }
+        log.schemaUpdated();
+    }
+
+    /**
+     * The schema new requests are executed against
+     *
+     * @return the current schema
+     */
+    public synchronized GraphQLSchema getGraphQLSchema() {
+        return graphQLSchema;
+    }
+
+    private GraphQL getGraphQL() {
+        GraphQL g = this.graphQL;
+        if (g == null) {
+            synchronized (this) {
+                g = this.graphQL;
+                if (g == null) {
+                    if (graphQLSchema != null) {
+                        this.queryCache = new QueryCache();
+                        g = this.graphQL = createGraphQL(graphQLSchema, queryCache);
+                    } else {
+                        log.noGraphQLMethodsFound();
+                    }
+                }
+            }
+        }
+        return g;
+    }
+
+    private GraphQL createGraphQL(GraphQLSchema graphQLSchema, QueryCache queryCache) {
+        ExceptionHandler exceptionHandler = new ExceptionHandler(config);
+        return GraphQL
+                .newGraphQL(graphQLSchema)
+                .queryExecutionStrategy(new QueryExecutionStrategy(exceptionHandler))
+                .mutationExecutionStrategy(new MutationExecutionStrategy(exceptionHandler))
+                .instrumentation(getInstrumentation(queryCache))
+                .preparsedDocumentProvider(queryCache)
+                .build();
+    }
+
+    private Instrumentation getInstrumentation(QueryCache queryCache) {
+        List<Instrumentation> instrumentations = new ArrayList<>();
+        instrumentations.add(queryCache);
+        if (phaseMetrics != null) {
+            instrumentations.add(phaseMetrics);
+        }
+        if (fieldTracing != null) {
+            instrumentations.add(fieldTracing);
+        }
+        if (operationStatistics != null) {
+            instrumentations.add(operationStatistics);
+        }
+        if (deadlines) {
+            instrumentations.add(new DeadlineInstrumentation());
+        }
+        if (instrumentations.size() == 1) {
+            return queryCache;
+        }
+        return new ChainedInstrumentation(instrumentations);
+    }
+
+    /**
+     * The timeout of the request: the configured one, or a shorter one that the client asked for
+     *
+     * @return the timeout in milliseconds, 0 if there is none
+     */
+    private long getTimeout(Map<String, List<String>> headers) {
+        long timeout = config.getDeadlineTimeout();
+        String requested = config.getDeadlineHeader().map(name -> getHeader(headers, name)).orElse(null);
+        if (requested != null) {
+            try {
+                long requestedTimeout = Long.parseLong(requested.trim());
+                if (requestedTimeout > 0 && (timeout <= 0 || requestedTimeout < timeout)) {
+                    timeout = requestedTimeout;
+                }
+            } catch (NumberFormatException ex) {
+                // Not a timeout, so the configured one applies
             }
         }
-        return this.graphQL;
+        return timeout;
+    }
 
+    private String getHeader(Map<String, List<String>> headers, String name) {
+        List<String> values = headers.get(name);
+        if (values != null && !values.isEmpty()) {
+            return values.get(0);
+        }
+        return null;
     }
 
     private boolean hasOperationName(JsonObject jsonInput) {
@@ -197,6 +619,10 @@ public class ExecutionService {
 
     private static final String QUERY = "query";
     private static final String OPERATION_NAME = "operationName";
+    private static final String VARIABLES = "variables";
+    private static final String MESSAGE = "message";
+    private static final String CODE = "code";
     private static final String DATA = "data";
     private static final String ERRORS = "errors";
+    private static final String EXTENSIONS = "extensions";
 }
@@ -0,0 +1,105 @@
+package io.smallrye.graphql.execution;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
+import graphql.execution.instrumentation.tracing.TracingInstrumentation;
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+
+/**
+ * Adds an Apollo tracing compatible {@code extensions.tracing} block to the response,
+ * with the start offset and duration of every resolved field.
+ *
+ * Only requests that asked for it (see {@link #TRACE_HEADER}), or that are sampled, are traced. The caller decides
+ * that before the request executes (see {@link #sample()}), and marks the request with {@link #requestTracing}, so it
+ * can also keep traced requests out of its caches.
+ * For all other requests no tracing state is created, and every step is a no-op.
+ */
+public class FieldTracingInstrumentation extends TracingInstrumentation {
+
+    public static final String TRACE_HEADER = "X-GraphQL-Trace";
+
+    private static final Object TRACE_REQUESTED_KEY = FieldTracingInstrumentation.class;
+
+    private final double sampleRate;
+
+    public FieldTracingInstrumentation(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Decide if a request that did not ask for it is traced
+     *
+     * @return true for the share of requests of the sample rate
+     */
+    public boolean sample() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Mark this request to be traced
+     *
+     * @param executionInput the request
+     */
+    public static void requestTracing(ExecutionInput executionInput) {
+        ((GraphQLContext) executionInput.getContext()).put(TRACE_REQUESTED_KEY, Boolean.TRUE);
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        if (isTraced(parameters.getExecutionInput())) {
+            return super.createState();
+        }
+        return null;
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult,
+            InstrumentationExecutionParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+        return super.instrumentExecutionResult(executionResult, parameters);
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        return super.beginFieldFetch(parameters);
+    }
+
+    @Override
+    public InstrumentationContext<Document> beginParse(InstrumentationExecutionParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        return super.beginParse(parameters);
+    }
+
+    @Override
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
+        if (parameters.getInstrumentationState() == null) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        return super.beginValidation(parameters);
+    }
+
+    private boolean isTraced(ExecutionInput executionInput) {
+        Object context = executionInput.getContext();
+        return context instanceof GraphQLContext && ((GraphQLContext) context).hasKey(TRACE_REQUESTED_KEY);
+    }
+}
@@ -0,0 +1,97 @@
+package io.smallrye.graphql.execution;
+
+import javax.json.JsonObject;
+
+import graphql.GraphQL;
+
+/**
+ * Caches the responses to introspection queries, per schema.
+ *
+ * Tools like GraphiQL, code generators and gateways send the (full) introspection query often, and answering it walks
+ * the whole schema. As the answer only depends on the schema, it is executed once, and then served from here: as the
+ * JSON object, and already serialized (and gzipped) for the transport.
+ *
+ * A query is an introspection query if the operation only selects {@code __schema}, {@code __type} and
+ * {@code __typename}, and has no variables. Queries are recognized by their {@link OperationKeys normalized} document
+ * and operation name, so the same query with other formatting or comments gets the same response.
+ * A response belongs to the {@link GraphQL} (so the version of the schema) it was created with, and is not used for
+ * another one.
+ */
+public class IntrospectionCache {
+    private static final int MAX_RESPONSES = 16;
+
+    private final OperationKeys operationKeys;
+    // Replaced when the schema changes
+    private volatile LRUCache<String, ExecutionResponse> responses = new LRUCache<>(MAX_RESPONSES);
+
+    IntrospectionCache(OperationKeys operationKeys) {
+        this.operationKeys = operationKeys;
+    }
+
+    /**
+     * Get the key of the response, if the request is an introspection query
+     *
+     * @param query the query
+     * @param operationName the operation name, can be null
+     * @return the key, or null if this is not an introspection query
+     */
+    public String getKey(String query, String operationName) {
+        // Every introspection query has at least one __ field, so most queries can skip the lookup
+        if (query == null || !query.contains("__")) {
+            return null;
+        }
+        OperationKeys.OperationKey key = operationKeys.get(query, operationName);
+        return key != null && key.isIntrospection() ? key.getHash() : null;
+    }
+
+    /**
+     * Get the cached response
+     *
+     * @param key the key of the query
+     * @param graphQL what the request executes with
+     * @return the response, or null if it is not cached for this schema
+     */
+    public ExecutionResponse get(String key, GraphQL graphQL) {
+        ExecutionResponse response = responses.get(key);
+        if (response != null && response.getGraphQL() == graphQL) {
+            return response;
+        }
+        return null;
+    }
+
+    /**
+     * Cache a response
+     *
+     * @param key the key of the query
+     * @param graphQL what the response was created with
+     * @param json the response
+     * @return the cached response
+     */
+    public ExecutionResponse put(String key, GraphQL graphQL, JsonObject json) {
+        LRUCache<String, ExecutionResponse> current = this.responses;
+        ExecutionResponse response = current.computeIfAbsent(key, k -> cached(graphQL, json));
+        if (response.getGraphQL() != graphQL) {
+            // Created with another version of the schema, replace it
+            current.remove(key, response);
+            response = current.computeIfAbsent(key, k -> cached(graphQL, json));
+            if (response.getGraphQL() != graphQL) {
+                // Another request replaced it first, this one is not cached
+                return new ExecutionResponse(graphQL, json);
+            }
+        }
+        return response;
+    }
+
+    private static ExecutionResponse cached(GraphQL graphQL, JsonObject json) {
+        ExecutionResponse response = new ExecutionResponse(graphQL, json);
+        response.setCached();
+        return response;
+    }
+
+    /**
+     * Remove the cached responses, when the schema changes
+     */
+    public void clear() {
+        this.responses = new LRUCache<>(MAX_RESPONSES);
+    }
+}
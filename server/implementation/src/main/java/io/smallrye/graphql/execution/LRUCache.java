@@ -1,5 +1,7 @@
 package io.smallrye.graphql.execution;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -62,6 +64,40 @@ public class LRUCache<K, V> {
         return entry.value;
     }
 
+    /**
+     * Remove the entry, if it still has this value
+     *
+     * @param key the key
+     * @param value the value that should be removed
+     * @return if it was removed
+     */
+    boolean remove(K key, V value) {
+        AtomicBoolean removed = new AtomicBoolean();
+        cache.computeIfPresent(key, (k, e) -> {
+            if (e.value == value) {
+                removed.set(true);
+                removeEntry(e);
+                return null;
+            }
+            return e;
+        });
+        if (removed.get()) {
+            size.decrementAndGet();
+        }
+        return removed.get();
+    }
+
+    /**
+     * @return the keys, most recently used first
+     */
+    synchronized List<K> keys() {
+        List<K> keys = new ArrayList<>(size.get());
+        for (Entry<V> e = start; e != null; e = e.right) {
+            keys.add(e.key);
+        }
+        return keys;
+    }
+
     private synchronized Entry<V> moveEntryToStart(K key, Entry<V> entry) {
         // If it is already at the start there is nothing to do
         if (start != entry) {
@@ -7,6 +7,13 @@ import io.smallrye.graphql.schema.model.OperationType;
 
 public class MetricNaming {
 
+    public static final String PARSE = "mp_graphql_parse";
+    public static final String VALIDATE = "mp_graphql_validate";
+    public static final String EXECUTE = "mp_graphql_execute";
+    public static final String SERIALIZE = "mp_graphql_serialize";
+    public static final String REQUEST_SIZE = "mp_graphql_request_size";
+    public static final String RESPONSE_SIZE = "mp_graphql_response_size";
+
     public static String fromTypeAndName(GraphQLType type, String name) {
         return "mp_graphql_" + NameHelper.getName(type) + "_" + name;
     }
@@ -21,4 +28,12 @@ public class MetricNaming {
         }
     }
 
+    public static String cacheHitsFromOperation(Operation operation) {
+        return fromOperation(operation) + "_cache_hits";
+    }
+
+    public static String cacheMissesFromOperation(Operation operation) {
+        return fromOperation(operation) + "_cache_misses";
+    }
+
 }
@@ -1,8 +1,6 @@
 package io.smallrye.graphql.execution;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.Map;
 
 import graphql.ExecutionInput;
@@ -13,9 +11,14 @@ import io.opentracing.Span;
 import io.opentracing.Tracer;
 import io.smallrye.graphql.spi.OpenTracingService;
 
+/**
+ * Traces the execution of a request.
+ *
+ * The scope is kept in the request's own GraphQLContext, so no state is shared between requests.
+ */
 public class OpenTracingExecutionDecorator implements ExecutionDecorator {
 
-    private final Map<ExecutionInput, Scope> executionScopes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Object SCOPE_KEY = Scope.class;
 
     OpenTracingService openTracingService = OpenTracingService.load();
 
@@ -34,14 +37,14 @@ public class OpenTracingExecutionDecorator implements ExecutionDecorator {
                 .withTag("graphql.operationName", executionInput.getOperationName())
                 .startActive(true);
 
-        executionScopes.put(executionInput, scope);
-
-        ((GraphQLContext) executionInput.getContext()).put(Span.class, scope.span());
+        GraphQLContext context = (GraphQLContext) executionInput.getContext();
+        context.put(SCOPE_KEY, scope);
+        context.put(Span.class, scope.span());
     }
 
     @Override
     public void after(final ExecutionInput executionInput, final ExecutionResult executionResult) {
-        Scope scope = executionScopes.remove(executionInput);
+        Scope scope = removeScope(executionInput);
         if (scope != null) {
             scope.close();
         }
@@ -49,7 +52,7 @@ public class OpenTracingExecutionDecorator implements ExecutionDecorator {
 
     @Override
     public void onError(final ExecutionInput executionInput, final Throwable throwable) {
-        Scope scope = executionScopes.remove(executionInput);
+        Scope scope = removeScope(executionInput);
         if (scope != null) {
             Map<String, Object> error = new HashMap<>();
             error.put("event.object", throwable);
@@ -59,4 +62,13 @@ public class OpenTracingExecutionDecorator implements ExecutionDecorator {
         }
     }
 
+    private Scope removeScope(final ExecutionInput executionInput) {
+        GraphQLContext context = (GraphQLContext) executionInput.getContext();
+        Scope scope = context.get(SCOPE_KEY);
+        if (scope != null) {
+            context.delete(SCOPE_KEY);
+        }
+        return scope;
+    }
+
 }
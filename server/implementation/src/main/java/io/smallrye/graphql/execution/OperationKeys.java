@@ -0,0 +1,282 @@
+package io.smallrye.graphql.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import graphql.language.AstPrinter;
+import graphql.language.Definition;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.FragmentDefinition;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.OperationDefinition;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.parser.Parser;
+
+/**
+ * Recognizes the operation of a request, for the caches that are keyed by it.
+ *
+ * An operation is recognized by the hash of its normalized (compact printed) document and the operation name, so the
+ * same query with other formatting or comments gets the same key. The key of every query string is remembered, so
+ * a query is only parsed for this once.
+ */
+class OperationKeys {
+    private static final Set<String> INTROSPECTION_FIELDS = new HashSet<>(
+            Arrays.asList("__schema", "__type", "__typename"));
+    private static final int MAX_QUERIES = 1024;
+    // Remembered for queries that are not valid
+    private static final OperationKey INVALID = new OperationKey(null, null, null, false);
+
+    // By operation name and query string
+    private final LRUCache<String, OperationKey> keys = new LRUCache<>(MAX_QUERIES);
+
+    /**
+     * Get the key of the operation that the request executes
+     *
+     * @param query the query
+     * @param operationName the operation name, can be null
+     * @return the key, or null if the query is not valid or it is not clear which operation is executed
+     */
+    OperationKey get(String query, String operationName) {
+        if (query == null) {
+            return null;
+        }
+        String lookup = operationName + '\n' + query;
+        OperationKey key = keys.get(lookup);
+        if (key == null) {
+            key = keys.computeIfAbsent(lookup, l -> createKey(query, operationName));
+        }
+        return key == INVALID ? null : key;
+    }
+
+    private static OperationKey createKey(String query, String operationName) {
+        Document document;
+        try {
+            document = new Parser().parseDocument(query);
+        } catch (RuntimeException ex) {
+            // The execution reports it
+            return INVALID;
+        }
+        OperationDefinition operation = getOperation(document, operationName);
+        if (operation == null) {
+            return INVALID;
+        }
+        return new OperationKey(sha256(operationName + '\n' + AstPrinter.printAstCompact(document)),
+                operation.getOperation(), getFieldNames(document, operation), isIntrospection(operation));
+    }
+
+    /**
+     * The names of the fields the operation selects, also through fragments, or null if a fragment is not defined
+     */
+    private static Set<String> getFieldNames(Document document, OperationDefinition operation) {
+        Map<String, FragmentDefinition> fragments = new HashMap<>();
+        for (Definition<?> definition : document.getDefinitions()) {
+            if (definition instanceof FragmentDefinition) {
+                fragments.put(((FragmentDefinition) definition).getName(), (FragmentDefinition) definition);
+            }
+        }
+        Set<String> fieldNames = new HashSet<>();
+        if (!addFieldNames(operation.getSelectionSet(), fragments, new HashSet<>(), fieldNames)) {
+            return null;
+        }
+        return fieldNames;
+    }
+
+    private static boolean addFieldNames(SelectionSet selectionSet, Map<String, FragmentDefinition> fragments,
+            Set<String> spread, Set<String> fieldNames) {
+        for (Selection<?> selection : selectionSet.getSelections()) {
+            if (selection instanceof Field) {
+                fieldNames.add(((Field) selection).getName());
+            } else if (selection instanceof InlineFragment) {
+                if (!addFieldNames(((InlineFragment) selection).getSelectionSet(), fragments, spread, fieldNames)) {
+                    return false;
+                }
+            } else if (selection instanceof FragmentSpread) {
+                String name = ((FragmentSpread) selection).getName();
+                FragmentDefinition fragment = fragments.get(name);
+                if (fragment == null) {
+                    return false;
+                }
+                // A fragment that was spread before adds nothing (and cycles are reported by the validation)
+                if (spread.add(name) && !addFieldNames(fragment.getSelectionSet(), fragments, spread, fieldNames)) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * If the operation is a query that only selects {@code __schema}, {@code __type} and {@code __typename}, without
+     * variables or directives
+     */
+    private static boolean isIntrospection(OperationDefinition operation) {
+        if (operation.getOperation() != OperationDefinition.Operation.QUERY
+                || !operation.getVariableDefinitions().isEmpty()
+                || !operation.getDirectives().isEmpty()) {
+            return false;
+        }
+        for (Selection<?> selection : operation.getSelectionSet().getSelections()) {
+            if (!(selection instanceof Field) || !INTROSPECTION_FIELDS.contains(((Field) selection).getName())
+                    || !((Field) selection).getDirectives().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static OperationDefinition getOperation(Document document, String operationName) {
+        OperationDefinition found = null;
+        for (Definition<?> definition : document.getDefinitions()) {
+            if (definition instanceof OperationDefinition) {
+                OperationDefinition operation = (OperationDefinition) definition;
+                if (operationName == null) {
+                    if (found != null) {
+                        // Not clear which one, the execution reports it
+                        return null;
+                    }
+                    found = operation;
+                } else if (operationName.equals(operation.getName())) {
+                    return operation;
+                }
+            }
+        }
+        return found;
+    }
+
+    static String sha256(String s) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(s.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * The normalized operation of a request
+     */
+    static final class OperationKey {
+        private final String hash;
+        private final OperationDefinition.Operation operation;
+        private final Set<String> fieldNames;
+        private final boolean introspection;
+
+        private OperationKey(String hash, OperationDefinition.Operation operation, Set<String> fieldNames,
+                boolean introspection) {
+            this.hash = hash;
+            this.operation = operation;
+            this.fieldNames = fieldNames;
+            this.introspection = introspection;
+        }
+
+        /**
+         * @return the hash of the normalized document and the operation name
+         */
+        String getHash() {
+            return hash;
+        }
+
+        boolean isQuery() {
+            return operation == OperationDefinition.Operation.QUERY;
+        }
+
+        /**
+         * @return the names of the fields the operation selects, or null if they are not known
+         */
+        Set<String> getFieldNames() {
+            return fieldNames;
+        }
+
+        /**
+         * @param names the names of fields
+         * @return if the operation only selects fields with these names
+         */
+        boolean onlySelects(Set<String> names) {
+            return fieldNames != null && names.containsAll(fieldNames);
+        }
+
+        /**
+         * @return if this is a query that only uses introspection, without variables
+         */
+        boolean isIntrospection() {
+            return introspection;
+        }
+
+        /**
+         * Create the key of a request that executes this operation
+         *
+         * @param variables the variables of the request, can be null
+         * @param headerNames the names of the headers the response depends on
+         * @param headers the headers of the request, keyed case-insensitively
+         * @return the key, the same for the same operation, variables (in any order) and header values
+         */
+        String forRequest(JsonValue variables, List<String> headerNames, Map<String, List<String>> headers) {
+            StringBuilder sb = new StringBuilder(hash).append('\n');
+            if (variables != null && variables.getValueType() == JsonValue.ValueType.OBJECT) {
+                appendCanonical(sb, variables);
+            }
+            if (headerNames != null) {
+                for (String headerName : headerNames) {
+                    sb.append('\n').append(headers.get(headerName));
+                }
+            }
+            return sha256(sb.toString());
+        }
+
+        private static void appendCanonical(StringBuilder sb, JsonValue value) {
+            switch (value.getValueType()) {
+                case OBJECT:
+                    // Sorted, so the order in the request does not matter
+                    Map<String, JsonValue> sorted = new TreeMap<>((JsonObject) value);
+                    sb.append('{');
+                    boolean first = true;
+                    for (Map.Entry<String, JsonValue> entry : sorted.entrySet()) {
+                        if (!first) {
+                            sb.append(',');
+                        }
+                        first = false;
+                        sb.append(Json.createValue(entry.getKey())).append(':');
+                        appendCanonical(sb, entry.getValue());
+                    }
+                    sb.append('}');
+                    break;
+                case ARRAY:
+                    sb.append('[');
+                    JsonArray array = (JsonArray) value;
+                    for (int i = 0; i < array.size(); i++) {
+                        if (i > 0) {
+                            sb.append(',');
+                        }
+                        appendCanonical(sb, array.get(i));
+                    }
+                    sb.append(']');
+                    break;
+                default:
+                    sb.append(value.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package io.smallrye.graphql.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.language.AstPrinter;
+import graphql.language.AstSignature;
+import graphql.language.Document;
+
+/**
+ * In-process statistics per operation.
+ *
+ * Operations are keyed by the hash of their normalized document (literals removed, fields sorted), so the same operation
+ * with different inline arguments or formatting is counted once. The normalized hash is only computed once per distinct
+ * query string. Requests that never got to execution (e.g. syntax errors) are keyed by the hash of their
+ * whitespace-collapsed query, and have no signature: their query is not kept, as it may contain anything.
+ *
+ * Memory is bounded: once {@code maxOperations} distinct operations are tracked, new ones are counted under a single
+ * "other" entry.
+ */
+public class OperationStatistics extends SimpleInstrumentation {
+
+    private static final Object ENTRY_KEY = OperationStatistics.class;
+    private static final String OTHER = "other";
+    private static final int MAX_SIGNATURE_LENGTH = 2048;
+
+    private final int maxOperations;
+
+    private volatile Registry registry;
+
+    public OperationStatistics(int maxOperations) {
+        this.maxOperations = maxOperations;
+        this.registry = new Registry(maxOperations);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters) {
+        ExecutionInput executionInput = parameters.getExecutionContext().getExecutionInput();
+        Document document = parameters.getExecutionContext().getDocument();
+        Entry entry = registry.lookup(executionInput.getQuery(), executionInput.getOperationName(), document);
+        ((GraphQLContext) executionInput.getContext()).put(ENTRY_KEY, entry);
+        return super.beginExecuteOperation(parameters);
+    }
+
+    /**
+     * Record a completed request
+     *
+     * @param executionInput the request
+     * @param durationNanos how long the request took, end to end
+     * @param error if the response contained errors
+     * @param responseSize the size of the serialized response, in bytes
+     */
+    public void record(ExecutionInput executionInput, long durationNanos, boolean error, long responseSize) {
+        Entry entry = ((GraphQLContext) executionInput.getContext()).get(ENTRY_KEY);
+        if (entry == null) {
+            // Did not get to execution, so there is no (valid) document
+            entry = registry.lookup(executionInput.getQuery(), executionInput.getOperationName(), null);
+        }
+        entry.record(durationNanos, error, responseSize);
+    }
+
+    /**
+     * Get the top operations
+     *
+     * @param limit the maximum number of operations to return
+     * @param order what to order by, highest first
+     * @return the top operations
+     */
+    public List<Summary> getTop(int limit, Order order) {
+        return registry.byHash.values().stream()
+                .map(Entry::summarize)
+                .filter(summary -> summary.getCount() > 0)
+                .sorted(order.comparator.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove all recorded statistics
+     */
+    public void reset() {
+        this.registry = new Registry(maxOperations);
+    }
+
+    public enum Order {
+        TOTAL_TIME(Comparator.comparingLong(Summary::getTotalTimeNanos)),
+        P99(Comparator.comparingLong(Summary::getP99Nanos)),
+        ERROR_RATE(Comparator.comparingDouble(Summary::getErrorRate));
+
+        private final Comparator<Summary> comparator;
+
+        Order(Comparator<Summary> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    private static class Registry {
+        private final int maxOperations;
+        // Avoids normalizing and hashing the same query string over and over
+        private final LRUCache<String, Entry> byQuery;
+        private final Map<String, Entry> byHash = new ConcurrentHashMap<>();
+        private final AtomicInteger operations = new AtomicInteger();
+
+        Registry(int maxOperations) {
+            this.maxOperations = maxOperations;
+            this.byQuery = new LRUCache<>(maxOperations * 4);
+        }
+
+        Entry lookup(String query, String operationName, Document document) {
+            String queryKey = (document != null ? "" : "!") + operationName + '\n' + query;
+            Entry entry = byQuery.get(queryKey);
+            if (entry == null) {
+                entry = byQuery.computeIfAbsent(queryKey, k -> forSignature(operationName, signature(query, operationName,
+                        document), document != null));
+            }
+            return entry;
+        }
+
+        private Entry forSignature(String operationName, String signature, boolean parsed) {
+            String hash = sha256(signature);
+            Entry entry = byHash.get(hash);
+            if (entry == null) {
+                // Counted in the mapping function, so concurrent new operations can not exceed the bound
+                entry = byHash.computeIfAbsent(hash, k -> {
+                    if (operations.incrementAndGet() > maxOperations) {
+                        operations.decrementAndGet();
+                        return null;
+                    }
+                    return new Entry(hash, operationName, parsed ? truncate(signature) : null);
+                });
+                if (entry == null) {
+                    entry = byHash.computeIfAbsent(OTHER, k -> new Entry(OTHER, null, null));
+                }
+            }
+            return entry;
+        }
+
+        private String signature(String query, String operationName, Document document) {
+            if (document != null) {
+                return AstPrinter.printAstCompact(new AstSignature().signatureQuery(document, operationName));
+            }
+            return query == null ? "" : query.trim().replaceAll("\\s+", " ");
+        }
+
+        private String truncate(String signature) {
+            if (signature.length() > MAX_SIGNATURE_LENGTH) {
+                return signature.substring(0, MAX_SIGNATURE_LENGTH);
+            }
+            return signature;
+        }
+
+        private String sha256(String s) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] bytes = digest.digest(s.getBytes(StandardCharsets.UTF_8));
+                StringBuilder sb = new StringBuilder(bytes.length * 2);
+                for (byte b : bytes) {
+                    sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                return sb.toString();
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private static class Entry {
+        private final String hash;
+        private final String operationName;
+        private final String signature;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAdder totalResponseSize = new LongAdder();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Entry(String hash, String operationName, String signature) {
+            this.hash = hash;
+            this.operationName = operationName;
+            this.signature = signature;
+        }
+
+        void record(long durationNanos, boolean error, long responseSize) {
+            count.increment();
+            if (error) {
+                errors.increment();
+            }
+            totalTimeNanos.add(durationNanos);
+            totalResponseSize.add(responseSize);
+            histogram.record(durationNanos);
+        }
+
+        Summary summarize() {
+            long[] counts = histogram.snapshot();
+            return new Summary(hash, operationName, signature, count.sum(), errors.sum(), totalTimeNanos.sum(),
+                    totalResponseSize.sum(), LatencyHistogram.percentile(counts, 0.5),
+                    LatencyHistogram.percentile(counts, 0.99));
+        }
+    }
+
+    /**
+     * Log-linear histogram of nanosecond values: 4 buckets per power of two, so values are reported within 25%.
+     */
+    static class LatencyHistogram {
+        private static final int SUB_BUCKETS = 4;
+        private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+
+        void record(long value) {
+            counts.incrementAndGet(index(Math.max(value, 1)));
+        }
+
+        long[] snapshot() {
+            long[] snapshot = new long[counts.length()];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = counts.get(i);
+            }
+            return snapshot;
+        }
+
+        static int index(long value) {
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            if (exponent < 2) {
+                return (int) value;
+            }
+            int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+            return exponent * SUB_BUCKETS + sub;
+        }
+
+        static long upperBound(int index) {
+            int exponent = index / SUB_BUCKETS;
+            if (exponent < 2) {
+                return index;
+            }
+            int sub = index % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + sub + 1) << (exponent - 2)) - 1;
+        }
+
+        static long percentile(long[] counts, double percentile) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(counts.length - 1);
+        }
+    }
+
+    /**
+     * A point-in-time view of the statistics of one operation
+     */
+    public static class Summary {
+        private final String hash;
+        private final String operationName;
+        private final String signature;
+        private final long count;
+        private final long errors;
+        private final long totalTimeNanos;
+        private final long totalResponseSize;
+        private final long p50Nanos;
+        private final long p99Nanos;
+
+        Summary(String hash, String operationName, String signature, long count, long errors, long totalTimeNanos,
+                long totalResponseSize, long p50Nanos, long p99Nanos) {
+            this.hash = hash;
+            this.operationName = operationName;
+            this.signature = signature;
+            this.count = count;
+            this.errors = errors;
+            this.totalTimeNanos = totalTimeNanos;
+            this.totalResponseSize = totalResponseSize;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public String getOperationName() {
+            return operationName;
+        }
+
+        public String getSignature() {
+            return signature;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getErrorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+
+        public long getTotalTimeNanos() {
+            return totalTimeNanos;
+        }
+
+        public long getAverageTimeNanos() {
+            return count == 0 ? 0 : totalTimeNanos / count;
+        }
+
+        public long getAverageResponseSize() {
+            return count == 0 ? 0 : totalResponseSize / count;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.smallrye.graphql.execution;
+
+import java.util.Locale;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+/**
+ * Automatic persisted queries: clients can send the SHA-256 hash of a query instead of the query, in the request's
+ * {@code extensions} as {@code {"persistedQuery": {"version": 1, "sha256Hash": "..."}}}.
+ *
+ * If the hash is not known, the client gets a {@code PersistedQueryNotFound} error, and sends the query with the hash,
+ * after which the hash is known. This keeps requests small, and makes GET requests (that CDNs can cache) possible for
+ * large queries.
+ */
+class PersistedQueries {
+
+    static final String NOT_FOUND = "PersistedQueryNotFound";
+    static final String NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+    static final String HASH_MISMATCH = "provided sha does not match query";
+    static final String HASH_MISMATCH_CODE = "PERSISTED_QUERY_HASH_MISMATCH";
+
+    // By hash, in lower case
+    private final LRUCache<String, String> queries;
+
+    PersistedQueries(int maxSize) {
+        this.queries = new LRUCache<>(maxSize);
+    }
+
+    /**
+     * Get the hash of the persisted query in the request
+     *
+     * @param jsonInput the request
+     * @return the hash (in lower case), or null if the request does not use a persisted query
+     */
+    static String getHash(JsonObject jsonInput) {
+        JsonObject persistedQuery = getObject(getObject(jsonInput, EXTENSIONS), PERSISTED_QUERY);
+        if (persistedQuery != null && persistedQuery.containsKey(SHA256_HASH)
+                && persistedQuery.get(SHA256_HASH).getValueType() == JsonValue.ValueType.STRING) {
+            return persistedQuery.getString(SHA256_HASH).toLowerCase(Locale.ROOT);
+        }
+        return null;
+    }
+
+    /**
+     * @param hash the hash of the query
+     * @return the query, or null if it is not known
+     */
+    String get(String hash) {
+        return queries.get(hash);
+    }
+
+    /**
+     * Remember a query by its hash
+     *
+     * @param hash the hash the client sent, in lower case
+     * @param query the query
+     * @return false if the hash is not the hash of the query
+     */
+    boolean put(String hash, String query) {
+        if (query.equals(queries.get(hash))) {
+            return true;
+        }
+        if (!OperationKeys.sha256(query).equals(hash)) {
+            return false;
+        }
+        queries.computeIfAbsent(hash, h -> query);
+        return true;
+    }
+
+    private static JsonObject getObject(JsonObject jsonObject, String name) {
+        if (jsonObject != null && jsonObject.containsKey(name)
+                && jsonObject.get(name).getValueType() == JsonValue.ValueType.OBJECT) {
+            return jsonObject.getJsonObject(name);
+        }
+        return null;
+    }
+
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+}
@@ -5,6 +5,7 @@ import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -14,7 +15,11 @@ import graphql.execution.instrumentation.SimpleInstrumentation;
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
 import graphql.execution.preparsed.PreparsedDocumentEntry;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
 import graphql.validation.ValidationError;
+import graphql.validation.Validator;
 
 public class QueryCache extends SimpleInstrumentation implements PreparsedDocumentProvider {
     private static final int MAX_CACHE_SIZE = AccessController.doPrivileged((PrivilegedAction<Integer>) () -> {
@@ -40,6 +45,36 @@ public class QueryCache extends SimpleInstrumentation implements PreparsedDocume
         return entry;
     }
 
+    /**
+     * @return the cached queries, most recently used first
+     */
+    public List<String> getQueries() {
+        return cache.keys();
+    }
+
+    /**
+     * Parse and validate these queries against the schema, and cache the ones that are valid
+     *
+     * @param graphQLSchema the schema this cache is for
+     * @param queries the queries, most recently used first (like {@link #getQueries()})
+     */
+    public void prewarm(GraphQLSchema graphQLSchema, List<String> queries) {
+        Parser parser = new Parser();
+        Validator validator = new Validator();
+        // Least recently used first, so the order is kept
+        for (ListIterator<String> it = queries.listIterator(queries.size()); it.hasPrevious();) {
+            String query = it.previous();
+            try {
+                Document document = parser.parseDocument(query);
+                if (validator.validateDocument(graphQLSchema, document).isEmpty()) {
+                    cache.computeIfAbsent(query, q -> new PreparsedDocumentEntry(document));
+                }
+            } catch (RuntimeException ex) {
+                // Not valid anymore, it will fail (and not be cached) when someone sends it again
+            }
+        }
+    }
+
     @Override
     public InstrumentationContext<List<ValidationError>> beginValidation(
             InstrumentationValidationParameters parameters) {
@@ -0,0 +1,136 @@
+package io.smallrye.graphql.execution;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.json.JsonValue;
+
+/**
+ * Coalesces identical queries that run at the same time (single flight): the first one is executed, and the others
+ * wait for it and get the same response, that is only serialized once.
+ *
+ * Queries are identical if they have the same normalized operation, variables (in any order) and values of the
+ * configured headers that responses can depend on. By default those are {@code Authorization} and {@code Cookie} (for
+ * session based authentication). If users are told apart by anything else, like another header or a client
+ * certificate, that header has to be configured, or coalescing turned off, else one user can get the response of
+ * another. Only queries are coalesced, and if an allow-list is configured, only those that select nothing but the root
+ * fields on it.
+ *
+ * Requests that have a deadline wait for the identical one until their own deadline, and get a timeout error if it did
+ * not respond by then.
+ */
+class QueryCoalescing {
+    private final List<String> headerNames;
+    // Null for all queries
+    private final Set<String> allowList;
+
+    // By the key of the request
+    private final ConcurrentMap<String, CompletableFuture<ExecutionResponse>> flights = new ConcurrentHashMap<>();
+
+    QueryCoalescing(List<String> headerNames, List<String> allowList) {
+        this.headerNames = headerNames != null ? headerNames : Collections.emptyList();
+        this.allowList = allowList != null && !allowList.isEmpty() ? new HashSet<>(allowList) : null;
+    }
+
+    /**
+     * Get the key of the request, if it can be coalesced
+     *
+     * @param operationKey the operation of the request
+     * @param variables the variables of the request, can be null
+     * @param headers the headers of the request, keyed case-insensitively
+     * @return the key, or null if the request can not be coalesced
+     */
+    String getKey(OperationKeys.OperationKey operationKey, JsonValue variables, Map<String, List<String>> headers) {
+        if (!operationKey.isQuery() || (allowList != null && !operationKey.onlySelects(allowList))) {
+            return null;
+        }
+        return operationKey.forRequest(variables, headerNames, headers);
+    }
+
+    /**
+     * Execute the request, or wait for the identical one that is executing
+     *
+     * @param key the key of the request
+     * @param execution executes the request
+     * @return the response, shared by all identical requests that waited for it
+     */
+    ExecutionResponse execute(String key, Supplier<ExecutionResponse> execution) {
+        return execute(key, execution, 0, null);
+    }
+
+    /**
+     * Execute the request, or wait for the identical one that is executing, at most until the deadline of the request
+     *
+     * @param key the key of the request
+     * @param execution executes the request
+     * @param timeout the time (in milliseconds) the request has, 0 if it has no deadline
+     * @param timedOut creates the response if the identical request did not respond in time
+     * @return the response, shared by all identical requests that waited for it
+     */
+    ExecutionResponse execute(String key, Supplier<ExecutionResponse> execution, long timeout,
+            Supplier<ExecutionResponse> timedOut) {
+        CompletableFuture<ExecutionResponse> flight = new CompletableFuture<>();
+        CompletableFuture<ExecutionResponse> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            return timeout > 0 ? await(running, timeout, timedOut) : await(running);
+        }
+        try {
+            ExecutionResponse response = execution.get();
+            if (response != null) {
+                // Shared, so it is serialized once
+                response.setCached();
+            }
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Requests that come after this are executed again
+            flights.remove(key, flight);
+        }
+    }
+
+    private static ExecutionResponse await(CompletableFuture<ExecutionResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause(), e);
+        }
+    }
+
+    private static ExecutionResponse await(CompletableFuture<ExecutionResponse> running, long timeout,
+            Supplier<ExecutionResponse> timedOut) {
+        try {
+            return running.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return timedOut.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return timedOut.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause(), new CompletionException(e.getCause()));
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause, RuntimeException wrapped) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return wrapped;
+    }
+}
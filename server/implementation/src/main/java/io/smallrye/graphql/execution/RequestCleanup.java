@@ -0,0 +1,85 @@
+package io.smallrye.graphql.execution;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import graphql.GraphQLContext;
+
+/**
+ * Actions to run once a request is done, like destroying {@code @Dependent} beans that were created for it.
+ *
+ * One instance is registered in the request's {@link GraphQLContext} for every request, and run (in reverse order of
+ * registration) after the response has been created. Actions that are added after that (by a resolver that outlived
+ * the request) run right away.
+ */
+public class RequestCleanup {
+
+    private static final Object KEY = RequestCleanup.class;
+
+    private Deque<Runnable> actions;
+    private boolean done;
+
+    /**
+     * Get the cleanup of the request that this context belongs to
+     *
+     * @param context the request context (from the ExecutionInput or DataFetchingEnvironment)
+     * @return the request cleanup, or null if the request was not started via the ExecutionService
+     */
+    public static RequestCleanup of(Object context) {
+        if (context instanceof GraphQLContext) {
+            return ((GraphQLContext) context).get(KEY);
+        }
+        return null;
+    }
+
+    static RequestCleanup register(Object context) {
+        RequestCleanup cleanup = new RequestCleanup();
+        if (context instanceof GraphQLContext) {
+            ((GraphQLContext) context).put(KEY, cleanup);
+        }
+        return cleanup;
+    }
+
+    /**
+     * Run this action when the request is done
+     *
+     * @param action the action
+     */
+    public void add(Runnable action) {
+        synchronized (this) {
+            if (!done) {
+                if (actions == null) {
+                    actions = new ArrayDeque<>();
+                }
+                actions.push(action);
+                return;
+            }
+        }
+        // The request is already done
+        run(action);
+    }
+
+    void run() {
+        Deque<Runnable> toRun;
+        synchronized (this) {
+            toRun = actions;
+            actions = null;
+            done = true;
+        }
+        if (toRun != null) {
+            for (Runnable action : toRun) {
+                run(action);
+            }
+        }
+    }
+
+    private static void run(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            log.requestCleanupFailed(ex);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.smallrye.graphql.execution;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonValue;
+
+import graphql.GraphQL;
+
+/**
+ * Caches whole responses to queries, for as long as their {@link CachePolicy cache hints} allow.
+ *
+ * Responses are keyed by the normalized operation, the variables (in any order) and the values of the configured
+ * headers (like {@code Authorization}) that responses can depend on. Only responses without errors, that are for
+ * everybody (public) and can be cached for at least a second, are stored.
+ * A response belongs to the {@link GraphQL} (so the version of the schema) it was created with, and is not used for
+ * another one.
+ */
+public class ResponseCache {
+    private final int maxSize;
+    private final List<String> headerNames;
+    // Replaced when the schema changes
+    private volatile LRUCache<String, ExecutionResponse> responses;
+
+    ResponseCache(int maxSize, List<String> headerNames) {
+        this.maxSize = maxSize;
+        this.headerNames = headerNames != null ? headerNames : Collections.emptyList();
+        this.responses = new LRUCache<>(maxSize);
+    }
+
+    /**
+     * @return the names of the headers the responses depend on
+     */
+    public List<String> getHeaderNames() {
+        return headerNames;
+    }
+
+    /**
+     * Get the key of the response
+     *
+     * @param operationKey the operation of the request
+     * @param variables the variables of the request, can be null
+     * @param headers the headers of the request, keyed case-insensitively
+     * @return the key
+     */
+    String getKey(OperationKeys.OperationKey operationKey, JsonValue variables, Map<String, List<String>> headers) {
+        return operationKey.forRequest(variables, headerNames, headers);
+    }
+
+    /**
+     * Get the cached response
+     *
+     * @param key the key of the request
+     * @param graphQL what the request executes with
+     * @return the response, or null if it is not cached (anymore) for this schema
+     */
+    ExecutionResponse get(String key, GraphQL graphQL) {
+        LRUCache<String, ExecutionResponse> current = this.responses;
+        ExecutionResponse response = current.get(key);
+        if (response == null) {
+            return null;
+        }
+        if (response.isExpired()) {
+            current.remove(key, response);
+            return null;
+        }
+        return response.getGraphQL() == graphQL ? response : null;
+    }
+
+    /**
+     * Cache a response, if it can be
+     *
+     * @param key the key of the request
+     * @param response the response
+     */
+    void put(String key, ExecutionResponse response) {
+        if (response.getMaxAge() < 1 || response.isPrivateScope() || response.getJson().containsKey(ERRORS)) {
+            return;
+        }
+        response.setCached();
+        LRUCache<String, ExecutionResponse> current = this.responses;
+        ExecutionResponse cached = current.computeIfAbsent(key, k -> response);
+        if (cached != response && (cached.isExpired() || cached.getGraphQL() != response.getGraphQL())) {
+            // Replace the outdated one
+            current.remove(key, cached);
+            current.computeIfAbsent(key, k -> response);
+        }
+    }
+
+    /**
+     * Remove the cached responses, when the schema changes
+     */
+    public void clear() {
+        this.responses = new LRUCache<>(maxSize);
+    }
+
+    private static final String ERRORS = "errors";
+}
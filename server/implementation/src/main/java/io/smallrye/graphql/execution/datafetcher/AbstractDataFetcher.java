@@ -20,6 +20,7 @@ import io.smallrye.graphql.execution.datafetcher.decorator.DataFetcherDecorator;
 import io.smallrye.graphql.execution.datafetcher.helper.ArgumentHelper;
 import io.smallrye.graphql.execution.datafetcher.helper.FieldHelper;
 import io.smallrye.graphql.execution.error.GraphQLExceptionWhileDataFetching;
+import io.smallrye.graphql.json.JsonInputRegistry;
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.spi.ClassloadingService;
@@ -48,12 +49,14 @@ public abstract class AbstractDataFetcher<T> implements DataFetcher<T> {
      *
      * @param operation the operation
      * @param decorators collection of decorators to invoke before and after fetching the data
+     * @param jsonInputRegistry the input registry of the schema this operation is in
      *
      */
-    protected AbstractDataFetcher(Operation operation, Collection<DataFetcherDecorator> decorators) {
+    protected AbstractDataFetcher(Operation operation, Collection<DataFetcherDecorator> decorators,
+            JsonInputRegistry jsonInputRegistry) {
         this.operation = operation;
         this.fieldHelper = new FieldHelper(operation);
-        this.argumentHelper = new ArgumentHelper(operation.getArguments());
+        this.argumentHelper = new ArgumentHelper(operation.getArguments(), jsonInputRegistry);
         this.decorators = decorators;
     }
 
@@ -14,7 +14,10 @@ import org.eclipse.microprofile.graphql.GraphQLException;
 import graphql.GraphQLContext;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetchingEnvironment;
+import io.smallrye.graphql.execution.Deadline;
+import io.smallrye.graphql.execution.RequestCleanup;
 import io.smallrye.graphql.execution.datafetcher.decorator.DataFetcherDecorator;
+import io.smallrye.graphql.json.JsonInputRegistry;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.transformation.AbstractDataFetcherException;
 
@@ -26,11 +29,12 @@ import io.smallrye.graphql.transformation.AbstractDataFetcherException;
 public class AsyncDataFetcher extends AbstractDataFetcher<CompletionStage<DataFetcherResult<Object>>> {
 
     public AsyncDataFetcher(Operation operation) {
-        this(operation, Collections.emptyList());
+        this(operation, Collections.emptyList(), new JsonInputRegistry());
     }
 
-    public AsyncDataFetcher(Operation operation, Collection<DataFetcherDecorator> decorators) {
-        super(operation, decorators);
+    public AsyncDataFetcher(Operation operation, Collection<DataFetcherDecorator> decorators,
+            JsonInputRegistry jsonInputRegistry) {
+        super(operation, decorators, jsonInputRegistry);
     }
 
     /**
@@ -60,7 +64,7 @@ public class AsyncDataFetcher extends AbstractDataFetcher<CompletionStage<DataFe
         Class<?> operationClass = classloadingService.loadClass(operation.getClassName());
         Method m = getMethod(operationClass);
 
-        Object declaringObject = lookupService.getInstance(operationClass);
+        Object declaringObject = lookupService.getInstance(operationClass, RequestCleanup.of(dfe.getContext()));
 
         try {
             Object[] transformedArguments = argumentHelper.getArguments(dfe);
@@ -69,6 +73,11 @@ public class AsyncDataFetcher extends AbstractDataFetcher<CompletionStage<DataFe
                     decorators.iterator());
 
             CompletionStage<Object> futureResult = execute(executionContext);
+            Deadline deadline = Deadline.of(dfe.getContext());
+            if (deadline != null) {
+                // Not waited for (and cancelled) when the deadline passes, then the result is null
+                futureResult = deadline.track(futureResult);
+            }
 
             return futureResult.handle((result, throwable) -> {
                 if (throwable instanceof CompletionException) {
@@ -0,0 +1,32 @@
+package io.smallrye.graphql.execution.datafetcher;
+
+/**
+ * The key of some state that is attached to an {@link ExecutionContext}, with the type of that state.
+ *
+ * Keys are compared by identity, so every decorator keeps its own keys in constants.
+ *
+ * @param <T> the type of the state
+ */
+public final class AttributeKey<T> {
+
+    private final String name;
+    private final Class<T> type;
+
+    /**
+     * @param name the name of the key, only used in {@link #toString()}
+     * @param type the type of the state
+     */
+    public AttributeKey(String name, Class<T> type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    T cast(Object value) {
+        return type.cast(value);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + type.getName() + ")";
+    }
+}
@@ -4,6 +4,7 @@ import java.lang.reflect.Method;
 
 import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
+import io.smallrye.graphql.execution.Deadline;
 
 /**
  * Context of a data-fetch execution.
@@ -45,6 +46,15 @@ public interface ExecutionContext {
      */
     DataFetchingEnvironment dataFetchingEnvironment();
 
+    /**
+     * The deadline of the request, with the time that is left to fetch the data
+     *
+     * @return the deadline, or null if the request has none
+     */
+    default Deadline deadline() {
+        return Deadline.of(dataFetchingEnvironment().getContext());
+    }
+
     /**
      * Proceed the execution,
      *
@@ -53,4 +63,32 @@ public interface ExecutionContext {
      */
     Object proceed() throws Exception;
 
+    /**
+     * Get some state that was attached to this execution, e.g. by a decorator in its before call.
+     *
+     * @param key the key the state was stored under
+     * @param <T> the type of the state
+     * @return the state, or null if nothing was stored under that key
+     */
+    <T> T getAttribute(AttributeKey<T> key);
+
+    /**
+     * Attach some state to this execution. This allows decorators to keep per-invocation state on the invocation
+     * itself, rather than in a (shared) map keyed by the execution context.
+     *
+     * @param key the key to store the state under
+     * @param value the state
+     * @param <T> the type of the state
+     */
+    <T> void setAttribute(AttributeKey<T> key, T value);
+
+    /**
+     * Remove some state that was attached to this execution.
+     *
+     * @param key the key the state was stored under
+     * @param <T> the type of the state
+     * @return the removed state, or null if nothing was stored under that key
+     */
+    <T> T removeAttribute(AttributeKey<T> key);
+
 }
@@ -1,10 +1,13 @@
 package io.smallrye.graphql.execution.datafetcher;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import graphql.GraphQLContext;
 import graphql.schema.DataFetchingEnvironment;
+import io.smallrye.graphql.execution.Deadline;
 import io.smallrye.graphql.execution.datafetcher.decorator.DataFetcherDecorator;
 
 public class ExecutionContextImpl implements ExecutionContext {
@@ -21,6 +24,9 @@ public class ExecutionContextImpl implements ExecutionContext {
 
     private final Iterator<DataFetcherDecorator> decoratorIterator;
 
+    // Only created when a decorator needs it. Access is confined to one invocation, so no locking is needed
+    private Map<AttributeKey<?>, Object> attributes;
+
     public ExecutionContextImpl(Object target,
             Method method,
             Object[] arguments,
@@ -66,6 +72,35 @@ public class ExecutionContextImpl implements ExecutionContext {
             return decoratorIterator.next().execute(this);
         }
 
+        Deadline deadline = dataFetchingEnvironment != null ? Deadline.of(dataFetchingEnvironment.getContext()) : null;
+        if (deadline != null) {
+            // So the resolver can read the time it has left
+            return deadline.call(() -> method.invoke(target, arguments));
+        }
         return method.invoke(target, arguments);
     }
+
+    @Override
+    public <T> T getAttribute(AttributeKey<T> key) {
+        if (attributes == null) {
+            return null;
+        }
+        return key.cast(attributes.get(key));
+    }
+
+    @Override
+    public <T> void setAttribute(AttributeKey<T> key, T value) {
+        if (attributes == null) {
+            attributes = new HashMap<>(4);
+        }
+        attributes.put(key, value);
+    }
+
+    @Override
+    public <T> T removeAttribute(AttributeKey<T> key) {
+        if (attributes == null) {
+            return null;
+        }
+        return key.cast(attributes.remove(key));
+    }
 }
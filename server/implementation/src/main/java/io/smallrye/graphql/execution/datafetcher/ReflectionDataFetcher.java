@@ -10,7 +10,9 @@ import org.eclipse.microprofile.graphql.GraphQLException;
 import graphql.GraphQLContext;
 import graphql.execution.DataFetcherResult;
 import graphql.schema.DataFetchingEnvironment;
+import io.smallrye.graphql.execution.RequestCleanup;
 import io.smallrye.graphql.execution.datafetcher.decorator.DataFetcherDecorator;
+import io.smallrye.graphql.json.JsonInputRegistry;
 import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.transformation.AbstractDataFetcherException;
 
@@ -34,10 +36,12 @@ public class ReflectionDataFetcher extends AbstractDataFetcher<DataFetcherResult
      *
      * @param operation the operation
      * @param decorators collection of decorators to invoke before and after fetching the data
+     * @param jsonInputRegistry the input registry of the schema this operation is in
      *
      */
-    public ReflectionDataFetcher(Operation operation, Collection<DataFetcherDecorator> decorators) {
-        super(operation, decorators);
+    public ReflectionDataFetcher(Operation operation, Collection<DataFetcherDecorator> decorators,
+            JsonInputRegistry jsonInputRegistry) {
+        super(operation, decorators, jsonInputRegistry);
     }
 
     /**
@@ -59,7 +63,7 @@ public class ReflectionDataFetcher extends AbstractDataFetcher<DataFetcherResult
         final DataFetcherResult.Builder<Object> resultBuilder = DataFetcherResult.newResult().localContext(context);
 
         Class<?> operationClass = classloadingService.loadClass(operation.getClassName());
-        Object declaringObject = lookupService.getInstance(operationClass);
+        Object declaringObject = lookupService.getInstance(operationClass, RequestCleanup.of(dfe.getContext()));
         Method m = getMethod(operationClass);
 
         try {
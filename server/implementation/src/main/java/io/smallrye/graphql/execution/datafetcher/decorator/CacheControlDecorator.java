@@ -0,0 +1,28 @@
+package io.smallrye.graphql.execution.datafetcher.decorator;
+
+import io.smallrye.graphql.execution.CachePolicy;
+import io.smallrye.graphql.execution.datafetcher.ExecutionContext;
+import io.smallrye.graphql.schema.model.CacheHint;
+
+/**
+ * Restricts the cache policy of the response with the cache hint of the operation (or the lack of one).
+ */
+public class CacheControlDecorator extends AbstractDataFetcherDecorator {
+
+    private final CacheHint cacheHint;
+
+    /**
+     * @param cacheHint the hint of the operation, null if it has none
+     */
+    public CacheControlDecorator(CacheHint cacheHint) {
+        this.cacheHint = cacheHint;
+    }
+
+    @Override
+    protected void before(ExecutionContext executionContext) {
+        CachePolicy cachePolicy = CachePolicy.of(executionContext.dataFetchingEnvironment().getContext());
+        if (cachePolicy != null) {
+            cachePolicy.restrict(cacheHint);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.smallrye.graphql.execution.datafetcher.decorator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.PropertyDataFetcherHelper;
+import graphql.schema.SelectedField;
+import io.smallrye.graphql.execution.MetricNaming;
+import io.smallrye.graphql.execution.datafetcher.AttributeKey;
+import io.smallrye.graphql.execution.datafetcher.ExecutionContext;
+import io.smallrye.graphql.schema.model.CacheInfo;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.OperationType;
+import io.smallrye.graphql.spi.FieldCacheKey;
+import io.smallrye.graphql.spi.FieldCacheService;
+import io.smallrye.graphql.spi.MetricsService;
+
+/**
+ * Serves the results of a {@code @Cached} operation from the {@link FieldCacheService}, and only proceeds (calls the
+ * method) if the result is not cached.
+ *
+ * This should be the last decorator, so the others (like validation) still see every execution.
+ */
+public class FieldCacheDecorator extends AbstractDataFetcherDecorator {
+
+    private static final AttributeKey<Boolean> LOADED_KEY = new AttributeKey<>("loaded", Boolean.class);
+
+    private final FieldCacheService fieldCacheService;
+    private final CacheInfo cacheInfo;
+    private final String field;
+    private final String sourceIdProperty;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param operation the cached operation
+     * @param sourceIdProperty the property of the source that is its id, or null to use the source itself
+     * @param fieldCacheService where the results are stored
+     * @param metricsEnabled if the hits and misses should be counted
+     */
+    public FieldCacheDecorator(Operation operation, String sourceIdProperty, FieldCacheService fieldCacheService,
+            boolean metricsEnabled) {
+        this.fieldCacheService = fieldCacheService;
+        this.cacheInfo = operation.getCacheInfo();
+        this.field = getTypeName(operation) + "." + operation.getName();
+        this.sourceIdProperty = sourceIdProperty;
+        if (metricsEnabled) {
+            MetricRegistry metricRegistry = MetricsService.load().getMetricRegistry(MetricRegistry.Type.VENDOR);
+            this.hits = metricRegistry.counter(MetricNaming.cacheHitsFromOperation(operation));
+            this.misses = metricRegistry.counter(MetricNaming.cacheMissesFromOperation(operation));
+        } else {
+            this.hits = null;
+            this.misses = null;
+        }
+    }
+
+    @Override
+    public Object execute(ExecutionContext executionContext) throws Exception {
+        FieldCacheKey key = createKey(executionContext.dataFetchingEnvironment());
+        Object result = fieldCacheService.get(key, cacheInfo.getTtl(), () -> {
+            executionContext.setAttribute(LOADED_KEY, Boolean.TRUE);
+            return executionContext.proceed();
+        });
+        if (hits != null) {
+            if (executionContext.removeAttribute(LOADED_KEY) != null) {
+                misses.inc();
+            } else {
+                hits.inc();
+            }
+        }
+        return result;
+    }
+
+    private FieldCacheKey createKey(DataFetchingEnvironment dfe) {
+        return new FieldCacheKey(field,
+                cacheInfo.isByArguments() ? dfe.getArguments() : null,
+                cacheInfo.isBySource() ? getSourceId(dfe.getSource()) : null,
+                cacheInfo.isBySelection() ? getSelection(dfe) : null);
+    }
+
+    private Object getSourceId(Object source) {
+        if (source == null || sourceIdProperty == null) {
+            return source;
+        }
+        return PropertyDataFetcherHelper.getPropertyValue(sourceIdProperty, source, null);
+    }
+
+    private static List<String> getSelection(DataFetchingEnvironment dfe) {
+        List<SelectedField> selectedFields = dfe.getSelectionSet().getFields();
+        List<String> selection = new ArrayList<>(selectedFields.size());
+        for (SelectedField selectedField : selectedFields) {
+            selection.add(selectedField.getQualifiedName());
+        }
+        Collections.sort(selection);
+        return selection;
+    }
+
+    private static String getTypeName(Operation operation) {
+        if (operation.getOperationType() == OperationType.Source) {
+            return operation.getContainingType().getName();
+        }
+        return operation.getOperationType().name();
+    }
+}
@@ -1,49 +1,73 @@
 package io.smallrye.graphql.execution.datafetcher.decorator;
 
 import java.time.Duration;
-import java.util.Collections;
-import java.util.IdentityHashMap;
-import java.util.Map;
 
 import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
 
 import graphql.language.Field;
 import graphql.schema.GraphQLType;
 import io.smallrye.graphql.execution.MetricNaming;
+import io.smallrye.graphql.execution.datafetcher.AttributeKey;
 import io.smallrye.graphql.execution.datafetcher.ExecutionContext;
+import io.smallrye.graphql.schema.model.Operation;
 import io.smallrye.graphql.spi.MetricsService;
 
 /**
  * Measures data-fetcher executions.
  *
+ * The start time is kept on the execution context, so no state is shared between invocations.
+ * When created for a specific operation, the metric name is known up front and the timer is only looked up once.
+ *
  * TODO: Count failures?
  */
 public class MetricDecorator extends AbstractDataFetcherDecorator {
 
-    private final Map<ExecutionContext, Long> startTimes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final AttributeKey<Long> START_TIME_KEY = new AttributeKey<>("startTime", Long.class);
 
     private final MetricRegistry metricRegistry;
 
+    private final String metricName;
+
+    private volatile SimpleTimer simpleTimer;
+
     public MetricDecorator() {
-        metricRegistry = MetricsService.load().getMetricRegistry(MetricRegistry.Type.VENDOR);
+        this(null);
+    }
+
+    public MetricDecorator(Operation operation) {
+        this.metricRegistry = MetricsService.load().getMetricRegistry(MetricRegistry.Type.VENDOR);
+        this.metricName = operation != null ? MetricNaming.fromOperation(operation) : null;
     }
 
     @Override
     public void before(ExecutionContext executionContext) {
-        startTimes.put(executionContext, System.nanoTime());
+        executionContext.setAttribute(START_TIME_KEY, System.nanoTime());
     }
 
     @Override
     public void after(ExecutionContext executionContext) {
-        GraphQLType parent = executionContext.dataFetchingEnvironment().getParentType();
-        Field field = executionContext.dataFetchingEnvironment().getField();
-
-        Long startTime = startTimes.remove(executionContext);
+        Long startTime = executionContext.removeAttribute(START_TIME_KEY);
         if (startTime != null) {
             long duration = System.nanoTime() - startTime;
-            String name = MetricNaming.fromTypeAndName(parent, field.getName());
-            metricRegistry.simpleTimer(name).update(Duration.ofNanos(duration));
+            getSimpleTimer(executionContext).update(Duration.ofNanos(duration));
+        }
+    }
+
+    private SimpleTimer getSimpleTimer(ExecutionContext executionContext) {
+        if (metricName == null) {
+            // Not bound to an operation, so we need to figure out the name on every call
+            GraphQLType parent = executionContext.dataFetchingEnvironment().getParentType();
+            Field field = executionContext.dataFetchingEnvironment().getField();
+            return metricRegistry.simpleTimer(MetricNaming.fromTypeAndName(parent, field.getName()));
+        }
+        // Resolved lazily, so that the metric is registered (with its metadata) before we first use it
+        SimpleTimer timer = this.simpleTimer;
+        if (timer == null) {
+            timer = metricRegistry.simpleTimer(metricName);
+            this.simpleTimer = timer;
         }
+        return timer;
     }
 
 }
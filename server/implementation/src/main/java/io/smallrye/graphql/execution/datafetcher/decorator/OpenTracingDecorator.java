@@ -1,9 +1,7 @@
 package io.smallrye.graphql.execution.datafetcher.decorator;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
 
@@ -13,6 +11,7 @@ import io.opentracing.Scope;
 import io.opentracing.Span;
 import io.opentracing.Tracer;
 import io.smallrye.graphql.execution.SpanNaming;
+import io.smallrye.graphql.execution.datafetcher.AttributeKey;
 import io.smallrye.graphql.execution.datafetcher.ExecutionContext;
 import io.smallrye.graphql.execution.datafetcher.helper.NameHelper;
 import io.smallrye.graphql.spi.OpenTracingService;
@@ -24,13 +23,13 @@ public class OpenTracingDecorator extends AbstractDataFetcherDecorator {
 
     private static final Object PARENT_SPAN_KEY = Span.class;
 
-    OpenTracingService openTracingService = OpenTracingService.load();
+    private static final AttributeKey<Span> SPAN_KEY = new AttributeKey<>("span", Span.class);
 
-    private final Map<ExecutionContext, Span> spans = Collections.synchronizedMap(new IdentityHashMap<>());
+    OpenTracingService openTracingService = OpenTracingService.load();
 
     @Override
     protected void onError(final ExecutionContext executionContext, final Throwable throwable) {
-        Span span = spans.get(executionContext);
+        Span span = executionContext.getAttribute(SPAN_KEY);
         logError(span, throwable);
     }
 
@@ -53,12 +52,12 @@ public class OpenTracingDecorator extends AbstractDataFetcherDecorator {
         final Span span = scope.span();
         executionContext.newGraphQLContext().put(PARENT_SPAN_KEY, span);
 
-        spans.put(executionContext, span);
+        executionContext.setAttribute(SPAN_KEY, span);
     }
 
     @Override
     protected void after(final ExecutionContext executionContext) {
-        Span span = spans.remove(executionContext);
+        Span span = executionContext.removeAttribute(SPAN_KEY);
         span.finish();
     }
 
@@ -12,6 +12,7 @@ import graphql.schema.DataFetchingEnvironment;
 import io.smallrye.graphql.execution.Classes;
 import io.smallrye.graphql.json.InputTransformFields;
 import io.smallrye.graphql.json.JsonBCreator;
+import io.smallrye.graphql.json.JsonInputRegistry;
 import io.smallrye.graphql.schema.model.Argument;
 import io.smallrye.graphql.schema.model.Field;
 import io.smallrye.graphql.schema.model.ReferenceType;
@@ -30,15 +31,20 @@ import io.smallrye.graphql.transformation.Transformer;
 public class ArgumentHelper extends AbstractHelper {
 
     private final List<Argument> arguments;
+    private final JsonBCreator jsonBCreator;
+    private final InputTransformFields inputTransformFields;
 
     /**
      * We need the modeled arguments to create the correct values
      *
      * @param arguments the arguments
+     * @param jsonInputRegistry the input registry of the schema these arguments are in
      *
      */
-    public ArgumentHelper(List<Argument> arguments) {
+    public ArgumentHelper(List<Argument> arguments, JsonInputRegistry jsonInputRegistry) {
         this.arguments = arguments;
+        this.jsonBCreator = jsonInputRegistry.getJsonBCreator();
+        this.inputTransformFields = jsonInputRegistry.getInputTransformFields();
     }
 
     /**
@@ -174,8 +180,8 @@ public class ArgumentHelper extends AbstractHelper {
         String className = field.getReference().getClassName();
 
         // Let's see if there are any fields that needs transformation
-        if (InputTransformFields.hasTransformationFields(className)) {
-            Map<String, Field> transformationFields = InputTransformFields.getTransformationFields(className);
+        Map<String, Field> transformationFields = inputTransformFields.getTransformationFields(className);
+        if (transformationFields != null) {
 
             for (Map.Entry<String, Field> entry : transformationFields.entrySet()) {
                 String fieldName = entry.getKey();
@@ -203,7 +209,7 @@ public class ArgumentHelper extends AbstractHelper {
     private Object correctComplexObjectFromJsonString(String jsonString, Field field) throws AbstractDataFetcherException {
         Class ownerClass = classloadingService.loadClass(field.getReference().getClassName());
         try {
-            Jsonb jsonb = JsonBCreator.getJsonB(field.getReference().getClassName());
+            Jsonb jsonb = jsonBCreator.getJsonB(field.getReference().getClassName());
             return jsonb.fromJson(jsonString, ownerClass);
         } catch (JsonbException jbe) {
             throw new TransformException(jbe, field, jsonString);
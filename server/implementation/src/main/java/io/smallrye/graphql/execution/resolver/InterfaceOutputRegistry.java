@@ -1,5 +1,6 @@
 package io.smallrye.graphql.execution.resolver;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -11,43 +12,43 @@ import io.smallrye.graphql.schema.model.Type;
 /**
  * Here we register output objects that implements some interface
  * 
- * We need this to resolve the correct concrete class
+ * We need this to resolve the correct concrete class.
+ * There is one registry per schema. It is filled while bootstrapping, and read-only after that.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class InterfaceOutputRegistry {
 
-    private static final Map<String, Map<String, GraphQLObjectType>> interfaceMap = new HashMap<>();
+    private volatile Map<String, Map<String, GraphQLObjectType>> interfaceMap = new HashMap<>();
 
-    private InterfaceOutputRegistry() {
-    }
-
-    public static void register(Type type, GraphQLObjectType graphQLObjectType) {
+    public void register(Type type, GraphQLObjectType graphQLObjectType) {
         if (type.hasInterfaces()) {
             Set<Reference> interfaces = type.getInterfaces();
             for (Reference i : interfaces) {
                 String iclass = i.getClassName();
-                Map<String, GraphQLObjectType> concreateMap = getConcreteMap(iclass);
-                concreateMap.put(type.getClassName(), graphQLObjectType);
-                interfaceMap.put(iclass, concreateMap);
+                interfaceMap.computeIfAbsent(iclass, k -> new HashMap<>())
+                        .put(type.getClassName(), graphQLObjectType);
             }
         }
     }
 
-    public static GraphQLObjectType getGraphQLObjectType(String interfaceClassName, String concreateName) {
-        if (interfaceMap.containsKey(interfaceClassName)) {
-            Map<String, GraphQLObjectType> concreateMap = interfaceMap.get(interfaceClassName);
-            return concreateMap.get(concreateName);
+    /**
+     * Done registering, from now on this registry is only read
+     */
+    public void freeze() {
+        Map<String, Map<String, GraphQLObjectType>> frozen = new HashMap<>();
+        for (Map.Entry<String, Map<String, GraphQLObjectType>> entry : interfaceMap.entrySet()) {
+            frozen.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
         }
-        return null;
+        this.interfaceMap = Collections.unmodifiableMap(frozen);
     }
 
-    private static Map<String, GraphQLObjectType> getConcreteMap(String interfaceClassName) {
-        if (interfaceMap.containsKey(interfaceClassName)) {
-            return interfaceMap.get(interfaceClassName);
-        } else {
-            return new HashMap<>();
+    public GraphQLObjectType getGraphQLObjectType(String interfaceClassName, String concreateName) {
+        Map<String, GraphQLObjectType> concreateMap = interfaceMap.get(interfaceClassName);
+        if (concreateMap != null) {
+            return concreateMap.get(concreateName);
         }
+        return null;
     }
 
 }
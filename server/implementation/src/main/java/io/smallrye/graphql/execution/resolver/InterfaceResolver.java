@@ -9,28 +9,45 @@ import io.smallrye.graphql.schema.model.InterfaceType;
 
 /**
  * Resolve an interface.
+ *
+ * The concrete type is found once per runtime class, by walking up the superclasses until we find a type that is
+ * registered for this interface. That way subclasses and proxies (CDI, JPA, ...) resolve to the type they extend.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class InterfaceResolver implements TypeResolver {
 
     private final InterfaceType interfaceType;
+    private final InterfaceOutputRegistry interfaceOutputRegistry;
+
+    private final ClassValue<GraphQLObjectType> concreteTypes = new ClassValue<GraphQLObjectType>() {
+        @Override
+        protected GraphQLObjectType computeValue(Class<?> runtimeClass) {
+            for (Class<?> c = runtimeClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                GraphQLObjectType graphQLObjectType = interfaceOutputRegistry
+                        .getGraphQLObjectType(interfaceType.getClassName(), c.getName());
+                if (graphQLObjectType != null) {
+                    return graphQLObjectType;
+                }
+            }
+            return null;
+        }
+    };
 
-    public InterfaceResolver(InterfaceType interfaceType) {
+    public InterfaceResolver(InterfaceType interfaceType, InterfaceOutputRegistry interfaceOutputRegistry) {
         this.interfaceType = interfaceType;
+        this.interfaceOutputRegistry = interfaceOutputRegistry;
     }
 
     @Override
     public GraphQLObjectType getType(TypeResolutionEnvironment tre) {
+        Class<?> concreteClass = tre.getObject().getClass();
 
-        String concreteClassName = tre.getObject().getClass().getName();
-
-        GraphQLObjectType graphQLObjectType = InterfaceOutputRegistry.getGraphQLObjectType(interfaceType.getClassName(),
-                concreteClassName);
+        GraphQLObjectType graphQLObjectType = concreteTypes.get(concreteClass);
         if (graphQLObjectType != null) {
             return graphQLObjectType;
         } else {
-            throw msg.concreteClassNotFoundForInterface(concreteClassName,
+            throw msg.concreteClassNotFoundForInterface(concreteClass.getName(),
                     interfaceType.getClassName());
         }
     }
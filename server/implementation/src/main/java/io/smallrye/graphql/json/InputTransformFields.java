@@ -1,5 +1,6 @@
 package io.smallrye.graphql.json;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -14,12 +15,12 @@ import io.smallrye.graphql.schema.model.InputType;
  */
 public class InputTransformFields {
 
-    private static final Map<String, Map<String, Field>> inputFieldMap = new HashMap<>();
+    private volatile Map<String, Map<String, Field>> inputFieldMap = new HashMap<>();
 
-    private InputTransformFields() {
+    InputTransformFields() {
     }
 
-    protected static void register(InputType inputType) {
+    void register(InputType inputType) {
         if (inputType.hasFields()) {
             Map<String, Field> fieldsThatNeedsTransformation = new HashMap<>();
             Set<Field> fields = inputType.getFields();
@@ -33,19 +34,20 @@ public class InputTransformFields {
 
             // Seems like there are some name mapping needed
             if (!fieldsThatNeedsTransformation.isEmpty()) {
-                inputFieldMap.put(inputType.getClassName(), fieldsThatNeedsTransformation);
+                inputFieldMap.put(inputType.getClassName(), Collections.unmodifiableMap(fieldsThatNeedsTransformation));
             }
         }
     }
 
-    public static boolean hasTransformationFields(String className) {
+    void freeze() {
+        this.inputFieldMap = Collections.unmodifiableMap(new HashMap<>(inputFieldMap));
+    }
+
+    public boolean hasTransformationFields(String className) {
         return inputFieldMap.containsKey(className);
     }
 
-    public static Map<String, Field> getTransformationFields(String className) {
-        if (inputFieldMap.containsKey(className)) {
-            return inputFieldMap.get(className);
-        }
-        return null;
+    public Map<String, Field> getTransformationFields(String className) {
+        return inputFieldMap.get(className);
     }
 }
@@ -1,5 +1,6 @@
 package io.smallrye.graphql.json;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -15,18 +16,19 @@ import io.smallrye.graphql.schema.model.InputType;
  * Here we create JsonB Objects for certain input object.
  * 
  * We only use JsonB on input, as output use data fetchers per field.
+ * There is one per schema, see {@link JsonInputRegistry}.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class JsonBCreator {
     private static final Jsonb JSONB = JsonbBuilder.create(new JsonbConfig().withFormatting(true)); //default
 
-    private static final Map<String, Jsonb> jsonMap = new HashMap<>();
+    private volatile Map<String, Jsonb> jsonMap = new HashMap<>();
 
-    private JsonBCreator() {
+    JsonBCreator() {
     }
 
-    protected static void register(InputType inputType) {
+    void register(InputType inputType) {
         if (inputType.hasFields()) {
             Map<String, String> namemapping = new HashMap<>();
             Set<Field> fields = inputType.getFields();
@@ -45,9 +47,14 @@ public class JsonBCreator {
         }
     }
 
-    public static Jsonb getJsonB(String className) {
-        if (jsonMap.containsKey(className)) {
-            return jsonMap.get(className);
+    void freeze() {
+        this.jsonMap = Collections.unmodifiableMap(new HashMap<>(jsonMap));
+    }
+
+    public Jsonb getJsonB(String className) {
+        Jsonb jsonb = jsonMap.get(className);
+        if (jsonb != null) {
+            return jsonb;
         }
         return getJsonB(); // default vanilla
     }
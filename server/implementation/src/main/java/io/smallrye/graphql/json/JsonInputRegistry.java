@@ -8,16 +8,34 @@ import io.smallrye.graphql.schema.model.InputType;
  * For now we need to
  * - hold a custom JsonB map for custom name mapping and
  * - hold a map og all fields in input types that needs transforming
+ *
+ * There is one registry per schema. It is filled while bootstrapping, and read-only after that.
  * 
  * @author Phillip Kruger (phillip.kruger@redhat.com)
  */
 public class JsonInputRegistry {
 
-    private JsonInputRegistry() {
+    private final JsonBCreator jsonBCreator = new JsonBCreator();
+    private final InputTransformFields inputTransformFields = new InputTransformFields();
+
+    public void register(InputType inputType) {
+        jsonBCreator.register(inputType);
+        inputTransformFields.register(inputType);
+    }
+
+    /**
+     * Done registering, from now on this registry is only read
+     */
+    public void freeze() {
+        jsonBCreator.freeze();
+        inputTransformFields.freeze();
+    }
+
+    public JsonBCreator getJsonBCreator() {
+        return jsonBCreator;
     }
 
-    public static void register(InputType inputType) {
-        JsonBCreator.register(inputType);
-        InputTransformFields.register(inputType);
+    public InputTransformFields getInputTransformFields() {
+        return inputTransformFields;
     }
 }
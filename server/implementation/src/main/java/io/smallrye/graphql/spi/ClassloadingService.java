@@ -33,28 +33,45 @@ public interface ClassloadingService {
 
     String getName();
 
+    /**
+     * Load a class by name, using the TCCL, and then the loader of this service.
+     *
+     * Loaded classes are cached per context class loader, so this can be called per invocation.
+     *
+     * @param className the class name
+     * @return the class
+     */
     default Class<?> loadClass(String className) {
         try {
             if (Classes.isPrimitive(className)) {
                 return Classes.getPrimativeClassType(className);
-            } else {
-                return AccessController.doPrivileged((PrivilegedExceptionAction<Class<?>>) () -> {
-                    ClassLoader loader = Thread.currentThread().getContextClassLoader();
-                    if (loader != null) {
-                        try {
-                            return loadClass(className, loader);
-                        } catch (ClassNotFoundException cnfe) {
-                            // Let's try this class classloader.
-                        }
-                    }
-                    return loadClass(className, ClassloadingService.class.getClassLoader());
-                });
             }
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            Class<?> loaded = LoadedClasses.get(loader, className);
+            if (loaded != null) {
+                return loaded;
+            }
+            return AccessController.doPrivileged((PrivilegedExceptionAction<Class<?>>) () -> {
+                Class<?> c = loadClassUncached(className, loader);
+                LoadedClasses.put(loader, className, c);
+                return c;
+            });
         } catch (PrivilegedActionException | ClassNotFoundException pae) {
             throw msg.canNotLoadClass(className, pae);
         }
     }
 
+    default Class<?> loadClassUncached(String className, ClassLoader contextLoader) throws ClassNotFoundException {
+        if (contextLoader != null) {
+            try {
+                return loadClass(className, contextLoader);
+            } catch (ClassNotFoundException cnfe) {
+                // Let's try this class classloader.
+            }
+        }
+        return loadClass(className, ClassloadingService.class.getClassLoader());
+    }
+
     default Class<?> loadClass(String className, ClassLoader loader) throws ClassNotFoundException {
         Class<?> c = Class.forName(className, false, loader);
         return c;
@@ -0,0 +1,58 @@
+package io.smallrye.graphql.spi;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The key of a cached field result: the field (as {@code Type.field}) and the values the result depends on (like the
+ * arguments and the id of the source).
+ *
+ * The values are compared with equals, and {@link #toString()} can be used as the key of stores that need a String.
+ */
+public final class FieldCacheKey {
+    private final String field;
+    private final Object[] parts;
+    private final int hashCode;
+
+    public FieldCacheKey(String field, Object... parts) {
+        this.field = Objects.requireNonNull(field);
+        this.parts = parts;
+        this.hashCode = 31 * field.hashCode() + Arrays.deepHashCode(parts);
+    }
+
+    /**
+     * @return the coordinates of the field, as {@code Type.field}
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * @return the values the result depends on, do not change it
+     */
+    public Object[] getParts() {
+        return parts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldCacheKey)) {
+            return false;
+        }
+        FieldCacheKey other = (FieldCacheKey) o;
+        return hashCode == other.hashCode && field.equals(other.field) && Arrays.deepEquals(parts, other.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return field + Arrays.deepToString(parts);
+    }
+}
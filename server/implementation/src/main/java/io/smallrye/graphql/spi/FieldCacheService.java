@@ -0,0 +1,48 @@
+package io.smallrye.graphql.spi;
+
+import static io.smallrye.graphql.SmallRyeGraphQLServerLogging.log;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+
+/**
+ * Service that stores the results of fields that are annotated with {@code @Cached}.
+ *
+ * By default the results are kept in memory (see {@link InMemoryFieldCacheService}). Containers can plug in another
+ * store, for example one that is shared between instances.
+ */
+public interface FieldCacheService {
+
+    static FieldCacheService load() {
+        FieldCacheService fieldCacheService;
+        try {
+            ServiceLoader<FieldCacheService> sl = ServiceLoader.load(FieldCacheService.class);
+            fieldCacheService = sl.iterator().next();
+        } catch (Exception ex) {
+            fieldCacheService = new InMemoryFieldCacheService();
+        }
+        log.usingFieldCacheService(fieldCacheService.getName());
+        return fieldCacheService;
+    }
+
+    String getName();
+
+    /**
+     * Get the cached result, or load (and cache) it.
+     *
+     * While a result is loaded, other callers with the same key wait for it, rather than loading it again.
+     * Results can be null. Failures are not cached: they are thrown to the caller (and the callers that waited).
+     *
+     * @param key what the result depends on
+     * @param ttl how long (in milliseconds) the result may be used
+     * @param loader loads the result
+     * @return the result
+     * @throws Exception if loading the result failed
+     */
+    Object get(FieldCacheKey key, long ttl, Callable<Object> loader) throws Exception;
+
+    /**
+     * Remove all cached results
+     */
+    void clear();
+}
@@ -0,0 +1,223 @@
+package io.smallrye.graphql.spi;
+
+import java.lang.reflect.Array;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The default field cache, that keeps the results in memory.
+ *
+ * The cache is bounded by weight: a result weighs the number of elements if it is a collection, array or map, else 1.
+ * When the total weight is more than the maximum (system property
+ * {@code io.smallrye.graphql.fieldCache.maxWeight}, default 10000), the least recently used results are evicted.
+ * A result that is heavier than the maximum on its own is not cached.
+ */
+public class InMemoryFieldCacheService implements FieldCacheService {
+    private static final long MAX_WEIGHT = AccessController.doPrivileged((PrivilegedAction<Long>) () -> {
+        return Long.getLong("io.smallrye.graphql.fieldCache.maxWeight", 10000L);
+    });
+
+    private static final Object NULL = new Object();
+
+    private final long maxWeight;
+    private final LongSupplier nanoTime;
+
+    // Access ordered, so the eldest is the least recently used
+    private final LinkedHashMap<FieldCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    // The results that are being loaded, so concurrent callers wait for them
+    private final Map<FieldCacheKey, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    public InMemoryFieldCacheService() {
+        this(MAX_WEIGHT);
+    }
+
+    public InMemoryFieldCacheService(long maxWeight) {
+        this(maxWeight, System::nanoTime);
+    }
+
+    InMemoryFieldCacheService(long maxWeight, LongSupplier nanoTime) {
+        this.maxWeight = maxWeight;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public String getName() {
+        return "In-memory";
+    }
+
+    @Override
+    public Object get(FieldCacheKey key, long ttl, Callable<Object> loader) throws Exception {
+        Object value = getIfPresent(key);
+        if (value != null) {
+            hits.increment();
+            return unmask(value);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            hits.increment();
+            return await(running);
+        }
+        try {
+            // It might have been loaded (and no longer loading) since we looked
+            value = getIfPresent(key);
+            if (value != null) {
+                hits.increment();
+                load.complete(value);
+                return unmask(value);
+            }
+            misses.increment();
+            try {
+                value = mask(loader.call());
+            } catch (Exception | Error ex) {
+                loadFailures.increment();
+                load.completeExceptionally(ex);
+                throw ex;
+            }
+            put(key, value, ttl);
+            load.complete(value);
+            return unmask(value);
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailures.sum();
+    }
+
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    private Object getIfPresent(FieldCacheKey key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoTime.getAsLong() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                weight -= entry.weight;
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void put(FieldCacheKey key, Object value, long ttl) {
+        long entryWeight = weigh(value);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        Entry entry = new Entry(value, entryWeight, nanoTime.getAsLong() + TimeUnit.MILLISECONDS.toNanos(ttl));
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight) {
+                Entry evicted = eldest.next();
+                eldest.remove();
+                weight -= evicted.weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> load) throws Exception {
+        try {
+            return unmask(load.get());
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (Exception) cause;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+
+    private static long weigh(Object value) {
+        long w = 1;
+        if (value instanceof Collection) {
+            w = ((Collection<?>) value).size();
+        } else if (value instanceof Map) {
+            w = ((Map<?, ?>) value).size();
+        } else if (value != null && value.getClass().isArray()) {
+            w = Array.getLength(value);
+        }
+        return Math.max(w, 1);
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long weight;
+        private final long expiresAt;
+
+        Entry(Object value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
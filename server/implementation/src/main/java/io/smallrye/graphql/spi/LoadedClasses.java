@@ -0,0 +1,81 @@
+package io.smallrye.graphql.spi;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of classes that were loaded by name, per class loader.
+ *
+ * Nothing in here holds on to a class loader (or the classes it defined), so a redeployed application can still be
+ * garbage collected.
+ *
+ * Lookups do not lock: the loaders are kept in an array that is copied when a loader is added, which only happens once
+ * per deployment. Loaders that were garbage collected are dropped then.
+ */
+final class LoadedClasses {
+
+    // Copied on write, guarded by the class
+    private static volatile PerLoader[] loaders = new PerLoader[0];
+
+    // For a thread without a context class loader
+    private static final PerLoader NO_LOADER = new PerLoader(null);
+
+    private LoadedClasses() {
+    }
+
+    static Class<?> get(ClassLoader loader, String className) {
+        WeakReference<Class<?>> reference = forLoader(loader).classes.get(className);
+        return reference != null ? reference.get() : null;
+    }
+
+    static void put(ClassLoader loader, String className, Class<?> loaded) {
+        forLoader(loader).classes.put(className, new WeakReference<>(loaded));
+    }
+
+    private static PerLoader forLoader(ClassLoader loader) {
+        if (loader == null) {
+            return NO_LOADER;
+        }
+        PerLoader perLoader = find(loaders, loader);
+        if (perLoader != null) {
+            return perLoader;
+        }
+        synchronized (LoadedClasses.class) {
+            PerLoader[] current = loaders;
+            perLoader = find(current, loader);
+            if (perLoader == null) {
+                List<PerLoader> added = new ArrayList<>(current.length + 1);
+                for (PerLoader existing : current) {
+                    if (existing.loader.get() != null) {
+                        added.add(existing);
+                    }
+                }
+                perLoader = new PerLoader(loader);
+                added.add(perLoader);
+                loaders = added.toArray(new PerLoader[0]);
+            }
+            return perLoader;
+        }
+    }
+
+    private static PerLoader find(PerLoader[] perLoaders, ClassLoader loader) {
+        for (PerLoader perLoader : perLoaders) {
+            if (perLoader.loader.get() == loader) {
+                return perLoader;
+            }
+        }
+        return null;
+    }
+
+    private static final class PerLoader {
+        private final WeakReference<ClassLoader> loader;
+        private final Map<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+
+        PerLoader(ClassLoader loader) {
+            this.loader = new WeakReference<>(loader);
+        }
+    }
+}
@@ -6,6 +6,8 @@ import static io.smallrye.graphql.SmallRyeGraphQLServerMessages.msg;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ServiceLoader;
 
+import io.smallrye.graphql.execution.RequestCleanup;
+
 /**
  * Lookup service that allows multiple DI frameworks to use this.
  * By default, plain old reflection will be used.
@@ -33,6 +35,18 @@ public interface LookupService {
 
     Object getInstance(Class<?> declaringClass);
 
+    /**
+     * Get an instance for the current request.
+     * Instances that have to be released (like CDI {@code @Dependent} beans) can register that with the request cleanup.
+     *
+     * @param declaringClass the class
+     * @param requestCleanup the cleanup of the current request, can be null if there is no request
+     * @return the instance
+     */
+    default Object getInstance(Class<?> declaringClass, RequestCleanup requestCleanup) {
+        return getInstance(declaringClass);
+    }
+
     /**
      * Default Lookup service that gets used when none is provided with SPI.
      * This use reflection
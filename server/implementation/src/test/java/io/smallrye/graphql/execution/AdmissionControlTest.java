@@ -0,0 +1,159 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControlTest {
+
+    private final OperationKeys operationKeys = new OperationKeys();
+
+    @Test
+    public void testBulkhead() {
+        AdmissionControl admissionControl = new AdmissionControl(null, Arrays.asList("heroes=2", "villains = 1"));
+        OperationKeys.OperationKey heroes = operationKeys.get("{ heroes { name } }", null);
+        OperationKeys.OperationKey both = operationKeys.get("{ heroes { name } villains { name } }", null);
+
+        AdmissionControl.Permit first = admissionControl.acquire(heroes);
+        AdmissionControl.Permit second = admissionControl.acquire(heroes);
+        assertFalse(first.isRejected());
+        assertFalse(second.isRejected());
+
+        AdmissionControl.Permit rejected = admissionControl.acquire(both);
+        assertTrue(rejected.isRejected());
+        assertEquals(AdmissionControl.TOO_MANY_REQUESTS, rejected.getStatus());
+        assertEquals(AdmissionControl.TOO_MANY_REQUESTS_CODE, rejected.getCode());
+        assertTrue(rejected.getMessage().contains("heroes"));
+
+        // Other operations are not limited by it
+        assertFalse(admissionControl.acquire(operationKeys.get("{ villains { name } }", null)).isRejected());
+        assertFalse(admissionControl.acquire(operationKeys.get("{ sidekicks { name } }", null)).isRejected());
+
+        first.release();
+        assertFalse(admissionControl.acquire(heroes).isRejected());
+    }
+
+    @Test
+    public void testRejectedRequestReleasesBulkheads() {
+        AdmissionControl admissionControl = new AdmissionControl(null, Arrays.asList("heroes=1", "villains=1"));
+        AdmissionControl.Permit villains = admissionControl.acquire(operationKeys.get("{ villains { name } }", null));
+
+        // heroes is acquired, then villains is full
+        assertTrue(admissionControl.acquire(operationKeys.get("{ heroes { name } villains { name } }", null))
+                .isRejected());
+        assertFalse(admissionControl.acquire(operationKeys.get("{ heroes { name } }", null)).isRejected());
+        villains.release();
+    }
+
+    @Test
+    public void testBulkheadWithFragments() {
+        AdmissionControl admissionControl = new AdmissionControl(null, Arrays.asList("heroes=1", "villains=1"));
+        AdmissionControl.Permit heroes = admissionControl.acquire(operationKeys.get(
+                "{ ...all } fragment all on Query { ... on Query { heroes { name } } }", null));
+        assertFalse(heroes.isRejected());
+
+        AdmissionControl.Permit rejected = admissionControl.acquire(operationKeys.get(
+                "query { ...named } fragment named on Query { heroes { name } }", null));
+        assertTrue(rejected.isRejected());
+        assertTrue(rejected.getMessage().contains("heroes"));
+        assertFalse(admissionControl.acquire(operationKeys.get("{ ... on Query { villains { name } } }", null))
+                .isRejected());
+        heroes.release();
+    }
+
+    @Test
+    public void testUnknownSelectionNeedsAllBulkheads() {
+        AdmissionControl admissionControl = new AdmissionControl(null, Arrays.asList("heroes=1", "villains=1"));
+        AdmissionControl.Permit villains = admissionControl.acquire(operationKeys.get("{ villains { name } }", null));
+
+        // The fragment is not defined, so it could select anything
+        assertTrue(admissionControl.acquire(operationKeys.get("{ ...undefined }", null)).isRejected());
+        villains.release();
+
+        AdmissionControl.Permit unknown = admissionControl.acquire(operationKeys.get("{ ...undefined }", null));
+        assertFalse(unknown.isRejected());
+        assertTrue(admissionControl.acquire(operationKeys.get("{ heroes { name } }", null)).isRejected());
+        unknown.release();
+        assertFalse(admissionControl.acquire(operationKeys.get("{ heroes { name } }", null)).isRejected());
+    }
+
+    @Test
+    public void testGlobalLimit() {
+        AdmissionControl admissionControl = new AdmissionControl(new AdaptiveLimit(1, 10), Collections.emptyList());
+        OperationKeys.OperationKey heroes = operationKeys.get("{ heroes { name } }", null);
+
+        AdmissionControl.Permit permit = admissionControl.acquire(heroes);
+        assertFalse(permit.isRejected());
+        AdmissionControl.Permit rejected = admissionControl.acquire(heroes);
+        assertTrue(rejected.isRejected());
+        assertEquals(AdmissionControl.SERVICE_UNAVAILABLE, rejected.getStatus());
+        assertEquals(AdmissionControl.OVERLOADED_CODE, rejected.getCode());
+
+        permit.release();
+        assertFalse(admissionControl.acquire(heroes).isRejected());
+    }
+
+    @Test
+    public void testInvalidBulkhead() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionControl(null, Collections.singletonList("heroes")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionControl(null, Collections.singletonList("heroes=many")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionControl(null, Collections.singletonList("heroes=0")));
+    }
+
+    @Test
+    public void testLimitFollowsLatency() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 100);
+        long fast = TimeUnit.MILLISECONDS.toNanos(10);
+
+        // Stable latency, with the limit in use: it grows
+        for (int i = 0; i < 50; i++) {
+            saturate(limit);
+            releaseAll(limit, fast);
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 10, "Limit " + grown);
+
+        // A backend gets slow: it shrinks
+        long slow = TimeUnit.MILLISECONDS.toNanos(100);
+        for (int i = 0; i < 20; i++) {
+            saturate(limit);
+            releaseAll(limit, slow);
+        }
+        int shrunk = limit.getLimit();
+        assertTrue(shrunk < grown / 2, "Limit " + shrunk + " of " + grown);
+        assertTrue(shrunk >= 1);
+    }
+
+    @Test
+    public void testLimitDoesNotGrowWhenNotUsed() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 100);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(10, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    private static void saturate(AdaptiveLimit limit) {
+        while (limit.tryAcquire()) {
+            // Acquired
+        }
+    }
+
+    private static void releaseAll(AdaptiveLimit limit, long latency) {
+        while (limit.getInFlight() > 0) {
+            limit.release(latency);
+        }
+    }
+}
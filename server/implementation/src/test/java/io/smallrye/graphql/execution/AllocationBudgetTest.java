@@ -0,0 +1,192 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Test that executing representative operations does not allocate more than the budget in
+ * {@code allocation-budget.properties} (plus the tolerance in percent), so changes that add garbage on the execution
+ * path are noticed.
+ *
+ * The allocation is measured on the executing thread (with {@link com.sun.management.ThreadMXBean}), after a warm-up,
+ * as the lowest average of a few rounds.
+ * With {@code -Dallocation.record=true} nothing fails, and the measured values are written to
+ * {@code target/allocation-budget.properties}, to update the budget with.
+ * The tolerance can be overridden with {@code -Dallocation.tolerance=<percent>}.
+ */
+public class AllocationBudgetTest {
+    private static final Logger LOG = Logger.getLogger(AllocationBudgetTest.class.getName());
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static ExecutionService executionService;
+    private static Properties budget;
+    private static double tolerance;
+    private static boolean record;
+    private static final TreeMap<String, Long> measured = new TreeMap<>();
+
+    @BeforeAll
+    public static void init() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Measuring the allocation of a thread is not supported on this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(),
+                "Measuring the allocation of a thread is not supported on this JVM");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        IndexView index = Indexer.getIndex("io/smallrye/graphql/test/allocation");
+        Schema schema = SchemaBuilder.build(index);
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+        executionService = new ExecutionService(new Config() {
+        }, graphQLSchema);
+
+        budget = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getClassLoader().getResourceAsStream(BUDGET_FILE)) {
+            assertNotNull(in, BUDGET_FILE + " not found");
+            budget.load(in);
+        }
+        tolerance = Double.parseDouble(System.getProperty("allocation.tolerance", budget.getProperty("tolerance")));
+        record = Boolean.getBoolean("allocation.record");
+    }
+
+    @AfterAll
+    public static void writeMeasured() throws IOException {
+        if (record && !measured.isEmpty()) {
+            Path file = Paths.get("target", BUDGET_FILE);
+            Properties properties = new Properties();
+            properties.setProperty("tolerance", budget.getProperty("tolerance"));
+            measured.forEach((operation, bytes) -> properties.setProperty(operation, String.valueOf(bytes)));
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Bytes allocated per request, see AllocationBudgetTest");
+            }
+            LOG.info("Allocation per request written to " + file.toAbsolutePath());
+        }
+    }
+
+    @Test
+    public void testSimpleQuery() {
+        assertWithinBudget("simple-query", request("{ item(id: 1) { id name } }", null), false);
+    }
+
+    @Test
+    public void testQueryWithVariables() {
+        assertWithinBudget("query-with-variables", request("query item($id: Int!) { item(id: $id) { id name } }",
+                Json.createObjectBuilder().add("id", 1).build()), false);
+    }
+
+    @Test
+    public void testListWithFormatting() {
+        assertWithinBudget("list-with-formatting", request("{ items(count: 50) { id name added price } }", null),
+                false);
+    }
+
+    @Test
+    public void testSourceFields() {
+        assertWithinBudget("source-fields", request("{ items(count: 50) { id description } }", null), false);
+    }
+
+    @Test
+    public void testMutationWithInput() {
+        JsonArrayBuilder items = Json.createArrayBuilder();
+        for (int i = 0; i < 50; i++) {
+            items.add(Json.createObjectBuilder()
+                    .add("id", i)
+                    .add("name", "Item " + i)
+                    .add("added", "01 Feb 2020")
+                    .add("price", "1,234.99"));
+        }
+        assertWithinBudget("mutation-with-input", request("mutation add($items: [ItemInput]) { addItems(items: $items) }",
+                Json.createObjectBuilder().add("items", items).build()), false);
+    }
+
+    @Test
+    public void testFieldErrors() {
+        assertWithinBudget("field-errors", request("{ items(count: 10) { id stock } }", null), true);
+    }
+
+    @Test
+    public void testValidationError() {
+        assertWithinBudget("validation-error", request("{ item(id: 1) { id unknown } }", null), true);
+    }
+
+    private void assertWithinBudget(String operation, JsonObject request, boolean errors) {
+        JsonObject response = executionService.execute(request);
+        assertEquals(errors, response.containsKey("errors"), "Unexpected response " + response);
+
+        long bytes = allocatedPerRequest(request);
+        measured.put(operation, bytes);
+        LOG.info(operation + " allocates " + bytes + " bytes per request");
+        if (record) {
+            return;
+        }
+
+        String allowed = budget.getProperty(operation);
+        if (allowed == null) {
+            fail("No allocation budget for " + operation + " in " + BUDGET_FILE + ", it allocates " + bytes
+                    + " bytes per request");
+        }
+        long limit = (long) (Long.parseLong(allowed) * (1 + tolerance / 100));
+        assertTrue(bytes <= limit, operation + " allocates " + bytes + " bytes per request, the budget is " + allowed
+                + " (+" + tolerance + "% is " + limit + "). Reduce the allocation, or if it is expected, update "
+                + BUDGET_FILE);
+    }
+
+    private long allocatedPerRequest(JsonObject request) {
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARMUP; i++) {
+            executionService.execute(request);
+        }
+        // The lowest average, as (for example) a compilation in between can only add to it
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++) {
+                executionService.execute(request);
+            }
+            long after = threadMXBean.getThreadAllocatedBytes(threadId);
+            lowest = Math.min(lowest, (after - before) / ITERATIONS);
+        }
+        return lowest;
+    }
+
+    private static JsonObject request(String query, JsonObject variables) {
+        if (variables == null) {
+            return Json.createObjectBuilder().add("query", query).build();
+        }
+        return Json.createObjectBuilder().add("query", query).add("variables", variables).build();
+    }
+
+    private static final String BUDGET_FILE = "allocation-budget.properties";
+    private static final int WARMUP = 1000;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS = 100;
+}
@@ -0,0 +1,175 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.test.deadline.DeadlineApi;
+
+/**
+ * Test that requests are answered by their deadline, with the data that could be fetched until then
+ */
+public class DeadlineTest {
+
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        IndexView index = Indexer.getIndex("io/smallrye/graphql/test/deadline");
+        Schema schema = SchemaBuilder.build(index);
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+        this.executionService = new ExecutionService(new Config() {
+            @Override
+            public long getDeadlineTimeout() {
+                return 100;
+            }
+
+            @Override
+            public Optional<String> getDeadlineHeader() {
+                return Optional.of("X-Timeout");
+            }
+        }, graphQLSchema);
+
+        DeadlineApi.afterCalls.set(0);
+    }
+
+    @Test
+    public void testOutstandingStageIsNotWaitedFor() {
+        long start = System.nanoTime();
+        JsonObject response = execute("{ fast never }", Collections.emptyMap());
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+
+        JsonObject data = response.getJsonObject("data");
+        assertEquals("fast", data.getString("fast"));
+        assertTrue(data.isNull("never"));
+        assertTimeout(response);
+        assertTrue(DeadlineApi.never.isCancelled());
+    }
+
+    @Test
+    public void testCleanupWaitsForAbandonedStages() {
+        Deadline deadline = Deadline.register(null, 1, TimeUnit.DAYS);
+        CompletableFuture<String> running = new Uncancellable();
+        CompletionStage<Object> tracked = deadline.track(running);
+        deadline.expire();
+        assertTrue(tracked.toCompletableFuture().isDone());
+
+        // Tracked after the deadline passed
+        CompletableFuture<String> late = new Uncancellable();
+        deadline.track(late);
+        CompletableFuture<String> cancelled = new CompletableFuture<>();
+        deadline.track(cancelled);
+        assertTrue(cancelled.isCancelled());
+
+        AtomicInteger cleanups = new AtomicInteger();
+        deadline.whenAbandonedComplete(cleanups::incrementAndGet);
+        assertEquals(0, cleanups.get());
+        running.complete("done");
+        assertEquals(0, cleanups.get());
+        late.completeExceptionally(new IllegalStateException("Failed"));
+        assertEquals(1, cleanups.get());
+
+        // Nothing abandoned, so it runs right away
+        Deadline inTime = Deadline.register(null, 1, TimeUnit.DAYS);
+        CompletableFuture<String> done = new CompletableFuture<>();
+        inTime.track(done);
+        done.complete("done");
+        inTime.whenAbandonedComplete(cleanups::incrementAndGet);
+        assertEquals(2, cleanups.get());
+    }
+
+    @Test
+    public void testCleanupRunsAfterGracePeriod() throws InterruptedException {
+        Deadline deadline = Deadline.register(null, 1, TimeUnit.DAYS);
+        CompletableFuture<String> never = new Uncancellable();
+        deadline.track(never);
+        deadline.expire();
+
+        CountDownLatch cleanup = new CountDownLatch(1);
+        AtomicInteger cleanups = new AtomicInteger();
+        deadline.whenAbandonedComplete(() -> {
+            cleanups.incrementAndGet();
+            cleanup.countDown();
+        }, 10, TimeUnit.MILLISECONDS);
+        assertTrue(cleanup.await(5, TimeUnit.SECONDS));
+
+        // Not run again when the stage completes after all
+        never.complete("done");
+        assertEquals(1, cleanups.get());
+    }
+
+    @Test
+    public void testFieldsAreSkipped() {
+        JsonObject response = execute("{ slow after }", Collections.emptyMap());
+
+        JsonObject data = response.getJsonObject("data");
+        assertEquals("slow", data.getString("slow"));
+        assertTrue(data.isNull("after"));
+        assertEquals(0, DeadlineApi.afterCalls.get());
+        assertTimeout(response);
+    }
+
+    @Test
+    public void testInTime() {
+        JsonObject response = execute("{ fast after }", Collections.emptyMap());
+        assertFalse(response.containsKey("errors"));
+        assertEquals(1, DeadlineApi.afterCalls.get());
+    }
+
+    @Test
+    public void testRemainingTime() {
+        long remaining = execute("{ remaining }", Collections.emptyMap()).getJsonObject("data")
+                .getJsonNumber("remaining").longValue();
+        assertTrue(remaining > 0 && remaining <= 100, "Remaining " + remaining);
+
+        // The client can ask for less time, not more
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put("X-Timeout", Collections.singletonList("20"));
+        remaining = execute("{ remaining }", headers).getJsonObject("data").getJsonNumber("remaining").longValue();
+        assertTrue(remaining > 0 && remaining <= 20, "Remaining " + remaining);
+
+        headers.put("X-Timeout", Collections.singletonList("60000"));
+        remaining = execute("{ remaining }", headers).getJsonObject("data").getJsonNumber("remaining").longValue();
+        assertTrue(remaining <= 100, "Remaining " + remaining);
+    }
+
+    private static void assertTimeout(JsonObject response) {
+        JsonObject error = response.getJsonArray("errors").getJsonObject(0);
+        assertEquals("TIMEOUT", error.getJsonObject("extensions").getString("code"));
+    }
+
+    // A stage that ignores the cancel, like one whose work can not be interrupted
+    private static class Uncancellable extends CompletableFuture<String> {
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+    }
+
+    private JsonObject execute(String graphQL, Map<String, List<String>> headers) {
+        return executionService.execute(Json.createObjectBuilder().add("query", graphQL).build(), headers);
+    }
+}
@@ -0,0 +1,91 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.test.cached.CachedApi;
+
+/**
+ * Test that the results of {@code @Cached} operations are served from the cache
+ */
+public class FieldCacheTest {
+
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        IndexView index = Indexer.getIndex("io/smallrye/graphql/test/cached");
+        Schema schema = SchemaBuilder.build(index);
+        // A new schema has a new cache
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+        this.executionService = new ExecutionService(new Config() {
+        }, graphQLSchema);
+
+        CachedApi.countriesCalls.set(0);
+        CachedApi.populationCalls.set(0);
+        CachedApi.capitalCalls.set(0);
+        CachedApi.failingCalls.set(0);
+    }
+
+    @Test
+    public void testQueryIsCachedByArguments() {
+        JsonObject first = execute("{ countries(prefix: \"B\") { code name } }");
+        assertEquals(first, execute("{ countries(prefix: \"B\") { code name } }"));
+        // Other selection, same result
+        execute("{ countries(prefix: \"B\") { name } }");
+        assertEquals(1, CachedApi.countriesCalls.get());
+
+        JsonObject other = execute("{ countries(prefix: \"Z\") { code name } }");
+        assertEquals(2, CachedApi.countriesCalls.get());
+        assertEquals("ZA", other.getJsonObject("data").getJsonArray("countries").getJsonObject(0).getString("code"));
+    }
+
+    @Test
+    public void testSourceIsCachedById() {
+        execute("{ countries(prefix: \"B\") { population } }");
+        assertEquals(2, CachedApi.populationCalls.get());
+
+        // The query returns new objects with the same ids
+        JsonObject all = execute("{ countries(prefix: \"\") { code population } }");
+        assertEquals(4, CachedApi.populationCalls.get());
+        assertEquals(7000000, all.getJsonObject("data").getJsonArray("countries").getJsonObject(0).getInt("population"));
+    }
+
+    @Test
+    public void testSourceIsCachedBySelection() {
+        execute("{ countries(prefix: \"B\") { capital { name } } }");
+        execute("{ countries(prefix: \"B\") { capital { name } } }");
+        assertEquals(2, CachedApi.capitalCalls.get());
+
+        execute("{ countries(prefix: \"B\") { capital { code name } } }");
+        assertEquals(4, CachedApi.capitalCalls.get());
+    }
+
+    @Test
+    public void testFailureIsNotCached() {
+        assertTrue(execute("{ failing }").containsKey("errors"));
+
+        JsonObject second = execute("{ failing }");
+        assertFalse(second.containsKey("errors"));
+        assertEquals("Now it works", second.getJsonObject("data").getString("failing"));
+        execute("{ failing }");
+        assertEquals(2, CachedApi.failingCalls.get());
+    }
+
+    private JsonObject execute(String graphQL) {
+        return executionService.execute(Json.createObjectBuilder().add("query", graphQL).build());
+    }
+}
@@ -0,0 +1,104 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Test the per-request field timing trace
+ */
+public class FieldTracingTest {
+
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        IndexView index = Indexer.getTCKIndex();
+        Schema schema = SchemaBuilder.build(index);
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+
+        Config config = new Config() {
+            @Override
+            public boolean isFieldTracingHeaderEnabled() {
+                return true;
+            }
+        };
+        this.executionService = new ExecutionService(config, graphQLSchema);
+    }
+
+    @Test
+    public void testNoTracingWithoutHeader() {
+        JsonObject result = executionService.execute(toJsonObject(TEST_QUERY));
+
+        assertFalse(result.containsKey("extensions"), "Untraced requests should not have extensions");
+    }
+
+    @Test
+    public void testTracingWithHeader() {
+        Map<String, List<String>> headers = Collections.singletonMap(FieldTracingInstrumentation.TRACE_HEADER,
+                Collections.singletonList("true"));
+        JsonObject result = executionService.execute(toJsonObject(TEST_QUERY), headers);
+
+        JsonObject tracing = result.getJsonObject("extensions").getJsonObject("tracing");
+        assertNotNull(tracing);
+        assertEquals(1, tracing.getInt("version"));
+        assertTrue(tracing.getJsonNumber("duration").longValue() > 0);
+
+        Set<String> fields = tracing.getJsonObject("execution").getJsonArray("resolvers")
+                .getValuesAs(JsonObject.class)
+                .stream()
+                .map(resolver -> resolver.getString("fieldName"))
+                .collect(Collectors.toSet());
+        // The operation, and the fields that are fetched from the returned object
+        assertTrue(fields.contains("testObject"));
+        assertTrue(fields.contains("id"));
+        assertTrue(fields.contains("name"));
+    }
+
+    @Test
+    public void testOnlyTracedRequestsBypassTheCaches() {
+        JsonObject request = toJsonObject("{ __schema { queryType { name } } }");
+        JsonObject cached = executionService.execute(request);
+        assertSame(cached, executionService.execute(request));
+
+        Map<String, List<String>> headers = Collections.singletonMap(FieldTracingInstrumentation.TRACE_HEADER,
+                Collections.singletonList("true"));
+        JsonObject traced = executionService.execute(request, headers);
+        assertNotNull(traced.getJsonObject("extensions").getJsonObject("tracing"));
+
+        // The traced response is not cached
+        assertSame(cached, executionService.execute(request));
+    }
+
+    private JsonObject toJsonObject(String graphQL) {
+        return Json.createObjectBuilder().add("query", graphQL).build();
+    }
+
+    private static final String TEST_QUERY = "{\n" +
+            "  testObject(yourname:\"Phillip\") {\n" +
+            "    id\n" +
+            "    name\n" +
+            "  }\n" +
+            "}";
+}
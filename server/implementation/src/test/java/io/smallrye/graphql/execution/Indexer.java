@@ -16,8 +16,12 @@ import org.jboss.jandex.IndexView;
 public class Indexer {
 
     public static IndexView getTCKIndex() {
+        return getIndex("io/smallrye/graphql/test");
+    }
+
+    public static IndexView getIndex(String baseDir) {
         org.jboss.jandex.Indexer indexer = new org.jboss.jandex.Indexer();
-        indexDirectory(indexer, "io/smallrye/graphql/test");
+        indexDirectory(indexer, baseDir);
         return indexer.complete();
     }
 
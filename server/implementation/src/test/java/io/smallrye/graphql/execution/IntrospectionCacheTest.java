@@ -0,0 +1,155 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.GraphQL;
+import graphql.introspection.IntrospectionQuery;
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Test that introspection queries are answered from the cache
+ */
+public class IntrospectionCacheTest {
+
+    private GraphQLSchema graphQLSchema;
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        IndexView index = Indexer.getTCKIndex();
+        Schema schema = SchemaBuilder.build(index);
+        this.graphQLSchema = Bootstrap.bootstrap(schema);
+        this.executionService = new ExecutionService(new Config() {
+        }, graphQLSchema);
+    }
+
+    @Test
+    public void testIntrospectionQueryIsCached() throws IOException {
+        JsonObject request = toJsonObject(IntrospectionQuery.INTROSPECTION_QUERY);
+        assertNull(executionService.getCachedResponse(request));
+
+        JsonObject first = executionService.execute(request);
+        assertFalse(first.containsKey("errors"));
+        assertNotNull(first.getJsonObject("data").getJsonObject("__schema"));
+
+        ExecutionResponse cached = executionService.getCachedResponse(request);
+        assertNotNull(cached);
+        assertSame(first, cached.getJson());
+        assertSame(first, executionService.execute(request));
+        assertEquals(first, read(cached.getBytes()));
+        assertArrayEquals(cached.getBytes(), gunzip(cached.getGzippedBytes()));
+    }
+
+    @Test
+    public void testSameQueryWithOtherFormatting() {
+        JsonObject first = executionService.execute(toJsonObject(IntrospectionQuery.INTROSPECTION_QUERY));
+
+        String reformatted = "# GraphiQL\n" + IntrospectionQuery.INTROSPECTION_QUERY.replaceAll("\\s+", " ");
+        assertSame(first, executionService.execute(toJsonObject(reformatted)));
+    }
+
+    @Test
+    public void testOtherQueriesAreNotCached() {
+        JsonObject mixed = toJsonObject("{ __typename testObject(yourname:\"Phillip\") { name } }");
+        executionService.execute(mixed);
+        assertNull(executionService.getCachedResponse(mixed));
+
+        JsonObject withVariables = toJsonObject("query type($name: String!) { __type(name: $name) { name } }");
+        executionService.execute(withVariables);
+        assertNull(executionService.getCachedResponse(withVariables));
+
+        JsonObject withErrors = toJsonObject("{ __schema { unknown } }");
+        executionService.execute(withErrors);
+        assertNull(executionService.getCachedResponse(withErrors));
+    }
+
+    @Test
+    public void testSchemaUpdateRemovesTheCachedResponses() {
+        JsonObject request = toJsonObject("{ __schema { queryType { name } } }");
+        executionService.execute(request);
+        assertNotNull(executionService.getCachedResponse(request));
+
+        executionService.updateSchema(Bootstrap.bootstrap(SchemaBuilder.build(Indexer.getTCKIndex())));
+        assertNull(executionService.getCachedResponse(request));
+
+        executionService.execute(request);
+        assertNotNull(executionService.getCachedResponse(request));
+    }
+
+    @Test
+    public void testResponseOfAnotherSchemaIsReplaced() {
+        IntrospectionCache cache = new IntrospectionCache(new OperationKeys());
+        String key = cache.getKey("{ __schema { queryType { name } } }", null);
+        GraphQL previous = GraphQL.newGraphQL(graphQLSchema).build();
+        GraphQL current = GraphQL.newGraphQL(graphQLSchema).build();
+        JsonObject json = Json.createObjectBuilder().build();
+
+        // A request that still used the previous schema completed after the update
+        cache.put(key, previous, json);
+        assertNull(cache.get(key, current));
+
+        ExecutionResponse response = cache.put(key, current, json);
+        assertTrue(response.isCached());
+        assertSame(response, cache.get(key, current));
+        assertNull(cache.get(key, previous));
+    }
+
+    @Test
+    public void testDisabled() {
+        ExecutionService uncached = new ExecutionService(new Config() {
+            @Override
+            public boolean isIntrospectionCacheEnabled() {
+                return false;
+            }
+        }, graphQLSchema);
+        JsonObject request = toJsonObject(IntrospectionQuery.INTROSPECTION_QUERY);
+        uncached.execute(request);
+        assertNull(uncached.getCachedResponse(request));
+    }
+
+    private static JsonObject read(byte[] bytes) {
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(bytes))) {
+            return reader.readObject();
+        }
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static JsonObject toJsonObject(String graphQL) {
+        return Json.createObjectBuilder().add("query", graphQL).build();
+    }
+}
@@ -13,6 +13,18 @@ import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
 public class LRUCacheTest {
+    @Test
+    public void testRemove() {
+        LRUCache<String, String> lruCache = new LRUCache<>(2);
+        lruCache.computeIfAbsent("a", k -> "first");
+        // Only if it is still the same value
+        assertEquals(false, lruCache.remove("a", "other"));
+        assertEquals("first", lruCache.get("a"));
+        assertEquals(true, lruCache.remove("a", "first"));
+        assertNull(lruCache.get("a"));
+        assertEquals("second", lruCache.computeIfAbsent("a", k -> "second"));
+    }
+
     @Test
     public void testCache() throws Exception {
         // first cache with a size of 0 to stress the remove logic and make sure we
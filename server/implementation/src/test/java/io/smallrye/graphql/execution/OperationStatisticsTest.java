@@ -0,0 +1,116 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Test the per-operation statistics
+ */
+public class OperationStatisticsTest {
+
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        IndexView index = Indexer.getTCKIndex();
+        Schema schema = SchemaBuilder.build(index);
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+
+        Config config = new Config() {
+            @Override
+            public boolean isOperationStatisticsEnabled() {
+                return true;
+            }
+
+            @Override
+            public int getOperationStatisticsMaxSize() {
+                return 2;
+            }
+        };
+        this.executionService = new ExecutionService(config, graphQLSchema);
+    }
+
+    @Test
+    public void testLiteralsAreNormalized() {
+        executionService.execute(toJsonObject("{ testObject(yourname:\"Phillip\") { id name } }"));
+        executionService.execute(toJsonObject("{\n  testObject(yourname:\"Someone else\") {\n    name\n    id\n  }\n}"));
+
+        List<OperationStatistics.Summary> top = statistics().getTop(10, OperationStatistics.Order.TOTAL_TIME);
+        assertEquals(1, top.size());
+        OperationStatistics.Summary summary = top.get(0);
+        assertEquals(2, summary.getCount());
+        assertEquals(0, summary.getErrors());
+        assertNotNull(summary.getSignature());
+        assertTrue(summary.getTotalTimeNanos() > 0);
+        assertTrue(summary.getP99Nanos() >= summary.getP50Nanos());
+        assertTrue(summary.getAverageResponseSize() > 0);
+    }
+
+    @Test
+    public void testErrorsAndOrdering() {
+        executionService.execute(toJsonObject("{ testObject(yourname:\"Phillip\") { id } }"));
+        executionService.execute(toJsonObject("{ unknownField }"));
+
+        List<OperationStatistics.Summary> top = statistics().getTop(10, OperationStatistics.Order.ERROR_RATE);
+        assertEquals(2, top.size());
+        assertEquals(1.0, top.get(0).getErrorRate());
+        assertEquals(0.0, top.get(1).getErrorRate());
+        // The query of a request that did not execute is not kept
+        assertNull(top.get(0).getSignature());
+        assertNotNull(top.get(1).getSignature());
+
+        assertEquals(1, statistics().getTop(1, OperationStatistics.Order.P99).size());
+    }
+
+    @Test
+    public void testBoundedAndReset() {
+        executionService.execute(toJsonObject("{ testObject(yourname:\"Phillip\") { id } }"));
+        executionService.execute(toJsonObject("{ testObject(yourname:\"Phillip\") { name } }"));
+        executionService.execute(toJsonObject("{ testObject(yourname:\"Phillip\") { id name } }"));
+
+        List<OperationStatistics.Summary> top = statistics().getTop(10, OperationStatistics.Order.TOTAL_TIME);
+        assertEquals(3, top.size());
+        assertTrue(top.stream().anyMatch(summary -> summary.getHash().equals("other")));
+
+        statistics().reset();
+        assertTrue(statistics().getTop(10, OperationStatistics.Order.TOTAL_TIME).isEmpty());
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        OperationStatistics.LatencyHistogram histogram = new OperationStatistics.LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        long[] counts = histogram.snapshot();
+        long p50 = OperationStatistics.LatencyHistogram.percentile(counts, 0.5);
+        long p99 = OperationStatistics.LatencyHistogram.percentile(counts, 0.99);
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 * 1.25, "p50 was " + p50);
+        assertTrue(p99 >= 99_000 && p99 <= 99_000 * 1.25, "p99 was " + p99);
+    }
+
+    private OperationStatistics statistics() {
+        return executionService.getOperationStatistics();
+    }
+
+    private JsonObject toJsonObject(String graphQL) {
+        return Json.createObjectBuilder().add("query", graphQL).build();
+    }
+}
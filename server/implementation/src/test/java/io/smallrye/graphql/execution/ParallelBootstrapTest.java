@@ -0,0 +1,63 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+/**
+ * Test that many schemas can be bootstrapped (and used) at the same time, like multiple deployments in one server
+ */
+public class ParallelBootstrapTest {
+
+    private static final int SCHEMAS = 16;
+
+    @Test
+    public void testParallelBootstrap() throws Exception {
+        IndexView index = Indexer.getTCKIndex();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < SCHEMAS; i++) {
+                String name = "tenant" + i;
+                tasks.add(() -> {
+                    Schema schema = SchemaBuilder.build(index);
+                    GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+                    ExecutionService executionService = new ExecutionService(new Config() {
+                    }, graphQLSchema);
+
+                    JsonObject input = Json.createObjectBuilder()
+                            .add("query", "{ testObject(yourname:\"" + name + "\") { name } }")
+                            .build();
+                    return executionService.execute(input)
+                            .getJsonObject("data")
+                            .getJsonObject("testObject")
+                            .getString("name");
+                });
+            }
+
+            List<Future<String>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < SCHEMAS; i++) {
+                assertEquals("tenant" + i, results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
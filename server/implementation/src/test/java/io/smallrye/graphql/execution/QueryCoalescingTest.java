@@ -0,0 +1,200 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.bootstrap.Config;
+
+public class QueryCoalescingTest {
+
+    private final OperationKeys operationKeys = new OperationKeys();
+
+    @Test
+    public void testConcurrentQueriesExecuteOnce() throws Exception {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(Collections.emptyList(), null);
+        String key = key(queryCoalescing, "{ hero { name } }", null, Collections.emptyMap());
+        AtomicInteger executions = new AtomicInteger();
+        List<Thread> waiting = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ExecutionResponse response = new ExecutionResponse(null, JsonObject.EMPTY_JSON_OBJECT);
+            List<Future<ExecutionResponse>> others = new ArrayList<>();
+            Supplier<ExecutionResponse> execution = () -> {
+                executions.incrementAndGet();
+                // While this executes, the others come in
+                for (int i = 0; i < 3; i++) {
+                    others.add(executor.submit(() -> {
+                        waiting.add(Thread.currentThread());
+                        return queryCoalescing.execute(key, () -> {
+                            executions.incrementAndGet();
+                            return null;
+                        });
+                    }));
+                }
+                awaitWaiting(waiting, 3);
+                return response;
+            };
+
+            assertSame(response, queryCoalescing.execute(key, execution));
+            for (Future<ExecutionResponse> other : others) {
+                assertSame(response, other.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertTrue(response.isCached());
+
+            // Done, so the next one executes again
+            queryCoalescing.execute(key, () -> {
+                executions.incrementAndGet();
+                return response;
+            });
+            assertEquals(2, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureIsShared() throws Exception {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(Collections.emptyList(), null);
+        String key = key(queryCoalescing, "{ hero { name } }", null, Collections.emptyMap());
+        List<Thread> waiting = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Future<ExecutionResponse>> others = new ArrayList<>();
+            assertThrows(IllegalStateException.class, () -> queryCoalescing.execute(key, () -> {
+                others.add(executor.submit(() -> {
+                    waiting.add(Thread.currentThread());
+                    return queryCoalescing.execute(key, () -> null);
+                }));
+                awaitWaiting(waiting, 1);
+                throw new IllegalStateException("Failed");
+            }));
+            Exception e = assertThrows(Exception.class, () -> others.get(0).get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWaitingEndsAtTheDeadline() throws Exception {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(Collections.emptyList(), null);
+        String key = key(queryCoalescing, "{ hero { name } }", null, Collections.emptyMap());
+        ExecutionResponse timedOut = new ExecutionResponse(null, JsonObject.EMPTY_JSON_OBJECT);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Future<ExecutionResponse>> others = new ArrayList<>();
+            ExecutionResponse response = queryCoalescing.execute(key, () -> {
+                others.add(executor.submit(() -> queryCoalescing.execute(key, () -> null, 50, () -> timedOut)));
+                try {
+                    // The other one does not wait for this
+                    assertSame(timedOut, others.get(0).get(5, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return new ExecutionResponse(null, JsonObject.EMPTY_JSON_OBJECT);
+            }, 5000, () -> timedOut);
+            assertNotSame(timedOut, response);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOnlyQueriesAreCoalesced() {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(Collections.emptyList(), null);
+        assertNull(key(queryCoalescing, "mutation { createHero(name: \"Bob\") { name } }", null,
+                Collections.emptyMap()));
+        assertNotNull(key(queryCoalescing, "query { hero { name } }", null, Collections.emptyMap()));
+    }
+
+    @Test
+    public void testAllowList() {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(Collections.emptyList(), Arrays.asList("hero", "heroes"));
+        assertNotNull(key(queryCoalescing, "{ hero { name } heroes { name } }", null, Collections.emptyMap()));
+        assertNull(key(queryCoalescing, "{ hero { name } villain { name } }", null, Collections.emptyMap()));
+        assertNotNull(key(queryCoalescing, "{ ...heroes } fragment heroes on Query { hero { name } }", null,
+                Collections.emptyMap()));
+        assertNull(key(queryCoalescing, "{ ... on Query { villain { name } } }", null, Collections.emptyMap()));
+        assertNull(key(queryCoalescing, "{ ...undefined }", null, Collections.emptyMap()));
+    }
+
+    @Test
+    public void testKey() {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(Collections.singletonList("Authorization"), null);
+        String query = "query Hero($name: String, $planet: String) { hero(name: $name, planet: $planet) { name } }";
+        JsonObject variables = Json.createObjectBuilder().add("name", "Bob").add("planet", "Earth").build();
+        JsonObject reordered = Json.createObjectBuilder().add("planet", "Earth").add("name", "Bob").build();
+
+        String key = key(queryCoalescing, query, variables, headers("Bearer bob"));
+        assertEquals(key, key(queryCoalescing, query, reordered, headers("Bearer bob")));
+        assertNotEquals(key, key(queryCoalescing, query, reordered, headers("Bearer alice")));
+        assertNotEquals(key, key(queryCoalescing, query, Json.createObjectBuilder().add("name", "Alice").build(),
+                headers("Bearer bob")));
+    }
+
+    @Test
+    public void testSessionsAreNotCoalescedByDefault() {
+        QueryCoalescing queryCoalescing = new QueryCoalescing(new Config() {
+        }.getQueryCoalescingHeaders(), null);
+        Map<String, List<String>> bob = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        bob.put("cookie", Collections.singletonList("JSESSIONID=bob"));
+        Map<String, List<String>> alice = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        alice.put("Cookie", Collections.singletonList("JSESSIONID=alice"));
+
+        assertNotEquals(key(queryCoalescing, "{ hero { name } }", null, bob),
+                key(queryCoalescing, "{ hero { name } }", null, alice));
+    }
+
+    private String key(QueryCoalescing queryCoalescing, String query, JsonObject variables,
+            Map<String, List<String>> headers) {
+        return queryCoalescing.getKey(operationKeys.get(query, null), variables, headers);
+    }
+
+    private static Map<String, List<String>> headers(String authorization) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put("Authorization", Collections.singletonList(authorization));
+        return headers;
+    }
+
+    /**
+     * Wait until the threads wait for the execution
+     */
+    private static void awaitWaiting(List<Thread> threads, int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (threads) {
+                if (threads.size() == count
+                        && threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+                    return;
+                }
+            }
+            Thread.yield();
+        }
+        throw new IllegalStateException("The other requests did not come in");
+    }
+}
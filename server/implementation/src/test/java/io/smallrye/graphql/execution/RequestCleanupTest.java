@@ -0,0 +1,48 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test when the actions of a request cleanup run
+ */
+public class RequestCleanupTest {
+
+    private final List<String> ran = new ArrayList<>();
+
+    @Test
+    public void testActionsRunInReverseOrder() {
+        RequestCleanup cleanup = new RequestCleanup();
+        cleanup.add(() -> ran.add("first"));
+        cleanup.add(() -> {
+            throw new IllegalStateException("failed");
+        });
+        cleanup.add(() -> ran.add("second"));
+        assertEquals(Collections.emptyList(), ran);
+
+        cleanup.run();
+        assertEquals(Arrays.asList("second", "first"), ran);
+
+        // Only once
+        cleanup.run();
+        assertEquals(Arrays.asList("second", "first"), ran);
+    }
+
+    @Test
+    public void testActionAddedAfterRunRunsRightAway() {
+        RequestCleanup cleanup = new RequestCleanup();
+        cleanup.run();
+
+        cleanup.add(() -> ran.add("late"));
+        assertEquals(Collections.singletonList("late"), ran);
+
+        cleanup.run();
+        assertEquals(Collections.singletonList("late"), ran);
+    }
+}
@@ -0,0 +1,180 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+import io.smallrye.graphql.test.cachecontrol.CacheControlApi;
+
+/**
+ * Test that responses get the cache policy of their fields, and are served from the response cache
+ */
+public class ResponseCacheTest {
+
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        IndexView index = Indexer.getIndex("io/smallrye/graphql/test/cachecontrol");
+        Schema schema = SchemaBuilder.build(index);
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema, new Config() {
+            @Override
+            public boolean isResponseCacheEnabled() {
+                return true;
+            }
+        });
+        this.executionService = new ExecutionService(new Config() {
+            @Override
+            public boolean isResponseCacheEnabled() {
+                return true;
+            }
+        }, graphQLSchema);
+
+        CacheControlApi.calls.set(0);
+    }
+
+    @Test
+    public void testResponseIsCached() {
+        ExecutionResponse first = execute(request("{ greeting(name: \"Bob\") }"));
+        assertEquals(60, first.getMaxAge());
+        assertFalse(first.isPrivateScope());
+        // Other formatting, same operation
+        ExecutionResponse second = execute(request("query {\n  greeting(name: \"Bob\")\n}"));
+        assertSame(first, second);
+        assertTrue(second.isCached());
+        assertEquals(1, CacheControlApi.calls.get());
+        assertEquals(first.getETag(), second.getETag());
+    }
+
+    @Test
+    public void testMaxAgeIsTheMinimum() {
+        ExecutionResponse response = execute(request("{ greeting(name: \"Bob\") weather }"));
+        assertEquals(10, response.getMaxAge());
+    }
+
+    @Test
+    public void testFieldWithoutHintIsNotCacheable() {
+        ExecutionResponse response = execute(request("{ greeting(name: \"Bob\") time }"));
+        assertEquals(-1, response.getMaxAge());
+        execute(request("{ greeting(name: \"Bob\") time }"));
+        assertEquals(4, CacheControlApi.calls.get());
+    }
+
+    @Test
+    public void testPrivateIsNotStored() {
+        ExecutionResponse response = execute(request("{ profile }"));
+        assertEquals(60, response.getMaxAge());
+        assertTrue(response.isPrivateScope());
+        execute(request("{ profile }"));
+        assertEquals(2, CacheControlApi.calls.get());
+    }
+
+    @Test
+    public void testMutationIsNotCached() {
+        ExecutionResponse response = execute(request("mutation { updateGreeting(greeting: \"Hello\") }"));
+        assertEquals(-1, response.getMaxAge());
+        execute(request("mutation { updateGreeting(greeting: \"Hello\") }"));
+        assertEquals(2, CacheControlApi.calls.get());
+    }
+
+    @Test
+    public void testVariablesInAnyOrder() {
+        String query = "query Greetings($name: String, $other: String) { greeting(name: $name) other: greeting(name: $other) }";
+        ExecutionResponse first = execute(request(query)
+                .add("variables", Json.createObjectBuilder().add("name", "Bob").add("other", "Carol")));
+        ExecutionResponse second = execute(request(query)
+                .add("variables", Json.createObjectBuilder().add("other", "Carol").add("name", "Bob")));
+        assertSame(first, second);
+
+        ExecutionResponse other = execute(request(query)
+                .add("variables", Json.createObjectBuilder().add("name", "Alice").add("other", "Carol")));
+        assertNotSame(first, other);
+        assertEquals(4, CacheControlApi.calls.get());
+    }
+
+    @Test
+    public void testHeadersInKey() {
+        JsonObject request = request("{ greeting(name: \"Bob\") }").build();
+        ExecutionResponse bob = executionService.executeRequest(request, headers("Bearer bob"));
+        assertSame(bob, executionService.executeRequest(request, headers("Bearer bob")));
+        assertNotSame(bob, executionService.executeRequest(request, headers("Bearer alice")));
+        assertEquals(2, CacheControlApi.calls.get());
+    }
+
+    @Test
+    public void testPersistedQuery() {
+        String query = "{ weather }";
+        JsonObject extensions = Json.createObjectBuilder()
+                .add("persistedQuery", Json.createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", OperationKeys.sha256(query)))
+                .build();
+
+        JsonObject notFound = execute(Json.createObjectBuilder().add("extensions", extensions)).getJson();
+        assertEquals("PersistedQueryNotFound", notFound.getJsonArray("errors").getJsonObject(0).getString("message"));
+
+        execute(request(query).add("extensions", extensions));
+        JsonObject found = execute(Json.createObjectBuilder().add("extensions", extensions)).getJson();
+        assertEquals("Sunny", found.getJsonObject("data").getString("weather"));
+
+        JsonObject mismatch = execute(request("{ profile }").add("extensions", extensions)).getJson();
+        assertEquals("PERSISTED_QUERY_HASH_MISMATCH", mismatch.getJsonArray("errors").getJsonObject(0)
+                .getJsonObject("extensions").getString("code"));
+    }
+
+    @Test
+    public void testPersistedQueryHashIsNotCaseSensitive() {
+        String query = "{ weather }";
+        JsonObject upperCase = extensions(OperationKeys.sha256(query).toUpperCase(Locale.ROOT));
+
+        execute(request(query).add("extensions", upperCase));
+        JsonObject found = execute(Json.createObjectBuilder()
+                .add("extensions", extensions(OperationKeys.sha256(query)))).getJson();
+        assertEquals("Sunny", found.getJsonObject("data").getString("weather"));
+        found = execute(Json.createObjectBuilder().add("extensions", upperCase)).getJson();
+        assertEquals("Sunny", found.getJsonObject("data").getString("weather"));
+    }
+
+    private static JsonObject extensions(String hash) {
+        return Json.createObjectBuilder()
+                .add("persistedQuery", Json.createObjectBuilder()
+                        .add("version", 1)
+                        .add("sha256Hash", hash))
+                .build();
+    }
+
+    private ExecutionResponse execute(JsonObjectBuilder request) {
+        return executionService.executeRequest(request.build(), Collections.emptyMap());
+    }
+
+    private static JsonObjectBuilder request(String graphQL) {
+        return Json.createObjectBuilder().add("query", graphQL);
+    }
+
+    private static Map<String, List<String>> headers(String authorization) {
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put("Authorization", Collections.singletonList(authorization));
+        return headers;
+    }
+}
@@ -0,0 +1,78 @@
+package io.smallrye.graphql.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.smallrye.graphql.bootstrap.Config;
+
+/**
+ * Test replacing the schema while running
+ */
+public class SchemaUpdateTest {
+
+    @Test
+    public void testInFlightRequestFinishesOnPreviousSchema() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GraphQLSchema first = schema(env -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "v1";
+        });
+        ExecutionService executionService = new ExecutionService(new Config() {
+        }, first);
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> hello(executionService));
+        started.await(10, TimeUnit.SECONDS);
+
+        executionService.updateSchema(schema(env -> "v2"));
+        assertEquals("v2", hello(executionService));
+
+        release.countDown();
+        assertEquals("v1", inFlight.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPrewarmOnlyKeepsValidQueries() {
+        QueryCache queryCache = new QueryCache();
+        queryCache.prewarm(schema(env -> "v1"), Arrays.asList("{ hello }", "{ goodbye }", "{ hello"));
+
+        assertEquals(Arrays.asList("{ hello }"), queryCache.getQueries());
+    }
+
+    @Test
+    public void testPrewarmKeepsTheOrder() {
+        List<String> queries = Arrays.asList("{ hello }", "query Second { hello }", "query Third { hello }");
+        QueryCache queryCache = new QueryCache();
+        queryCache.prewarm(schema(env -> "v1"), queries);
+
+        assertEquals(queries, queryCache.getQueries());
+    }
+
+    private String hello(ExecutionService executionService) {
+        JsonObject input = Json.createObjectBuilder().add("query", "{ hello }").build();
+        return executionService.execute(input).getJsonObject("data").getString("hello");
+    }
+
+    private GraphQLSchema schema(DataFetcher<String> hello) {
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", builder -> builder.dataFetcher("hello", hello))
+                .build();
+        return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse("type Query { hello: String }"), wiring);
+    }
+}
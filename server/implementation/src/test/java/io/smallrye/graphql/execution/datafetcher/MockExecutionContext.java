@@ -1,6 +1,8 @@
 package io.smallrye.graphql.execution.datafetcher;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import graphql.GraphQLContext;
@@ -19,6 +21,8 @@ public class MockExecutionContext implements ExecutionContext {
 
     private Supplier<Object> result;
 
+    private final Map<AttributeKey<?>, Object> attributes = new HashMap<>();
+
     @Override
     public Object target() {
         return target;
@@ -49,6 +53,21 @@ public class MockExecutionContext implements ExecutionContext {
         return result != null ? result.get() : null;
     }
 
+    @Override
+    public <T> T getAttribute(AttributeKey<T> key) {
+        return key.cast(attributes.get(key));
+    }
+
+    @Override
+    public <T> void setAttribute(AttributeKey<T> key, T value) {
+        attributes.put(key, value);
+    }
+
+    @Override
+    public <T> T removeAttribute(AttributeKey<T> key) {
+        return key.cast(attributes.remove(key));
+    }
+
     public void setTarget(final Object target) {
         this.target = target;
     }
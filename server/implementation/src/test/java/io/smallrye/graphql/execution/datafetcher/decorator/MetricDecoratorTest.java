@@ -14,6 +14,8 @@ import graphql.schema.DataFetchingEnvironment;
 import io.smallrye.graphql.execution.datafetcher.MockDataFetchEnvironment;
 import io.smallrye.graphql.execution.datafetcher.MockExecutionContext;
 import io.smallrye.graphql.metrics.TestMetricsServiceImpl;
+import io.smallrye.graphql.schema.model.Operation;
+import io.smallrye.graphql.schema.model.OperationType;
 import io.smallrye.graphql.spi.MetricsService;
 
 public class MetricDecoratorTest {
@@ -55,6 +57,25 @@ public class MetricDecoratorTest {
         assertEquals(2, registry.simpleTimers.get("mp_graphql_Query_myOtherQuery").getCount());
     }
 
+    @Test
+    public void testOperationBoundTimerWorks() throws Exception {
+        Operation operation = new Operation();
+        operation.setName("myFastQuery");
+        operation.setOperationType(OperationType.Query);
+        MetricDecorator decorator = new MetricDecorator(operation);
+
+        MockExecutionContext mockExecutionContext = new MockExecutionContext();
+        mockExecutionContext.setDataFetchingEnvironment(myFastQueryDfe());
+        mockExecutionContext.setNewGraphQLContext(GraphQLContext.newContext().build());
+
+        decorator.execute(mockExecutionContext);
+        decorator.execute(mockExecutionContext);
+
+        TestMetricsServiceImpl.MockMetricsRegistry registry = TestMetricsServiceImpl.vendorRegistry;
+        assertEquals(1, registry.simpleTimers.size());
+        assertEquals(2, registry.simpleTimers.get("mp_graphql_Query_myFastQuery").getCount());
+    }
+
     @Test
     public void testAsyncWorks() throws Exception {
         MetricDecorator decorator = new MetricDecorator();
@@ -0,0 +1,81 @@
+package io.smallrye.graphql.execution.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.Scalars;
+import graphql.TypeResolutionEnvironment;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import io.smallrye.graphql.schema.model.InterfaceType;
+import io.smallrye.graphql.schema.model.Reference;
+import io.smallrye.graphql.schema.model.ReferenceType;
+import io.smallrye.graphql.schema.model.Type;
+
+/**
+ * Test resolving the concrete type of an interface
+ */
+public class InterfaceResolverTest {
+
+    private GraphQLObjectType hero;
+    private InterfaceResolver resolver;
+
+    @BeforeEach
+    public void init() {
+        hero = GraphQLObjectType.newObject()
+                .name("Hero")
+                .field(GraphQLFieldDefinition.newFieldDefinition().name("name").type(Scalars.GraphQLString))
+                .build();
+
+        Type type = new Type(Hero.class.getName(), "Hero", null);
+        type.addInterface(new Reference(Character.class.getName(), "Character", ReferenceType.INTERFACE));
+        InterfaceOutputRegistry registry = new InterfaceOutputRegistry();
+        registry.register(type, hero);
+        registry.freeze();
+
+        resolver = new InterfaceResolver(new InterfaceType(Character.class.getName(), "Character", null), registry);
+    }
+
+    @Test
+    public void testConcreteClass() {
+        assertSame(hero, resolver.getType(environment(new Hero())));
+    }
+
+    @Test
+    public void testSubclassResolvesToRegisteredType() {
+        assertSame(hero, resolver.getType(environment(new HeroProxy())));
+        assertSame(hero, resolver.getType(environment(new HeroProxy())));
+    }
+
+    @Test
+    public void testOtherSchemaDoesNotSeeType() {
+        InterfaceResolver otherResolver = new InterfaceResolver(
+                new InterfaceType(Character.class.getName(), "Character", null), new InterfaceOutputRegistry());
+
+        assertThrows(RuntimeException.class, () -> otherResolver.getType(environment(new Hero())));
+    }
+
+    @Test
+    public void testUnknownClass() {
+        assertThrows(RuntimeException.class, () -> resolver.getType(environment(new Villain())));
+    }
+
+    private TypeResolutionEnvironment environment(Object object) {
+        return new TypeResolutionEnvironment(object, null, null, null, null, null);
+    }
+
+    public interface Character {
+    }
+
+    public static class Hero implements Character {
+    }
+
+    public static class HeroProxy extends Hero {
+    }
+
+    public static class Villain implements Character {
+    }
+}
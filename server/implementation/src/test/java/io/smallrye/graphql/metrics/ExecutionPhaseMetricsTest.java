@@ -0,0 +1,116 @@
+package io.smallrye.graphql.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.jandex.IndexView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.schema.GraphQLSchema;
+import io.smallrye.graphql.bootstrap.Bootstrap;
+import io.smallrye.graphql.bootstrap.Config;
+import io.smallrye.graphql.execution.ExecutionPhaseMetrics;
+import io.smallrye.graphql.execution.ExecutionService;
+import io.smallrye.graphql.execution.Indexer;
+import io.smallrye.graphql.execution.MetricNaming;
+import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.model.Schema;
+
+public class ExecutionPhaseMetricsTest {
+
+    private ExecutionService executionService;
+
+    @BeforeEach
+    public void init() {
+        TestMetricsServiceImpl.vendorRegistry.histograms.clear();
+
+        IndexView index = Indexer.getTCKIndex();
+        Schema schema = SchemaBuilder.build(index);
+        GraphQLSchema graphQLSchema = Bootstrap.bootstrap(schema);
+
+        Config config = new Config() {
+            @Override
+            public boolean isMetricsEnabled() {
+                return true;
+            }
+        };
+        this.executionService = new ExecutionService(config, graphQLSchema);
+    }
+
+    @Test
+    public void testPhasesAreRecordedPerOperation() {
+        JsonObject input = Json.createObjectBuilder()
+                .add("query", "query phases { testObject(yourname:\"Phillip\") { id name } }")
+                .add("operationName", "phases")
+                .build();
+
+        JsonObject response = executionService.execute(input);
+        long parsed = histogram(MetricNaming.PARSE).getCount();
+        assertTrue(parsed > 0);
+
+        executionService.execute(input);
+
+        // The second request is served from the query cache, so it is not parsed again
+        assertEquals(parsed, histogram(MetricNaming.PARSE).getCount());
+        assertTrue(histogram(MetricNaming.VALIDATE).getCount() > 0);
+        assertEquals(2, histogram(MetricNaming.EXECUTE).getCount());
+        assertEquals(2, histogram(MetricNaming.SERIALIZE).getCount());
+        assertEquals(2, histogram(MetricNaming.REQUEST_SIZE).getCount());
+        assertEquals(2, histogram(MetricNaming.RESPONSE_SIZE).getCount());
+        // The bytes that are written, not only the data
+        long responseSize = response.toString().getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(2 * responseSize, histogram(MetricNaming.RESPONSE_SIZE).getSum());
+    }
+
+    @Test
+    public void testOperationsAreBoundedUnderConcurrency() throws Exception {
+        ExecutionPhaseMetrics metrics = new ExecutionPhaseMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                String operationName = "operation" + i;
+                futures.add(executor.submit(() -> metrics.requestReceived(ExecutionInput.newExecutionInput()
+                        .query("{ a }")
+                        .operationName(operationName)
+                        .build())));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long operations = TestMetricsServiceImpl.vendorRegistry.histograms.keySet().stream()
+                .filter(id -> id.getName().equals(MetricNaming.REQUEST_SIZE))
+                .count();
+        // 512 operations, and the rest together
+        assertEquals(513, operations);
+        MetricID other = new MetricID(MetricNaming.REQUEST_SIZE, new Tag("operation", "other"));
+        assertEquals(1000 - 512, TestMetricsServiceImpl.vendorRegistry.histograms.get(other).getCount());
+    }
+
+    private TestMetricsServiceImpl.MockHistogram histogram(String name) {
+        MetricID metricID = new MetricID(name, new Tag("operation", "phases"));
+        TestMetricsServiceImpl.MockHistogram histogram = TestMetricsServiceImpl.vendorRegistry.histograms.get(metricID);
+        assertNotNull(histogram, "No histogram recorded for " + name);
+        return histogram;
+    }
+}
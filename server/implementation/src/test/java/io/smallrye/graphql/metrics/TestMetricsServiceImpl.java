@@ -21,6 +21,7 @@ import org.eclipse.microprofile.metrics.MetricID;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricRegistry.Type;
 import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Snapshot;
 import org.eclipse.microprofile.metrics.Tag;
 import org.eclipse.microprofile.metrics.Timer;
 
@@ -47,6 +48,7 @@ public class TestMetricsServiceImpl implements MetricsService {
 
         public final List<Metadata> simpleTimeMetadatas = new ArrayList<>();
         public final Map<String, SimpleTimer> simpleTimers = new HashMap<>();
+        public final Map<MetricID, MockHistogram> histograms = new HashMap<>();
 
         @Override
         public <T extends Metric> T register(String name, T metric) throws IllegalArgumentException {
@@ -119,8 +121,8 @@ public class TestMetricsServiceImpl implements MetricsService {
         }
 
         @Override
-        public Histogram histogram(Metadata metadata, Tag... tags) {
-            throw new UnsupportedOperationException("unimplemented");
+        public synchronized Histogram histogram(Metadata metadata, Tag... tags) {
+            return histograms.computeIfAbsent(new MetricID(metadata.getName(), tags), k -> new MockHistogram());
         }
 
         @Override
@@ -326,4 +328,35 @@ public class TestMetricsServiceImpl implements MetricsService {
             return count;
         }
     }
+
+    public static class MockHistogram implements Histogram {
+
+        long count = 0;
+        long sum = 0;
+
+        @Override
+        public synchronized void update(int value) {
+            update((long) value);
+        }
+
+        @Override
+        public synchronized void update(long value) {
+            sum += value;
+            count++;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        @Override
+        public Snapshot getSnapshot() {
+            throw new UnsupportedOperationException("unimplemented");
+        }
+    }
 }
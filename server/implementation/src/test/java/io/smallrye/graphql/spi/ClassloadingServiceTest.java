@@ -0,0 +1,73 @@
+package io.smallrye.graphql.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.graphql.test.TestObject;
+
+/**
+ * Test the cache of loaded classes
+ */
+public class ClassloadingServiceTest {
+
+    private final ClassloadingService classloadingService = new ClassloadingService.DefaultClassloadingService();
+
+    @Test
+    public void testClassIsLoadedOncePerLoader() {
+        CountingClassLoader first = new CountingClassLoader();
+        CountingClassLoader second = new CountingClassLoader();
+
+        assertSame(TestObject.class, loadWith(first, TestObject.class.getName()));
+        assertSame(TestObject.class, loadWith(first, TestObject.class.getName()));
+        assertEquals(1, first.count);
+
+        assertSame(TestObject.class, loadWith(second, TestObject.class.getName()));
+        assertEquals(1, second.count);
+
+        // Alternating between the loaders
+        assertSame(TestObject.class, loadWith(first, TestObject.class.getName()));
+        assertSame(TestObject.class, loadWith(second, TestObject.class.getName()));
+        assertEquals(1, first.count);
+        assertEquals(1, second.count);
+    }
+
+    @Test
+    public void testWithoutContextClassLoader() {
+        assertSame(TestObject.class, loadWith(null, TestObject.class.getName()));
+        assertSame(TestObject.class, loadWith(null, TestObject.class.getName()));
+    }
+
+    @Test
+    public void testPrimitivesAndMissingClasses() {
+        assertSame(int.class, classloadingService.loadClass("int"));
+        assertThrows(RuntimeException.class, () -> classloadingService.loadClass("does.not.Exist"));
+    }
+
+    private Class<?> loadWith(ClassLoader loader, String className) {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            return classloadingService.loadClass(className);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private static class CountingClassLoader extends ClassLoader {
+        private int count;
+
+        CountingClassLoader() {
+            super(ClassloadingServiceTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            count++;
+            return super.loadClass(name, resolve);
+        }
+    }
+}
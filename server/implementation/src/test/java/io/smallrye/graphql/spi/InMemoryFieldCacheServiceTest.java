@@ -0,0 +1,154 @@
+package io.smallrye.graphql.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the default (in-memory) field cache
+ */
+public class InMemoryFieldCacheServiceTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void testResultIsCachedUntilItExpires() throws Exception {
+        InMemoryFieldCacheService cache = new InMemoryFieldCacheService(100, now::get);
+        FieldCacheKey key = new FieldCacheKey("Query.countries", "a");
+
+        assertEquals("1", cache.get(key, 1000, this::load));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals("1", cache.get(key, 1000, this::load));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals("2", cache.get(key, 1000, this::load));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testKeys() throws Exception {
+        InMemoryFieldCacheService cache = new InMemoryFieldCacheService(100, now::get);
+
+        assertEquals("1", cache.get(new FieldCacheKey("Query.countries", Arrays.asList("a", "b"), null), 1000,
+                this::load));
+        assertEquals("1", cache.get(new FieldCacheKey("Query.countries", Arrays.asList("a", "b"), null), 1000,
+                this::load));
+        assertEquals("2", cache.get(new FieldCacheKey("Query.countries", Arrays.asList("a", "c"), null), 1000,
+                this::load));
+        assertEquals("3", cache.get(new FieldCacheKey("Query.cities", Arrays.asList("a", "b"), null), 1000,
+                this::load));
+    }
+
+    @Test
+    public void testNullIsCached() throws Exception {
+        InMemoryFieldCacheService cache = new InMemoryFieldCacheService(100, now::get);
+        FieldCacheKey key = new FieldCacheKey("Query.countries");
+
+        assertNull(cache.get(key, 1000, () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get(key, 1000, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testFailureIsNotCached() throws Exception {
+        InMemoryFieldCacheService cache = new InMemoryFieldCacheService(100, now::get);
+        FieldCacheKey key = new FieldCacheKey("Query.countries");
+
+        assertThrows(IllegalStateException.class, () -> cache.get(key, 1000, () -> {
+            throw new IllegalStateException("Not now");
+        }));
+        assertEquals("1", cache.get(key, 1000, this::load));
+        assertEquals(1, cache.getLoadFailureCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        InMemoryFieldCacheService cache = new InMemoryFieldCacheService(10, now::get);
+        FieldCacheKey first = new FieldCacheKey("Query.list", 1);
+        FieldCacheKey second = new FieldCacheKey("Query.list", 2);
+        FieldCacheKey third = new FieldCacheKey("Query.list", 3);
+
+        cache.get(first, 1000, () -> list(4));
+        cache.get(second, 1000, () -> list(4));
+        cache.get(first, 1000, () -> list(4));
+        assertEquals(8, cache.getWeight());
+
+        // Too heavy on its own
+        cache.get(third, 1000, () -> list(11));
+        assertEquals(2, cache.getSize());
+
+        cache.get(third, 1000, () -> list(3));
+        assertEquals(2, cache.getSize());
+        assertEquals(7, cache.getWeight());
+        assertEquals(1, cache.getEvictionCount());
+
+        // The second was used least recently
+        Object reloaded = cache.get(second, 1000, () -> "reloaded");
+        assertEquals("reloaded", reloaded);
+    }
+
+    @Test
+    public void testConcurrentCallersLoadOnce() throws Exception {
+        InMemoryFieldCacheService cache = new InMemoryFieldCacheService(100);
+        FieldCacheKey key = new FieldCacheKey("Query.slow");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get(key, 60000, () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return result;
+            })));
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> cache.get(key, 60000, this::load)));
+            }
+            release.countDown();
+            for (Future<Object> future : futures) {
+                assertSame(result, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(3, cache.getHitCount());
+    }
+
+    private Object load() {
+        return String.valueOf(loads.incrementAndGet());
+    }
+
+    private static List<Integer> list(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,46 @@
+package io.smallrye.graphql.test.allocation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+/**
+ * The operations we keep the allocation of within a budget
+ */
+@GraphQLApi
+public class AllocationApi {
+
+    @Query
+    public Item getItem(@Name("id") int id) {
+        return new Item(id, "Item " + id, LocalDate.of(2020, 1, 1).plusDays(id), new BigDecimal("9.99"));
+    }
+
+    @Query
+    public List<Item> getItems(@Name("count") int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(getItem(i));
+        }
+        return items;
+    }
+
+    public String getDescription(@Source Item item) {
+        return "The description of " + item.getName();
+    }
+
+    public int getStock(@Source Item item) throws UnknownStockException {
+        throw new UnknownStockException("The stock of " + item.getName() + " is unknown");
+    }
+
+    @Mutation
+    public int addItems(@Name("items") List<Item> items) {
+        return items.size();
+    }
+}
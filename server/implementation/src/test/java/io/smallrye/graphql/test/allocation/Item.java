@@ -0,0 +1,62 @@
+package io.smallrye.graphql.test.allocation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.eclipse.microprofile.graphql.DateFormat;
+import org.eclipse.microprofile.graphql.NumberFormat;
+
+/**
+ * An item, with formatted fields
+ */
+public class Item {
+
+    private int id;
+    private String name;
+    @DateFormat("dd MMM yyyy")
+    private LocalDate added;
+    @NumberFormat("#,##0.00")
+    private BigDecimal price;
+
+    public Item() {
+    }
+
+    public Item(int id, String name, LocalDate added, BigDecimal price) {
+        this.id = id;
+        this.name = name;
+        this.added = added;
+        this.price = price;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getAdded() {
+        return added;
+    }
+
+    public void setAdded(LocalDate added) {
+        this.added = added;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+}
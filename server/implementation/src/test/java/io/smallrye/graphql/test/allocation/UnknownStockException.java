@@ -0,0 +1,11 @@
+package io.smallrye.graphql.test.allocation;
+
+/**
+ * Thrown by a field, to have errors in the response
+ */
+public class UnknownStockException extends Exception {
+
+    public UnknownStockException(String message) {
+        super(message);
+    }
+}
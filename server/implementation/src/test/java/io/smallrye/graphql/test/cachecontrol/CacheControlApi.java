@@ -0,0 +1,54 @@
+package io.smallrye.graphql.test.cachecontrol;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+
+import io.smallrye.graphql.api.CacheControl;
+
+/**
+ * Operations with cache hints, that count how often they are called
+ */
+@GraphQLApi
+public class CacheControlApi {
+    public static final AtomicInteger calls = new AtomicInteger();
+
+    private static volatile String greeting = "Hello";
+
+    @Query
+    @CacheControl(maxAge = 60)
+    public String getGreeting(@Name("name") String name) {
+        calls.incrementAndGet();
+        return greeting + " " + name;
+    }
+
+    @Query
+    @CacheControl(maxAge = 10)
+    public String getWeather() {
+        calls.incrementAndGet();
+        return "Sunny";
+    }
+
+    @Query
+    public long getTime() {
+        calls.incrementAndGet();
+        return System.currentTimeMillis();
+    }
+
+    @Query
+    @CacheControl(maxAge = 60, scope = CacheControl.Scope.PRIVATE)
+    public String getProfile() {
+        calls.incrementAndGet();
+        return "Mine";
+    }
+
+    @Mutation("updateGreeting")
+    public String setGreeting(@Name("greeting") String greeting) {
+        calls.incrementAndGet();
+        CacheControlApi.greeting = greeting;
+        return greeting;
+    }
+}
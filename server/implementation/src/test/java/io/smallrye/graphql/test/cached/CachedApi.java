@@ -0,0 +1,62 @@
+package io.smallrye.graphql.test.cached;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Name;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+import io.smallrye.graphql.api.Cached;
+
+/**
+ * Operations with cached results, that count how often they are called
+ */
+@GraphQLApi
+public class CachedApi {
+    public static final AtomicInteger countriesCalls = new AtomicInteger();
+    public static final AtomicInteger populationCalls = new AtomicInteger();
+    public static final AtomicInteger capitalCalls = new AtomicInteger();
+    public static final AtomicInteger failingCalls = new AtomicInteger();
+
+    private static final String[][] COUNTRIES = {
+            { "BE", "Belgium" }, { "BR", "Brazil" }, { "ZA", "South Africa" }, { "ZM", "Zambia" } };
+
+    @Query
+    @Cached(ttl = 1, unit = TimeUnit.HOURS)
+    public List<Country> getCountries(@Name("prefix") String prefix) {
+        countriesCalls.incrementAndGet();
+        List<Country> countries = new ArrayList<>();
+        for (String[] country : COUNTRIES) {
+            if (country[0].startsWith(prefix)) {
+                // New objects every time, so the source is only the same by id
+                countries.add(new Country(country[0], country[1]));
+            }
+        }
+        return countries;
+    }
+
+    @Cached(ttl = 1, unit = TimeUnit.HOURS)
+    public long getPopulation(@Source Country country) {
+        populationCalls.incrementAndGet();
+        return country.getName().length() * 1000000L;
+    }
+
+    @Cached(ttl = 1, unit = TimeUnit.HOURS, key = { Cached.Key.SOURCE, Cached.Key.SELECTION })
+    public Country getCapital(@Source Country country) {
+        capitalCalls.incrementAndGet();
+        return new Country(country.getCode() + "-C", "Capital of " + country.getName());
+    }
+
+    @Query
+    @Cached(ttl = 1, unit = TimeUnit.HOURS)
+    public String getFailing() {
+        if (failingCalls.incrementAndGet() == 1) {
+            throw new IllegalStateException("Not yet");
+        }
+        return "Now it works";
+    }
+}
@@ -0,0 +1,37 @@
+package io.smallrye.graphql.test.cached;
+
+import org.eclipse.microprofile.graphql.Id;
+
+/**
+ * A country, identified by its code
+ */
+public class Country {
+
+    @Id
+    private String code;
+    private String name;
+
+    public Country() {
+    }
+
+    public Country(String code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
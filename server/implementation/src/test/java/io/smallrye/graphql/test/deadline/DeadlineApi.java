@@ -0,0 +1,49 @@
+package io.smallrye.graphql.test.deadline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Query;
+
+import io.smallrye.graphql.execution.Deadline;
+
+/**
+ * Operations that take too long, or read the time they have left
+ */
+@GraphQLApi
+public class DeadlineApi {
+    public static volatile CompletableFuture<String> never;
+    public static final AtomicInteger afterCalls = new AtomicInteger();
+
+    @Query
+    public CompletionStage<String> getNever() {
+        never = new CompletableFuture<>();
+        return never;
+    }
+
+    @Query
+    public String getFast() {
+        return "fast";
+    }
+
+    @Query
+    public String getSlow() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(300);
+        return "slow";
+    }
+
+    @Query
+    public String getAfter() {
+        afterCalls.incrementAndGet();
+        return "after";
+    }
+
+    @Query
+    public long getRemaining() {
+        Deadline deadline = Deadline.current();
+        return deadline != null ? deadline.getRemaining(TimeUnit.MILLISECONDS) : -1;
+    }
+}
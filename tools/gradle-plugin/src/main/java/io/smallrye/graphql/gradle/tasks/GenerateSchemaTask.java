@@ -2,6 +2,7 @@ package io.smallrye.graphql.gradle.tasks;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -35,6 +36,7 @@ import io.smallrye.graphql.bootstrap.Bootstrap;
 import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.execution.SchemaPrinter;
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaModelFile;
 import io.smallrye.graphql.schema.model.Schema;
 
 /**
@@ -54,6 +56,9 @@ public class GenerateSchemaTask extends DefaultTask {
     private boolean includeSchemaDefinition = false;
     private boolean includeIntrospectionTypes = false;
     private File classesDir = new File(getProject().getBuildDir(), "classes");
+    private boolean writeModel = false;
+    private String modelDestination = new File(getProject().getBuildDir(), "resources/main/" + SchemaModelFile.LOCATION)
+            .getPath();
 
     @Optional
     @OutputFile
@@ -164,10 +169,35 @@ public class GenerateSchemaTask extends DefaultTask {
         this.classesDir = classesDir;
     }
 
+    @Input
+    public boolean getWriteModel() {
+        return writeModel;
+    }
+
+    @Option(option = "write-model", description = "Whether to also write the schema model into the resources, so that the application can skip scanning on startup.")
+    public void setWriteModel(boolean writeModel) {
+        this.writeModel = writeModel;
+    }
+
+    @Optional
+    @OutputFile
+    public String getModelDestination() {
+        return modelDestination;
+    }
+
+    @Option(option = "model-destination", description = "The destination file where to write the schema model, if write-model is on.")
+    public void setModelDestination(String modelDestination) {
+        this.modelDestination = modelDestination;
+    }
+
     @TaskAction
     public void generateSchema() {
         IndexView index = createIndex();
-        String schema = generateSchema(index);
+        Schema internalSchema = SchemaBuilder.build(index);
+        if (writeModel) {
+            writeModel(internalSchema);
+        }
+        String schema = generateSchema(internalSchema);
         write(schema);
     }
 
@@ -220,7 +250,7 @@ public class GenerateSchemaTask extends DefaultTask {
         return indexer.complete();
     }
 
-    private String generateSchema(IndexView index) {
+    private String generateSchema(Schema internalSchema) {
         Config config = new Config() {
             @Override
             public boolean isIncludeScalarsInSchema() {
@@ -242,11 +272,21 @@ public class GenerateSchemaTask extends DefaultTask {
                 return includeIntrospectionTypes;
             }
         };
-        Schema internalSchema = SchemaBuilder.build(index);
         GraphQLSchema graphQLSchema = Bootstrap.bootstrap(internalSchema);
         return new SchemaPrinter(config).print(graphQLSchema);
     }
 
+    private void writeModel(Schema internalSchema) {
+        Path path = new File(modelDestination).toPath();
+        path.toFile().getParentFile().mkdirs();
+        try (OutputStream out = Files.newOutputStream(path)) {
+            SchemaModelFile.write(internalSchema, out);
+            getLogger().info("Wrote the schema model to " + path.toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new GradleException("Can't write the schema model", e);
+        }
+    }
+
     private void write(String schema) {
         try {
             if (destination == null || destination.isEmpty()) {
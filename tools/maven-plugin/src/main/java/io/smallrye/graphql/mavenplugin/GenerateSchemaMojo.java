@@ -2,6 +2,7 @@ package io.smallrye.graphql.mavenplugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -29,6 +30,7 @@ import io.smallrye.graphql.bootstrap.Bootstrap;
 import io.smallrye.graphql.bootstrap.Config;
 import io.smallrye.graphql.execution.SchemaPrinter;
 import io.smallrye.graphql.schema.SchemaBuilder;
+import io.smallrye.graphql.schema.SchemaModelFile;
 import io.smallrye.graphql.schema.model.Schema;
 
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
@@ -76,6 +78,19 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "includeIntrospectionTypes")
     private boolean includeIntrospectionTypes;
 
+    /**
+     * Also write the (serialized) schema model into the classes, so that the application can skip scanning on startup.
+     * Only turn this on when all GraphQL model classes are in this module, or {@code includeDependencies} is on.
+     */
+    @Parameter(defaultValue = "false", property = "writeModel")
+    private boolean writeModel;
+
+    /**
+     * Destination file where to write the schema model, if {@code writeModel} is on.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}/" + SchemaModelFile.LOCATION, property = "modelDestination")
+    private String modelDestination;
+
     @Parameter(defaultValue = "${project}")
     private MavenProject mavenProject;
 
@@ -88,7 +103,11 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Override
     public void execute() throws MojoExecutionException {
         IndexView index = createIndex();
-        String schema = generateSchema(index);
+        Schema internalSchema = SchemaBuilder.build(index);
+        if (writeModel) {
+            writeModel(internalSchema);
+        }
+        String schema = generateSchema(internalSchema);
         write(schema);
     }
 
@@ -134,7 +153,7 @@ public class GenerateSchemaMojo extends AbstractMojo {
         return indexer.complete();
     }
 
-    private String generateSchema(IndexView index) {
+    private String generateSchema(Schema internalSchema) {
         Config config = new Config() {
             @Override
             public boolean isIncludeScalarsInSchema() {
@@ -156,11 +175,21 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 return includeIntrospectionTypes;
             }
         };
-        Schema internalSchema = SchemaBuilder.build(index);
         GraphQLSchema graphQLSchema = Bootstrap.bootstrap(internalSchema);
         return new SchemaPrinter(config).print(graphQLSchema);
     }
 
+    private void writeModel(Schema internalSchema) throws MojoExecutionException {
+        Path path = new File(modelDestination).toPath();
+        path.toFile().getParentFile().mkdirs();
+        try (OutputStream out = Files.newOutputStream(path)) {
+            SchemaModelFile.write(internalSchema, out);
+            getLog().info("Wrote the schema model to " + path.toAbsolutePath().toString());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can't write the schema model", e);
+        }
+    }
+
     private void write(String schema) throws MojoExecutionException {
         try {
             if (destination == null || destination.isEmpty()) {